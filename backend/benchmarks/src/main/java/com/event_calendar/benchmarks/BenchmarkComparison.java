@@ -0,0 +1,132 @@
+package com.event_calendar.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Regression gate over two JMH result files written with {@code -prof gc -rf json}. A benchmark fails when its
+ * throughput drops by more than the allowed fraction, or when it allocates more bytes per operation than the baseline
+ * plus the allowed fraction. Benchmarks present in only one of the files are reported and ignored.
+ *
+ * <pre>
+ * java -cp benchmarks.jar com.event_calendar.benchmarks.BenchmarkComparison baseline.json candidate.json \
+ *     [maxThroughputDrop=0.10] [maxAllocationIncrease=0.05]
+ * </pre>
+ */
+public class BenchmarkComparison {
+
+  static final double DEFAULT_MAX_THROUGHPUT_DROP = 0.10;
+  static final double DEFAULT_MAX_ALLOCATION_INCREASE = 0.05;
+
+  /**
+   * Absolute allowance in bytes per operation, so that benchmarks allocating next to nothing do not fail on a stray
+   * object.
+   */
+  static final double ALLOCATION_SLACK_BYTES = 16;
+
+  private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+  private final double maxThroughputDrop;
+  private final double maxAllocationIncrease;
+
+  BenchmarkComparison(double maxThroughputDrop, double maxAllocationIncrease) {
+    this.maxThroughputDrop = maxThroughputDrop;
+    this.maxAllocationIncrease = maxAllocationIncrease;
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("Usage: BenchmarkComparison <baseline.json> <candidate.json> [maxThroughputDrop] "
+              + "[maxAllocationIncrease]");
+      System.exit(2);
+    }
+    BenchmarkComparison comparison = new BenchmarkComparison(
+            args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_MAX_THROUGHPUT_DROP,
+            args.length > 3 ? Double.parseDouble(args[3]) : DEFAULT_MAX_ALLOCATION_INCREASE);
+    ObjectMapper objectMapper = new ObjectMapper();
+    List<String> regressions = comparison.compare(objectMapper.readTree(new File(args[0])),
+            objectMapper.readTree(new File(args[1])));
+    if (!regressions.isEmpty()) {
+      regressions.forEach(System.err::println);
+      System.exit(1);
+    }
+    System.out.println("No regressions");
+  }
+
+  List<String> compare(JsonNode baseline, JsonNode candidate) {
+    Map<String, JsonNode> baselineResults = index(baseline);
+    Map<String, JsonNode> candidateResults = index(candidate);
+    List<String> regressions = new ArrayList<>();
+    for (Map.Entry<String, JsonNode> entry : candidateResults.entrySet()) {
+      String name = entry.getKey();
+      JsonNode before = baselineResults.get(name);
+      if (before == null) {
+        System.out.println("New benchmark, no baseline: " + name);
+        continue;
+      }
+      JsonNode after = entry.getValue();
+      double throughputBefore = before.path("primaryMetric")
+              .path("score")
+              .asDouble();
+      double throughputAfter = after.path("primaryMetric")
+              .path("score")
+              .asDouble();
+      if (throughputAfter < throughputBefore * (1 - maxThroughputDrop)) {
+        regressions.add(String.format("%s: throughput %.1f -> %.1f %s", name, throughputBefore, throughputAfter,
+                after.path("primaryMetric")
+                        .path("scoreUnit")
+                        .asText()));
+      }
+      Double allocationBefore = allocation(before);
+      Double allocationAfter = allocation(after);
+      if (allocationBefore != null && allocationAfter != null
+              && allocationAfter > allocationBefore * (1 + maxAllocationIncrease) + ALLOCATION_SLACK_BYTES) {
+        regressions.add(String.format("%s: allocation %.1f -> %.1f B/op", name, allocationBefore, allocationAfter));
+      }
+    }
+    baselineResults.keySet()
+            .stream()
+            .filter(name -> !candidateResults.containsKey(name))
+            .forEach(name -> System.out.println("Missing from candidate: " + name));
+    return regressions;
+  }
+
+  /**
+   * Keys results by benchmark method and parameters, so each {@code @Param} combination is compared on its own.
+   */
+  private static Map<String, JsonNode> index(JsonNode results) {
+    Map<String, JsonNode> indexed = new LinkedHashMap<>();
+    for (JsonNode result : results) {
+      StringBuilder name = new StringBuilder(result.path("benchmark")
+              .asText());
+      for (Map.Entry<String, JsonNode> param : result.path("params")
+              .properties()) {
+        name.append(' ')
+                .append(param.getKey())
+                .append('=')
+                .append(param.getValue()
+                        .asText());
+      }
+      indexed.put(name.toString(), result);
+    }
+    return indexed;
+  }
+
+  /**
+   * Older JMH versions prefix profiler metrics with a middle dot.
+   */
+  private static Double allocation(JsonNode result) {
+    JsonNode metrics = result.path("secondaryMetrics");
+    JsonNode metric = metrics.has(ALLOCATION_METRIC) ? metrics.get(ALLOCATION_METRIC)
+            : metrics.get("\u00b7" + ALLOCATION_METRIC);
+    return metric == null ? null : metric.path("score")
+            .asDouble();
+  }
+}
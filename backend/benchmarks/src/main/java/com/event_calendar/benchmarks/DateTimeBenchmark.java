@@ -0,0 +1,67 @@
+package com.event_calendar.benchmarks;
+
+import com.event_calendar.util.DateUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time zone work done on every request: resolving the {@code X-Timezone} header and converting between wall-clock
+ * times and instants. {@code parseTimezoneHeader} is the uncached {@code ZoneId.of} for comparison. {@code UTC} is a
+ * fixed offset, the region zones have DST transitions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DateTimeBenchmark {
+
+  @Param({"UTC", "Europe/Berlin", "America/New_York"})
+  public String timezoneHeader;
+
+  private ZoneId zoneId;
+  private LocalDateTime dateTime;
+  private Instant instant;
+
+  @Setup
+  public void setUp() {
+    zoneId = ZoneId.of(timezoneHeader);
+    dateTime = LocalDateTime.of(2025, 7, 1, 10, 30);
+    instant = Instant.parse("2025-07-01T08:30:00Z");
+  }
+
+  @Benchmark
+  public ZoneId parseTimezoneHeader() {
+    return ZoneId.of(timezoneHeader);
+  }
+
+  @Benchmark
+  public ZoneId resolveTimezoneHeader() {
+    return DateUtils.parseZone(timezoneHeader);
+  }
+
+  @Benchmark
+  public Instant toInstant() {
+    return DateUtils.toInstant(dateTime, zoneId);
+  }
+
+  @Benchmark
+  public LocalDateTime toLocalDateTime() {
+    return DateUtils.toLocalDateTime(instant, zoneId);
+  }
+}
@@ -0,0 +1,63 @@
+package com.event_calendar.benchmarks;
+
+import com.event_calendar.dto.EventDTO;
+import com.event_calendar.entity.EventEntity;
+import com.event_calendar.mapper.EventMapper;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Events shaped like the ones the frontend sends: a title, a short description, a location and, for series, a weekly
+ * rule with a couple of exceptions.
+ */
+final class EventFixtures {
+
+  static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+
+  private static final LocalDateTime START = LocalDateTime.of(2025, 3, 28, 9, 0);
+
+  private EventFixtures() {
+  }
+
+  static EventDTO singleEvent(int index) {
+    EventDTO dto = new EventDTO();
+    dto.setId((long) index);
+    dto.setTitle("  Team meeting " + index + "  ");
+    dto.setDescription("Weekly sync on the roadmap, open reviews and anything blocking the release.");
+    dto.setStartDateTime(START.plusHours(index));
+    dto.setEndDateTime(START.plusHours(index)
+            .plusMinutes(45));
+    dto.setLocation("Room 4.12");
+    return dto;
+  }
+
+  static EventDTO recurringEvent(int index) {
+    EventDTO dto = singleEvent(index);
+    dto.setRecurrenceRule("FREQ=WEEKLY;INTERVAL=1;COUNT=52");
+    dto.setRecurrenceExceptions(List.of(dto.getStartDateTime()
+            .plusWeeks(2), dto.getStartDateTime()
+            .plusWeeks(5)));
+    return dto;
+  }
+
+  static EventEntity entity(EventMapper mapper, EventDTO dto) {
+    EventEntity entity = mapper.toEntity(dto, ZONE);
+    entity.setId(dto.getId());
+    return entity;
+  }
+
+  /**
+   * Every fourth event is a series, which is roughly what a populated calendar returns for a month.
+   */
+  static List<EventDTO> responseList(EventMapper mapper, int size) {
+    List<EventDTO> events = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      EventDTO dto = i % 4 == 0 ? recurringEvent(i) : singleEvent(i);
+      events.add(mapper.toResponseDTO(entity(mapper, dto), ZONE));
+    }
+    return events;
+  }
+}
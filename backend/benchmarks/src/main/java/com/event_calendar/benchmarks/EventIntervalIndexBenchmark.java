@@ -0,0 +1,103 @@
+package com.event_calendar.benchmarks;
+
+import com.event_calendar.repository.EventRepository;
+import com.event_calendar.repository.projection.EventView;
+import com.event_calendar.service.index.EventIntervalIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The interval index next to the query it stands in for, on the same rows in an in-memory H2 database: a one-day
+ * window in the middle of the data ({@code overlapping}) and a single instant ({@code containing}). The index only
+ * returns ids, so the database side maps its rows to ids too. H2 runs in the same JVM, so the database numbers leave
+ * out the network round trip a real server adds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventIntervalIndexBenchmark {
+
+  private static final Duration WINDOW = Duration.ofDays(1);
+
+  @Param({"1000", "50000"})
+  public int events;
+
+  private ConfigurableApplicationContext context;
+  private EventIntervalIndex eventIntervalIndex;
+  private EventRepository eventRepository;
+  private TransactionTemplate readOnly;
+  private Instant from;
+  private Instant to;
+  private Instant at;
+
+  @Setup
+  public void setUp() {
+    context = H2Backend.start("index-benchmark");
+    eventIntervalIndex = context.getBean(EventIntervalIndex.class);
+    eventRepository = context.getBean(EventRepository.class);
+    readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    readOnly.setReadOnly(true);
+    H2Backend.seed(context.getBean(JdbcTemplate.class), events);
+    // The rows were inserted behind the service's back, so the index has to be built from them.
+    eventIntervalIndex.rebuild();
+    from = H2Backend.FIRST_START.plusSeconds(events / 2 * H2Backend.SPACING_SECONDS);
+    to = from.plus(WINDOW);
+    at = from.plusSeconds(H2Backend.SPACING_SECONDS / 2);
+    if (!indexOverlapping().equals(databaseOverlapping()) || !indexContaining().equals(databaseContaining())) {
+      throw new IllegalStateException("The index and the database disagree on the seeded events");
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<Long> indexOverlapping() {
+    return eventIntervalIndex.findOverlapping(from, to);
+  }
+
+  @Benchmark
+  public List<Long> databaseOverlapping() {
+    return readOnly.execute(status -> ids(eventRepository.findOverlapping(from, to)));
+  }
+
+  @Benchmark
+  public List<Long> indexContaining() {
+    return eventIntervalIndex.findContaining(at);
+  }
+
+  @Benchmark
+  public List<Long> databaseContaining() {
+    return readOnly.execute(status -> ids(eventRepository.findOverlapping(at, at.plusMillis(1))));
+  }
+
+  private static List<Long> ids(List<EventView> events) {
+    return events.stream()
+            .map(EventView::getId)
+            .toList();
+  }
+}
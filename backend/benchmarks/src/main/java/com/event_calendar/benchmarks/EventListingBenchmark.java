@@ -0,0 +1,76 @@
+package com.event_calendar.benchmarks;
+
+import com.event_calendar.dto.EventDTO;
+import com.event_calendar.mapper.EventMapper;
+import com.event_calendar.repository.EventRepository;
+import com.event_calendar.service.EventService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code GET /events} against an in-memory H2 database. {@code views} is the service as it is; {@code entities} is the
+ * managed-entity listing it replaced, kept for comparison: every row is loaded into the persistence context and
+ * snapshotted for dirty checking. Run with {@code -prof gc} to see the allocation difference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventListingBenchmark {
+
+  @Param({"1000", "50000"})
+  public int events;
+
+  private ConfigurableApplicationContext context;
+  private EventService eventService;
+  private EventRepository eventRepository;
+  private EventMapper eventMapper;
+  private TransactionTemplate readWrite;
+
+  @Setup
+  public void setUp() {
+    context = H2Backend.start("benchmark");
+    eventService = context.getBean(EventService.class);
+    eventRepository = context.getBean(EventRepository.class);
+    eventMapper = context.getBean(EventMapper.class);
+    readWrite = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    H2Backend.seed(context.getBean(JdbcTemplate.class), events);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<EventDTO> views() {
+    return eventService.getAllEvents(EventFixtures.ZONE);
+  }
+
+  @Benchmark
+  public List<EventDTO> entities() {
+    return readWrite.execute(status -> eventRepository.findAll()
+            .stream()
+            .map(event -> eventMapper.toResponseDTO(event, EventFixtures.ZONE))
+            .toList());
+  }
+}
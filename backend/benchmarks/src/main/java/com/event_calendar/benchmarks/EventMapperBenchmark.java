@@ -0,0 +1,61 @@
+package com.event_calendar.benchmarks;
+
+import com.event_calendar.dto.EventDTO;
+import com.event_calendar.entity.EventEntity;
+import com.event_calendar.mapper.EventMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping cost per event. {@code recurring} covers the rule parsing and series end computation that only series pay.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EventMapperBenchmark {
+
+  @Param({"false", "true"})
+  public boolean recurring;
+
+  private final EventMapper mapper = new EventMapper();
+  private EventDTO dto;
+  private EventEntity entity;
+  private EventEntity target;
+
+  @Setup
+  public void setUp() {
+    dto = recurring ? EventFixtures.recurringEvent(1) : EventFixtures.singleEvent(1);
+    entity = EventFixtures.entity(mapper, dto);
+    target = EventFixtures.entity(mapper, EventFixtures.singleEvent(2));
+  }
+
+  @Benchmark
+  public EventEntity toEntity() {
+    return mapper.toEntity(dto, EventFixtures.ZONE);
+  }
+
+  @Benchmark
+  public EventDTO toResponseDTO() {
+    return mapper.toResponseDTO(entity, EventFixtures.ZONE);
+  }
+
+  @Benchmark
+  public EventEntity updateEntityFromDto() {
+    mapper.updateEntityFromDto(dto, EventFixtures.ZONE, target);
+    return target;
+  }
+}
@@ -0,0 +1,63 @@
+package com.event_calendar.benchmarks;
+
+import com.event_calendar.dto.EventDTO;
+import com.event_calendar.mapper.EventMapper;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes event lists the way the {@code GET /events} responses do, with the mapper configured like the one in
+ * {@code application.properties}. Output goes to a null stream so that only serialization is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EventSerializationBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int size;
+
+  private final OutputStream out = OutputStream.nullOutputStream();
+  private ObjectWriter writer;
+  private List<EventDTO> events;
+
+  @Setup
+  public void setUp() {
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .timeZone(TimeZone.getTimeZone("UTC"))
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .build();
+    writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+            .constructCollectionType(List.class, EventDTO.class));
+    events = EventFixtures.responseList(new EventMapper(), size);
+  }
+
+  @Benchmark
+  public void writeEventList() throws IOException {
+    writer.writeValue(out, events);
+  }
+}
@@ -0,0 +1,62 @@
+package com.event_calendar.benchmarks;
+
+import com.event_calendar.dto.EventDTO;
+import com.event_calendar.validator.EventDateTimeValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code isValid} on its own, and the full bean validation that {@code @Valid} runs on a create or update request,
+ * which includes it along with the field constraints and the recurrence rule check.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EventValidationBenchmark {
+
+  private final EventDateTimeValidator dateTimeValidator = new EventDateTimeValidator();
+  private ValidatorFactory validatorFactory;
+  private Validator validator;
+  private EventDTO dto;
+
+  @Setup
+  public void setUp() {
+    validatorFactory = Validation.buildDefaultValidatorFactory();
+    validator = validatorFactory.getValidator();
+    dto = EventFixtures.recurringEvent(1);
+  }
+
+  @TearDown
+  public void tearDown() {
+    validatorFactory.close();
+  }
+
+  @Benchmark
+  public boolean isValid() {
+    return dateTimeValidator.isValid(dto, null);
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<EventDTO>> validate() {
+    return validator.validate(dto);
+  }
+}
@@ -0,0 +1,57 @@
+package com.event_calendar.benchmarks;
+
+import com.event_calendar.EventCalendarApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The backend without a web server, against an in-memory H2 database, for benchmarks that go through the service or
+ * the repositories.
+ */
+final class H2Backend {
+
+  static final Instant FIRST_START = Instant.parse("2025-01-01T08:00:00Z");
+  static final long SPACING_SECONDS = 900;
+
+  private static final int BATCH_SIZE = 1_000;
+
+  private H2Backend() {
+  }
+
+  static ConfigurableApplicationContext start(String database) {
+    // Command-line arguments, since they take precedence over application.properties.
+    return new SpringApplicationBuilder(EventCalendarApplication.class).web(WebApplicationType.NONE)
+            .run("--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+                    "--spring.datasource.username=sa", "--spring.datasource.password=",
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.datasource.hikari.data-source-properties.useCursorFetch=",
+                    "--spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=",
+                    "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                    "--logging.level.root=WARN");
+  }
+
+  /**
+   * Inserts {@code events} half-hour single events, one every {@link #SPACING_SECONDS} from {@link #FIRST_START}, so
+   * any instant after the first start lies in exactly two of them.
+   */
+  static void seed(JdbcTemplate jdbcTemplate, int events) {
+    List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < events; i++) {
+      Instant eventStart = FIRST_START.plusSeconds(i * SPACING_SECONDS);
+      rows.add(new Object[]{(long) i + 1, "Event " + i, "Weekly sync on the roadmap and open reviews " + i,
+              Timestamp.from(eventStart), Timestamp.from(eventStart.plusSeconds(1800)), "Room " + i % 50, (long) i + 1});
+      if (rows.size() == BATCH_SIZE || i == events - 1) {
+        jdbcTemplate.batchUpdate("insert into event (id, title, description, start_date_time, end_date_time, location, "
+                + "change_seq) values (?, ?, ?, ?, ?, ?, ?)", rows);
+        rows.clear();
+      }
+    }
+  }
+}
@@ -0,0 +1,263 @@
+package com.event_calendar.benchmarks.load;
+
+import com.event_calendar.service.recurrence.RecurrenceRule;
+import com.event_calendar.service.recurrence.RecurrenceSeries;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.SplittableRandom;
+import java.util.TimeZone;
+
+/**
+ * Appends synthetic events to the {@code event} table, shaped like a busy shared calendar: most events are weekday
+ * meetings in office hours, clustered toward the present, with a long tail of all-day and multi-day events, a few
+ * recurring series, and title, description and location sizes that vary widely. The same seed always produces the
+ * same rows, relative to the ids already in the table.
+ * <p>
+ * Rows are sent as JDBC batches and committed per batch; on MySQL add {@code rewriteBatchedStatements=true} to the URL
+ * so each batch becomes one multi-row insert. Seed before the backend starts: the event id and change sequences are
+ * moved past the new rows, but a running instance's interval index does not see rows written behind its back.
+ * <p>
+ * {@code java -cp benchmarks.jar com.event_calendar.benchmarks.load.EventDataGenerator <jdbc-url> <user> <password>
+ * <events> [seed]}
+ */
+public class EventDataGenerator {
+
+  /**
+   * "Now" for the generated calendar, fixed so runs are reproducible. A Monday.
+   */
+  static final Instant ANCHOR = Instant.parse("2025-01-06T00:00:00Z");
+
+  private static final int HISTORY_DAYS = 3 * 365;
+  private static final int FUTURE_DAYS = 365;
+  private static final int BATCH_SIZE = 5_000;
+  private static final long MINUTE = 60;
+  private static final long HOUR = 60 * MINUTE;
+  private static final long DAY = 24 * HOUR;
+
+  private static final String INSERT = "insert into event (id, title, description, start_date_time, end_date_time, "
+          + "location, change_seq, recurrence_rule, time_zone, recurrence_end, created_at, updated_at) "
+          + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String[] WORDS = {"planning", "review", "sync", "standup", "roadmap", "budget", "design",
+          "retro", "hiring", "interview", "onboarding", "customer", "demo", "release", "incident", "postmortem",
+          "architecture", "quarterly", "weekly", "team", "product", "marketing", "sales", "finance", "security",
+          "training", "workshop", "offsite", "lunch", "coffee", "1:1", "board", "strategy", "launch", "support",
+          "migration", "database", "backend", "frontend", "mobile", "kickoff", "check-in", "update", "alignment"};
+
+  private static final String[] ZONES = {"Europe/Berlin", "Europe/London", "America/New_York", "America/Los_Angeles",
+          "Asia/Tokyo", "Asia/Kolkata", "Australia/Sydney", "UTC"};
+
+  private static final String[] SERIES_RULES = {"FREQ=WEEKLY;COUNT=%d", "FREQ=WEEKLY;INTERVAL=2;COUNT=%d",
+          "FREQ=DAILY;COUNT=%d", "FREQ=MONTHLY;COUNT=%d"};
+
+  private final SplittableRandom random;
+  private final Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+
+  public EventDataGenerator(long seed) {
+    this.random = new SplittableRandom(seed);
+  }
+
+  public static void main(String[] args) throws SQLException {
+    if (args.length < 4) {
+      System.err.println("Usage: EventDataGenerator <jdbc-url> <user> <password> <events> [seed]");
+      System.exit(2);
+    }
+    int events = Integer.parseInt(args[3]);
+    long seed = args.length > 4 ? Long.parseLong(args[4]) : 42;
+    try (Connection connection = DriverManager.getConnection(args[0], args[1], args[2])) {
+      long started = System.nanoTime();
+      new EventDataGenerator(seed).generate(connection, events);
+      Duration took = Duration.ofNanos(System.nanoTime() - started);
+      System.out.printf("Inserted %d events in %d s (%.0f rows/s)%n", events, took.toSeconds(),
+              events / Math.max(took.toMillis() / 1000.0, 0.001));
+    }
+  }
+
+  /**
+   * Inserts {@code count} events after the existing ones. Leaves the connection's auto-commit setting as it found it.
+   */
+  public void generate(Connection connection, int count) throws SQLException {
+    boolean autoCommit = connection.getAutoCommit();
+    connection.setAutoCommit(false);
+    try {
+      long firstId = Math.max(queryLong(connection, "select coalesce(max(id), 0) + 1 from event"),
+              queryLong(connection, "select next_event_id from event_change_sequence where name = 'event'"));
+      long firstChangeSeq = Math.max(queryLong(connection, "select coalesce(max(change_seq), 0) + 1 from event"),
+              queryLong(connection, "select next_value from event_change_sequence where name = 'event'"));
+      Timestamp createdAt = new Timestamp(ANCHOR.toEpochMilli());
+
+      try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+        for (int i = 0; i < count; i++) {
+          addRow(insert, firstId + i, firstChangeSeq + i, createdAt);
+          if ((i + 1) % BATCH_SIZE == 0 || i == count - 1) {
+            insert.executeBatch();
+            connection.commit();
+          }
+        }
+      }
+
+      update(connection, "update event_change_sequence set next_value = ?, next_event_id = ? where name = 'event'",
+              firstChangeSeq + count, firstId + count);
+      connection.commit();
+    } catch (SQLException e) {
+      connection.rollback();
+      throw e;
+    } finally {
+      connection.setAutoCommit(autoCommit);
+    }
+  }
+
+  private void addRow(PreparedStatement insert, long id, long changeSeq, Timestamp createdAt) throws SQLException {
+    Instant start = nextStart();
+    Instant end = start.plusSeconds(nextDurationSeconds());
+    String rule = null;
+    String zone = null;
+    Instant recurrenceEnd = null;
+    // About 4% of events are series; one in twenty of those never ends.
+    if (random.nextInt(100) < 4) {
+      zone = ZONES[skewedIndex(ZONES.length)];
+      rule = random.nextInt(20) == 0 ? "FREQ=WEEKLY" : String.format(SERIES_RULES[skewedIndex(SERIES_RULES.length)],
+              2 + random.nextInt(51));
+      rule = RecurrenceRule.parse(rule)
+              .toString();
+      recurrenceEnd = RecurrenceSeries.of(start, end, rule, zone, null, null)
+              .getEnd();
+    }
+
+    insert.setLong(1, id);
+    insert.setString(2, nextTitle());
+    insert.setString(3, nextDescription());
+    insert.setTimestamp(4, Timestamp.from(start), utc);
+    insert.setTimestamp(5, Timestamp.from(end), utc);
+    insert.setString(6, nextLocation());
+    insert.setLong(7, changeSeq);
+    insert.setString(8, rule);
+    insert.setString(9, zone);
+    if (recurrenceEnd != null) {
+      insert.setTimestamp(10, Timestamp.from(recurrenceEnd), utc);
+    } else {
+      insert.setNull(10, Types.TIMESTAMP);
+    }
+    insert.setTimestamp(11, createdAt, utc);
+    insert.setTimestamp(12, createdAt, utc);
+    insert.addBatch();
+  }
+
+  /**
+   * Density rises linearly toward the anchor and falls off the same way over the following year, so the weeks around
+   * it hold about 2% of all events each. Weekends get few events, and times cluster around mid-morning and early
+   * afternoon on quarter hours.
+   */
+  private Instant nextStart() {
+    long day;
+    if (random.nextInt(100) < 80) {
+      day = -Math.round(HISTORY_DAYS * (1 - Math.sqrt(random.nextDouble())));
+    } else {
+      day = Math.round(FUTURE_DAYS * (1 - Math.sqrt(random.nextDouble())));
+    }
+    int weekday = (int) Math.floorMod(day, 7L);
+    if (weekday >= 5 && random.nextInt(100) < 85) {
+      day -= weekday - 4;
+    }
+    double hour = random.nextBoolean() ? gaussian(10, 1.5) : gaussian(14.5, 1.5);
+    long quarter = Math.round(Math.min(Math.max(hour, 6), 21) * 4);
+    return ANCHOR.plusSeconds(day * DAY + quarter * 15 * MINUTE);
+  }
+
+  private long nextDurationSeconds() {
+    int bucket = random.nextInt(100);
+    if (bucket < 25) {
+      return (5 + random.nextInt(11)) * MINUTE;
+    }
+    if (bucket < 85) {
+      return (2 + random.nextInt(3)) * 15 * MINUTE;
+    }
+    if (bucket < 95) {
+      return (2 + random.nextInt(7)) * HOUR;
+    }
+    if (bucket < 99) {
+      return DAY;
+    }
+    return (2 + random.nextInt(13)) * DAY;
+  }
+
+  private String nextTitle() {
+    int words = 1 + (int) Math.min(20, Math.round(Math.exp(gaussian(1, 0.6))));
+    StringBuilder title = new StringBuilder(words * 10);
+    appendWords(title, words);
+    title.setCharAt(0, Character.toUpperCase(title.charAt(0)));
+    return title.length() > 255 ? title.substring(0, 255) : title.toString();
+  }
+
+  /**
+   * A third of events have no description; the rest follow a log-normal length from a sentence to a few pages.
+   */
+  private String nextDescription() {
+    if (random.nextInt(3) == 0) {
+      return null;
+    }
+    int words = (int) Math.min(2_000, Math.max(3, Math.round(Math.exp(gaussian(3, 1.2)))));
+    StringBuilder description = new StringBuilder(words * 8);
+    appendWords(description, words);
+    return description.append('.')
+            .toString();
+  }
+
+  private String nextLocation() {
+    if (random.nextInt(5) == 0) {
+      return null;
+    }
+    if (random.nextInt(10) == 0) {
+      return "https://meet.example.com/" + Long.toString(random.nextLong() & Long.MAX_VALUE, 36);
+    }
+    return "Room " + (1 + skewedIndex(200));
+  }
+
+  private void appendWords(StringBuilder text, int words) {
+    for (int i = 0; i < words; i++) {
+      if (i > 0) {
+        text.append(' ');
+      }
+      text.append(WORDS[skewedIndex(WORDS.length)]);
+    }
+  }
+
+  /**
+   * Index in {@code [0, size)} that favors small values, so a few rooms, zones and words are much more common.
+   */
+  private int skewedIndex(int size) {
+    return (int) (size * Math.pow(random.nextDouble(), 3));
+  }
+
+  private double gaussian(double mean, double deviation) {
+    // Box-Muller; SplittableRandom has no nextGaussian on Java 17.
+    double u = 1 - random.nextDouble();
+    double v = random.nextDouble();
+    return mean + deviation * Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+  }
+
+  private static long queryLong(Connection connection, String sql) throws SQLException {
+    try (Statement statement = connection.createStatement(); ResultSet result = statement.executeQuery(sql)) {
+      return result.next() ? result.getLong(1) : 0;
+    }
+  }
+
+  private static void update(Connection connection, String sql, long... values) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      for (int i = 0; i < values.length; i++) {
+        statement.setLong(i + 1, values[i]);
+      }
+      statement.executeUpdate();
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package com.event_calendar.benchmarks.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies per scenario, recorded from any number of worker threads. Latencies are kept in microseconds with three
+ * significant digits, up to ten minutes.
+ */
+class LoadReport {
+
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+  private final Map<LoadScenario, Recorder> recorders = new EnumMap<>(LoadScenario.class);
+  private final Map<LoadScenario, LongAdder> errors = new EnumMap<>(LoadScenario.class);
+  private volatile long since = System.nanoTime();
+
+  LoadReport() {
+    for (LoadScenario scenario : LoadScenario.values()) {
+      recorders.put(scenario, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+      errors.put(scenario, new LongAdder());
+    }
+  }
+
+  void record(LoadScenario scenario, long nanos, boolean error) {
+    recorders.get(scenario)
+            .recordValue(Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 1), HIGHEST_TRACKABLE_MICROS));
+    if (error) {
+      errors.get(scenario)
+              .increment();
+    }
+  }
+
+  /**
+   * Drops everything recorded so far, e.g. at the end of the warmup.
+   */
+  void reset() {
+    since = System.nanoTime();
+    recorders.values()
+            .forEach(Recorder::reset);
+    errors.values()
+            .forEach(LongAdder::reset);
+  }
+
+  /**
+   * Covers everything recorded since the last reset; call it after the workers have stopped.
+   */
+  Summary summarize(Map<String, Object> settings) {
+    double seconds = (System.nanoTime() - since) / 1e9;
+    List<ScenarioResult> scenarios = new ArrayList<>();
+    Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    long totalErrors = 0;
+    for (LoadScenario scenario : LoadScenario.values()) {
+      Histogram histogram = recorders.get(scenario)
+              .getIntervalHistogram();
+      long scenarioErrors = errors.get(scenario)
+              .sum();
+      if (histogram.getTotalCount() == 0) {
+        continue;
+      }
+      total.add(histogram);
+      totalErrors += scenarioErrors;
+      scenarios.add(ScenarioResult.of(scenario.key(), histogram, scenarioErrors, seconds));
+    }
+    return new Summary(settings, seconds, scenarios, ScenarioResult.of("total", total, totalErrors, seconds));
+  }
+
+  record ScenarioResult(String scenario, long requests, long errors, double throughput, double p50Ms, double p99Ms,
+          double p999Ms, double maxMs) {
+
+    static ScenarioResult of(String scenario, Histogram histogram, long errors, double seconds) {
+      return new ScenarioResult(scenario, histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+              millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+              millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+      return micros / 1000.0;
+    }
+  }
+
+  record Summary(Map<String, Object> settings, double measuredSeconds, List<ScenarioResult> scenarios,
+          ScenarioResult total) {
+
+    void print(PrintStream out) {
+      out.printf("%-8s %10s %8s %10s %10s %10s %10s %10s%n", "scenario", "requests", "errors", "req/s", "p50 ms",
+              "p99 ms", "p99.9 ms", "max ms");
+      scenarios.forEach(result -> print(out, result));
+      print(out, total);
+    }
+
+    void write(Path path) throws IOException {
+      Path parent = path.toAbsolutePath()
+              .getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+              .writeValue(path.toFile(), this);
+    }
+
+    private static void print(PrintStream out, ScenarioResult result) {
+      out.printf("%-8s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n", result.scenario(), result.requests(),
+              result.errors(), result.throughput(), result.p50Ms(), result.p99Ms(), result.p999Ms(), result.maxMs());
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.event_calendar.benchmarks.load;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The requests a load test mixes, with their default share of traffic in percent.
+ */
+enum LoadScenario {
+
+  LIST_RANGE("list", 30, "GET /events?from&to, one week"),
+  GET_BY_ID("get", 25, "GET /events/{id}"),
+  PAGE("page", 10, "GET /events/page, following cursors"),
+  AT("at", 10, "GET /events/at"),
+  FREE_BUSY("freebusy", 0, "GET /events/freebusy, one year"),
+  AVAILABILITY("availability", 0, "GET /events/availability, next 45-minute slots in working hours"),
+  SYNC("sync", 5, "GET /events/sync, following tokens"),
+  CREATE("create", 10, "POST /events"),
+  UPDATE("update", 7, "PUT /events/{id}"),
+  DELETE("delete", 3, "DELETE /events/{id}, of events the test created");
+
+  private final String key;
+  private final int defaultWeight;
+  private final String description;
+
+  LoadScenario(String key, int defaultWeight, String description) {
+    this.key = key;
+    this.defaultWeight = defaultWeight;
+    this.description = description;
+  }
+
+  String key() {
+    return key;
+  }
+
+  String description() {
+    return description;
+  }
+
+  static Map<LoadScenario, Integer> defaultMix() {
+    Map<LoadScenario, Integer> mix = new EnumMap<>(LoadScenario.class);
+    for (LoadScenario scenario : values()) {
+      mix.put(scenario, scenario.defaultWeight);
+    }
+    return mix;
+  }
+
+  /**
+   * Parses {@code list:50,get:50}. Scenarios that are not named get no traffic.
+   */
+  static Map<LoadScenario, Integer> parseMix(String mix) {
+    Map<LoadScenario, Integer> weights = new EnumMap<>(LoadScenario.class);
+    for (String part : mix.split(",")) {
+      String[] keyAndWeight = part.trim()
+              .split(":");
+      if (keyAndWeight.length != 2) {
+        throw new IllegalArgumentException("Expected scenario:weight, got '" + part + "'");
+      }
+      weights.put(byKey(keyAndWeight[0].trim()), Integer.parseInt(keyAndWeight[1].trim()));
+    }
+    if (weights.values()
+            .stream()
+            .mapToInt(Integer::intValue)
+            .sum() <= 0) {
+      throw new IllegalArgumentException("The mix '" + mix + "' has no traffic");
+    }
+    return weights;
+  }
+
+  private static LoadScenario byKey(String key) {
+    for (LoadScenario scenario : values()) {
+      if (scenario.key.equals(key)) {
+        return scenario;
+      }
+    }
+    throw new IllegalArgumentException("Unknown scenario '" + key + "'");
+  }
+}
@@ -0,0 +1,167 @@
+package com.event_calendar.benchmarks.load;
+
+import com.event_calendar.EventCalendarApplication;
+import com.event_calendar.service.index.EventIntervalIndex;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Starts the backend on a random port against an in-memory H2 database (or the given JDBC URL), seeds it with
+ * {@link EventDataGenerator}, and runs a mix of reads and writes against it from a fixed number of clients. Prints
+ * throughput and p50/p99/p99.9 latency per scenario and writes the same as JSON.
+ * <p>
+ * Options, all {@code --name=value}: {@code events} (1000000), {@code threads} (32), {@code warmup} and
+ * {@code duration} in seconds (10, 60), {@code seed} (42), {@code mix} (e.g. {@code list:50,get:50}),
+ * {@code report} ({@code load-test-report.json}), and {@code jdbc-url}, {@code jdbc-user}, {@code jdbc-password} to use
+ * a local database instead of H2.
+ */
+public class LoadTest {
+
+  // Writes queue on the change sequence row lock; H2 gives up after 2 s by default, MySQL after 50 s.
+  private static final String H2_URL = "jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;"
+          + "LOCK_TIMEOUT=50000";
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = parseOptions(args);
+    int events = Integer.parseInt(options.getOrDefault("events", "1000000"));
+    int threads = Integer.parseInt(options.getOrDefault("threads", "32"));
+    Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+    Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+    long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+    Map<LoadScenario, Integer> mix = options.containsKey("mix") ? LoadScenario.parseMix(options.get("mix"))
+            : LoadScenario.defaultMix();
+    Path reportPath = Path.of(options.getOrDefault("report", "load-test-report.json"));
+    String jdbcUrl = options.getOrDefault("jdbc-url", H2_URL);
+
+    try (ConfigurableApplicationContext context = start(jdbcUrl, options.getOrDefault("jdbc-user", "sa"),
+            options.getOrDefault("jdbc-password", ""))) {
+      seed(context, events, seed);
+      long[] ids = context.getBean(JdbcTemplate.class)
+              .queryForObject("select min(id), max(id) from event", (row, i) -> new long[]{row.getLong(1),
+                      row.getLong(2)});
+      URI baseUri = URI.create("http://localhost:" + context.getEnvironment()
+              .getProperty("local.server.port"));
+
+      System.out.printf("Running %s for %d s after %d s warmup with %d clients%n", describe(mix), duration.toSeconds(),
+              warmup.toSeconds(), threads);
+      LoadReport report = run(baseUri, ids[0], ids[1], mix, threads, warmup, duration, seed);
+
+      Map<String, Object> settings = new LinkedHashMap<>();
+      settings.put("events", ids[1] - ids[0] + 1);
+      settings.put("threads", threads);
+      settings.put("warmupSeconds", warmup.toSeconds());
+      settings.put("durationSeconds", duration.toSeconds());
+      settings.put("seed", seed);
+      settings.put("mix", describe(mix));
+      settings.put("database", jdbcUrl.startsWith("jdbc:h2:") ? "h2" : jdbcUrl.replaceAll("\\?.*", ""));
+      settings.put("java", Runtime.version()
+              .toString());
+      settings.put("processors", Runtime.getRuntime()
+              .availableProcessors());
+      LoadReport.Summary summary = report.summarize(settings);
+      summary.print(System.out);
+      summary.write(reportPath);
+      System.out.println("Report written to " + reportPath.toAbsolutePath());
+    }
+  }
+
+  private static ConfigurableApplicationContext start(String jdbcUrl, String user, String password) {
+    List<String> args = new ArrayList<>(List.of("--spring.datasource.url=" + jdbcUrl,
+            "--spring.datasource.username=" + user, "--spring.datasource.password=" + password, "--server.port=0",
+            "--events.sql.sample-rate=0", "--logging.level.root=WARN", "--logging.level.com.event_calendar=WARN",
+            "--logging.level.org.springframework.web=WARN"));
+    if (jdbcUrl.startsWith("jdbc:h2:")) {
+      args.addAll(List.of("--spring.datasource.driver-class-name=org.h2.Driver",
+              "--spring.datasource.hikari.data-source-properties.useCursorFetch=",
+              "--spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=",
+              "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"));
+    }
+    return new SpringApplicationBuilder(EventCalendarApplication.class).run(args.toArray(String[]::new));
+  }
+
+  /**
+   * Seeds through the application's pool before the first request, then rebuilds the interval index, which only
+   * follows changes made through the service.
+   */
+  private static void seed(ConfigurableApplicationContext context, int events, long seed) throws Exception {
+    if (events <= 0) {
+      return;
+    }
+    long started = System.nanoTime();
+    try (Connection connection = context.getBean(DataSource.class)
+            .getConnection()) {
+      new EventDataGenerator(seed).generate(connection, events);
+    }
+    context.getBean(EventIntervalIndex.class)
+            .rebuild();
+    System.out.printf("Seeded %d events in %d s%n", events, Duration.ofNanos(System.nanoTime() - started)
+            .toSeconds());
+  }
+
+  private static LoadReport run(URI baseUri, long firstId, long lastId, Map<LoadScenario, Integer> mix, int threads,
+          Duration warmup, Duration duration, long seed) throws Exception {
+    LoadReport report = new LoadReport();
+    Queue<Long> createdIds = new ConcurrentLinkedQueue<>();
+    long start = System.nanoTime();
+    long deadline = start + warmup.toNanos() + duration.toNanos();
+    HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> workers = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        workers.add(executor.submit(new LoadWorker(client, baseUri, firstId, lastId, createdIds, mix, report,
+                deadline, seed + i)));
+      }
+      Thread.sleep(warmup.toMillis());
+      report.reset();
+      for (Future<?> worker : workers) {
+        worker.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    return report;
+  }
+
+  private static Map<String, String> parseOptions(String[] args) {
+    Map<String, String> options = new LinkedHashMap<>();
+    for (String arg : args) {
+      int equals = arg.indexOf('=');
+      if (!arg.startsWith("--") || equals < 0) {
+        throw new IllegalArgumentException("Expected --name=value, got '" + arg + "'");
+      }
+      options.put(arg.substring(2, equals), arg.substring(equals + 1));
+    }
+    return options;
+  }
+
+  private static String describe(Map<LoadScenario, Integer> mix) {
+    return mix.entrySet()
+            .stream()
+            .filter(entry -> entry.getValue() > 0)
+            .map(entry -> entry.getKey()
+                    .key() + ":" + entry.getValue())
+            .collect(Collectors.joining(","));
+  }
+}
@@ -0,0 +1,183 @@
+package com.event_calendar.benchmarks.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+
+/**
+ * One simulated client: sends a request, waits for the response, picks the next scenario. Latency is measured from
+ * sending to the full response body, so it is service time under a closed loop and does not include queueing a
+ * fixed-rate client would have seen.
+ */
+class LoadWorker implements Runnable {
+
+  private static final LocalDateTime ANCHOR = LocalDateTime.ofInstant(EventDataGenerator.ANCHOR, ZoneOffset.UTC);
+  private static final String[] TIME_ZONES = {"Europe/Berlin", "Europe/Berlin", "America/New_York", "UTC"};
+
+  private final HttpClient client;
+  private final URI baseUri;
+  private final long firstId;
+  private final long lastId;
+  private final Queue<Long> createdIds;
+  private final LoadScenario[] wheel;
+  private final LoadReport report;
+  private final long deadline;
+  private final SplittableRandom random;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private String pageCursor;
+  private String syncToken;
+
+  LoadWorker(HttpClient client, URI baseUri, long firstId, long lastId, Queue<Long> createdIds,
+          Map<LoadScenario, Integer> mix, LoadReport report, long deadline, long seed) {
+    this.client = client;
+    this.baseUri = baseUri;
+    this.firstId = firstId;
+    this.lastId = lastId;
+    this.createdIds = createdIds;
+    this.wheel = wheel(mix);
+    this.report = report;
+    this.deadline = deadline;
+    this.random = new SplittableRandom(seed);
+  }
+
+  @Override
+  public void run() {
+    while (System.nanoTime() < deadline) {
+      LoadScenario scenario = wheel[random.nextInt(wheel.length)];
+      Long deleteId = null;
+      if (scenario == LoadScenario.DELETE) {
+        deleteId = createdIds.poll();
+        if (deleteId == null) {
+          scenario = LoadScenario.CREATE;
+        }
+      }
+      HttpRequest request = request(scenario, deleteId);
+      long started = System.nanoTime();
+      try {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        long elapsed = System.nanoTime() - started;
+        boolean error = response.statusCode() >= 400;
+        report.record(scenario, elapsed, error);
+        if (!error) {
+          onResponse(scenario, response.body());
+        }
+      } catch (IOException e) {
+        report.record(scenario, System.nanoTime() - started, true);
+      } catch (InterruptedException e) {
+        Thread.currentThread()
+                .interrupt();
+        return;
+      }
+    }
+  }
+
+  private HttpRequest request(LoadScenario scenario, Long deleteId) {
+    return switch (scenario) {
+      case LIST_RANGE -> {
+        LocalDateTime from = ANCHOR.plusDays(random.nextInt(-90, 31));
+        yield get("/events?from=" + from + "&to=" + from.plusDays(7));
+      }
+      case GET_BY_ID -> get("/events/" + seededId());
+      case PAGE -> get("/events/page?limit=50" + (pageCursor != null ? "&cursor=" + encode(pageCursor) : ""));
+      case AT -> get("/events/at?time=" + ANCHOR.plusDays(random.nextInt(-90, 31))
+              .plusMinutes(random.nextInt(8 * 60, 18 * 60)));
+      case FREE_BUSY -> {
+        LocalDateTime from = ANCHOR.minusDays(random.nextInt(180, 366));
+        yield get("/events/freebusy?from=" + from + "&to=" + from.plusYears(1));
+      }
+      case AVAILABILITY -> {
+        LocalDateTime from = ANCHOR.plusDays(random.nextInt(-7, 8))
+                .plusHours(random.nextInt(8, 18));
+        yield get("/events/availability?duration=PT45M&from=" + from + "&to=" + from.plusDays(30)
+                + "&workingHours=09:00-17:00&workingDays=MON-FRI&limit=5");
+      }
+      case SYNC -> get("/events/sync?limit=200" + (syncToken != null ? "&token=" + encode(syncToken) : ""));
+      case CREATE -> write("POST", "/events", eventBody());
+      case UPDATE -> write("PUT", "/events/" + seededId(), eventBody());
+      case DELETE -> builder("/events/" + deleteId).DELETE()
+              .build();
+    };
+  }
+
+  private void onResponse(LoadScenario scenario, byte[] body) throws IOException {
+    switch (scenario) {
+      case PAGE -> pageCursor = text(objectMapper.readTree(body), "nextCursor");
+      case SYNC -> syncToken = text(objectMapper.readTree(body), "nextToken");
+      case CREATE -> createdIds.add(objectMapper.readTree(body)
+              .get("id")
+              .asLong());
+      default -> {
+      }
+    }
+  }
+
+  private String eventBody() {
+    LocalDateTime start = ANCHOR.plusDays(random.nextInt(-30, 61))
+            .plusMinutes(15L * random.nextInt(32, 72))
+            .truncatedTo(ChronoUnit.MINUTES);
+    Map<String, Object> event = Map.of("title", "Load test " + random.nextInt(1_000_000), "description",
+            "Created by the load test", "startDateTime", start.toString(), "endDateTime", start.plusMinutes(
+                    15L * random.nextInt(1, 9))
+                    .toString(), "location", "Room " + random.nextInt(1, 200));
+    try {
+      return objectMapper.writeValueAsString(event);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private long seededId() {
+    return random.nextLong(firstId, lastId + 1);
+  }
+
+  private HttpRequest get(String path) {
+    return builder(path).GET()
+            .build();
+  }
+
+  private HttpRequest write(String method, String path, String body) {
+    return builder(path).header("Content-Type", "application/json")
+            .method(method, HttpRequest.BodyPublishers.ofString(body))
+            .build();
+  }
+
+  private HttpRequest.Builder builder(String path) {
+    return HttpRequest.newBuilder(baseUri.resolve(path))
+            .header("X-Timezone", TIME_ZONES[random.nextInt(TIME_ZONES.length)]);
+  }
+
+  private static String text(JsonNode node, String field) {
+    JsonNode value = node.get(field);
+    return value == null || value.isNull() ? null : value.asText();
+  }
+
+  private static String encode(String value) {
+    return URLEncoder.encode(value, StandardCharsets.UTF_8);
+  }
+
+  private static LoadScenario[] wheel(Map<LoadScenario, Integer> mix) {
+    List<LoadScenario> wheel = new ArrayList<>();
+    mix.forEach((scenario, weight) -> {
+      for (int i = 0; i < weight; i++) {
+        wheel.add(scenario);
+      }
+    });
+    return wheel.toArray(LoadScenario[]::new);
+  }
+}
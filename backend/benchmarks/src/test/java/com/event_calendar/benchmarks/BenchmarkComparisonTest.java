@@ -0,0 +1,82 @@
+package com.event_calendar.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BenchmarkComparisonTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final BenchmarkComparison comparison = new BenchmarkComparison(0.10, 0.05);
+
+  @Test
+  void compare_WithinThresholds_NoRegressions() throws Exception {
+    JsonNode baseline = results(result("toEntity", "false", 1000, "gc.alloc.rate.norm", 200));
+    JsonNode candidate = results(result("toEntity", "false", 950, "gc.alloc.rate.norm", 205));
+
+    assertTrue(comparison.compare(baseline, candidate)
+            .isEmpty());
+  }
+
+  @Test
+  void compare_ThroughputDrop_Reported() throws Exception {
+    JsonNode baseline = results(result("toEntity", "false", 1000, "gc.alloc.rate.norm", 200));
+    JsonNode candidate = results(result("toEntity", "false", 850, "gc.alloc.rate.norm", 200));
+
+    List<String> regressions = comparison.compare(baseline, candidate);
+
+    assertEquals(1, regressions.size());
+    assertTrue(regressions.get(0)
+            .contains("throughput"));
+  }
+
+  @Test
+  void compare_AllocationIncrease_ReportedPerParameter() throws Exception {
+    JsonNode baseline = results(result("toEntity", "false", 1000, "\u00b7gc.alloc.rate.norm", 200),
+            result("toEntity", "true", 500, "\u00b7gc.alloc.rate.norm", 800));
+    JsonNode candidate = results(result("toEntity", "false", 1000, "\u00b7gc.alloc.rate.norm", 200),
+            result("toEntity", "true", 500, "\u00b7gc.alloc.rate.norm", 900));
+
+    List<String> regressions = comparison.compare(baseline, candidate);
+
+    assertEquals(1, regressions.size());
+    assertTrue(regressions.get(0)
+            .contains("recurring=true"));
+  }
+
+  @Test
+  void compare_SmallAllocationWithinSlack_NoRegressions() throws Exception {
+    JsonNode baseline = results(result("isValid", "false", 1000, "gc.alloc.rate.norm", 0));
+    JsonNode candidate = results(result("isValid", "false", 1000, "gc.alloc.rate.norm", 8));
+
+    assertTrue(comparison.compare(baseline, candidate)
+            .isEmpty());
+  }
+
+  @Test
+  void compare_BenchmarkWithoutBaseline_Ignored() throws Exception {
+    JsonNode baseline = results();
+    JsonNode candidate = results(result("toEntity", "false", 1, "gc.alloc.rate.norm", 10_000));
+
+    assertTrue(comparison.compare(baseline, candidate)
+            .isEmpty());
+  }
+
+  private JsonNode results(String... results) throws Exception {
+    return objectMapper.readTree("[" + String.join(",", results) + "]");
+  }
+
+  private static String result(String method, String recurring, double score, String allocationMetric,
+          double allocation) {
+    return """
+            {"benchmark": "com.event_calendar.benchmarks.EventMapperBenchmark.%s", "mode": "thrpt",
+             "params": {"recurring": "%s"},
+             "primaryMetric": {"score": %s, "scoreUnit": "ops/ms"},
+             "secondaryMetrics": {"%s": {"score": %s, "scoreUnit": "B/op"}}}
+            """.formatted(method, recurring, score, allocationMetric, allocation);
+  }
+}
@@ -0,0 +1,94 @@
+package com.event_calendar.benchmarks.load;
+
+import com.event_calendar.service.recurrence.RecurrenceRule;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventDataGeneratorTest {
+
+  @Test
+  void generate_MovesSequencesPastNewRows() throws Exception {
+    try (SingleConnectionDataSource dataSource = database("sequences")) {
+      JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+      generate(dataSource, 1, 3_000);
+      generate(dataSource, 2, 2_000);
+
+      assertEquals(5_000, jdbc.queryForObject("select count(*) from event", Long.class));
+      assertEquals(5_000, jdbc.queryForObject("select count(distinct change_seq) from event", Long.class));
+      long maxId = jdbc.queryForObject("select max(id) from event", Long.class);
+      assertEquals(maxId + 1, jdbc.queryForObject("select next_event_id from event_change_sequence where name = 'event'",
+              Long.class));
+      assertEquals(jdbc.queryForObject("select max(change_seq) from event", Long.class) + 1,
+              jdbc.queryForObject("select next_value from event_change_sequence where name = 'event'", Long.class));
+    }
+  }
+
+  @Test
+  void generate_SameSeed_SameRows() throws Exception {
+    try (SingleConnectionDataSource first = database("first"); SingleConnectionDataSource second = database("second")) {
+      generate(first, 7, 1_000);
+      generate(second, 7, 1_000);
+
+      String rows = "select id, title, description, start_date_time, end_date_time, location, recurrence_rule "
+              + "from event order by id";
+      assertEquals(new JdbcTemplate(first).queryForList(rows), new JdbcTemplate(second).queryForList(rows));
+    }
+  }
+
+  @Test
+  void generate_ProducesVariedEvents() throws Exception {
+    try (SingleConnectionDataSource dataSource = database("shape")) {
+      JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+      generate(dataSource, 42, 20_000);
+
+      Map<String, Object> shape = jdbc.queryForMap("select "
+              + "sum(case when description is null then 1 else 0 end) as no_description, "
+              + "sum(case when recurrence_rule is not null then 1 else 0 end) as series, "
+              + "sum(case when recurrence_rule is not null and recurrence_end is null then 1 else 0 end) as endless, "
+              + "min(datediff('MINUTE', start_date_time, end_date_time)) as shortest, "
+              + "max(datediff('MINUTE', start_date_time, end_date_time)) as longest, "
+              + "max(length(description)) as longest_description from event");
+      assertTrue(number(shape, "no_description") > 5_000, shape::toString);
+      assertTrue(number(shape, "series") > 400 && number(shape, "series") < 1_200, shape::toString);
+      assertTrue(number(shape, "endless") > 0, shape::toString);
+      assertTrue(number(shape, "shortest") <= 15, shape::toString);
+      assertTrue(number(shape, "longest") >= 2 * 24 * 60, shape::toString);
+      assertTrue(number(shape, "longest_description") > 1_000, shape::toString);
+
+      List<String> rules = jdbc.queryForList("select distinct recurrence_rule from event "
+              + "where recurrence_rule is not null", String.class);
+      rules.forEach(rule -> assertEquals(rule, RecurrenceRule.parse(rule)
+              .toString()));
+    }
+  }
+
+  private static SingleConnectionDataSource database(String name) {
+    SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+            "jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE", "sa", "", true);
+    Flyway.configure()
+            .dataSource(dataSource)
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+    return dataSource;
+  }
+
+  private static void generate(SingleConnectionDataSource dataSource, long seed, int count) throws Exception {
+    Connection connection = dataSource.getConnection();
+    new EventDataGenerator(seed).generate(connection, count);
+  }
+
+  private static long number(Map<String, Object> row, String column) {
+    return ((Number) row.get(column)).longValue();
+  }
+}
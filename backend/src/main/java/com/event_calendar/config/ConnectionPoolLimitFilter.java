@@ -0,0 +1,135 @@
+package com.event_calendar.config;
+
+import com.event_calendar.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps how many requests run at once so they do not outnumber the connection pool. With a platform-thread executor
+ * Tomcat's thread count does this; virtual threads have no such cap, and thousands of requests queueing inside
+ * Hikari would all time out together instead of being turned away early. Requests that cannot get a permit within
+ * the timeout get a 503. Actuator endpoints bypass the limit.
+ */
+public class ConnectionPoolLimitFilter extends OncePerRequestFilter {
+
+  private static final String RETRY_AFTER_SECONDS = "1";
+
+  private final Semaphore permits;
+  private final Duration acquireTimeout;
+  private final ObjectMapper objectMapper;
+
+  public ConnectionPoolLimitFilter(int maxInFlight, Duration acquireTimeout, ObjectMapper objectMapper) {
+    this.permits = new Semaphore(maxInFlight, true);
+    this.acquireTimeout = acquireTimeout;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Requests allowed in flight for a pool of {@code poolSize} connections that keeps {@code reserved} of them free for
+   * work outside requests; never less than one.
+   */
+  public static int maxInFlight(int poolSize, int reserved) {
+    return Math.max(1, poolSize - reserved);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return request.getRequestURI()
+            .startsWith(request.getContextPath() + "/actuator");
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+          throws ServletException, IOException {
+    boolean acquired;
+    try {
+      acquired = permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread()
+              .interrupt();
+      acquired = false;
+    }
+    if (!acquired) {
+      reject(response);
+      return;
+    }
+
+    Permit permit = new Permit();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      // Streaming responses keep their connection until the async part is done.
+      if (request.isAsyncStarted()) {
+        request.getAsyncContext()
+                .addListener(permit);
+      } else {
+        permit.release();
+      }
+    }
+  }
+
+  int availablePermits() {
+    return permits.availablePermits();
+  }
+
+  private void reject(HttpServletResponse response) throws IOException {
+    ErrorResponse error = ErrorResponse.builder()
+            .timestamp(Instant.now())
+            .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+            .error("Too many concurrent requests")
+            .message(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+            .build();
+    response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), error);
+  }
+
+  private class Permit implements AsyncListener {
+
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private void release() {
+      if (released.compareAndSet(false, true)) {
+        permits.release();
+      }
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      release();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      release();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      release();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      event.getAsyncContext()
+              .addListener(this);
+    }
+  }
+}
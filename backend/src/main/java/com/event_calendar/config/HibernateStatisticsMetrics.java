@@ -0,0 +1,68 @@
+package com.event_calendar.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes Hibernate's session factory statistics under the same names as {@code hibernate-micrometer}. Hibernate only
+ * collects them with {@code hibernate.generate_statistics}, so the binder is skipped otherwise.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.generate_statistics", havingValue = "true")
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+  private final Statistics statistics;
+
+  @Autowired
+  public HibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory) {
+    this(entityManagerFactory.unwrap(SessionFactory.class)
+            .getStatistics());
+  }
+
+  HibernateStatisticsMetrics(Statistics statistics) {
+    this.statistics = statistics;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    counter(registry, "hibernate.query.executions", "Queries executed", Statistics::getQueryExecutionCount);
+    counter(registry, "hibernate.statements", "Prepared JDBC statements", Statistics::getPrepareStatementCount);
+    counter(registry, "hibernate.flushes", "Session flushes", Statistics::getFlushCount);
+    counter(registry, "hibernate.transactions", "Completed transactions", Statistics::getTransactionCount);
+    counter(registry, "hibernate.sessions.open", "Sessions opened", Statistics::getSessionOpenCount);
+    counter(registry, "hibernate.entities.loads", "Entities loaded", Statistics::getEntityLoadCount);
+    counter(registry, "hibernate.entities.fetches", "Entities fetched lazily", Statistics::getEntityFetchCount);
+    counter(registry, "hibernate.entities.inserts", "Entities inserted", Statistics::getEntityInsertCount);
+    counter(registry, "hibernate.entities.updates", "Entities updated", Statistics::getEntityUpdateCount);
+    counter(registry, "hibernate.entities.deletes", "Entities deleted", Statistics::getEntityDeleteCount);
+    counter(registry, "hibernate.collections.loads", "Collections loaded", Statistics::getCollectionLoadCount);
+    counter(registry, "hibernate.optimistic.failures", "Stale object state failures",
+            Statistics::getOptimisticFailureCount);
+    Gauge.builder("hibernate.sessions.active", statistics,
+                    stats -> stats.getSessionOpenCount() - stats.getSessionCloseCount())
+            .description("Sessions currently open")
+            .register(registry);
+    TimeGauge.builder("hibernate.query.executions.max", statistics, TimeUnit.MILLISECONDS,
+                    Statistics::getQueryExecutionMaxTime)
+            .description("Slowest query since startup")
+            .register(registry);
+  }
+
+  private void counter(MeterRegistry registry, String name, String description, ToDoubleFunction<Statistics> count) {
+    FunctionCounter.builder(name, statistics, count)
+            .description(description)
+            .register(registry);
+  }
+}
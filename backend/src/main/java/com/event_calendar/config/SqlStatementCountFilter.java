@@ -0,0 +1,57 @@
+package com.event_calendar.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many statements each request sent, per endpoint, and warns about requests above the limit. Only the
+ * request thread is counted; the async part of streaming responses is not.
+ */
+@Slf4j(topic = "com.event_calendar.sql")
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+  static final String METRIC_NAME = "http.server.requests.statements";
+
+  private final MeterRegistry meterRegistry;
+  private final int warnThreshold;
+
+  public SqlStatementCountFilter(MeterRegistry meterRegistry, int warnThreshold) {
+    this.meterRegistry = meterRegistry;
+    this.warnThreshold = warnThreshold;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+          throws ServletException, IOException {
+    SqlStatementCounter.reset();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      record(request, SqlStatementCounter.get());
+    }
+  }
+
+  private void record(HttpServletRequest request, int statements) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+    DistributionSummary.builder(METRIC_NAME)
+            .description("SQL statements sent per request")
+            .baseUnit("statements")
+            .tag("method", request.getMethod())
+            .tag("uri", uri)
+            .register(meterRegistry)
+            .record(statements);
+    if (statements > warnThreshold) {
+      log.warn("{} {} sent {} SQL statements", request.getMethod(), request.getRequestURI(), statements);
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package com.event_calendar.config;
+
+/**
+ * Number of SQL statements Hibernate prepared on the current thread since the last {@link #reset()}. The count is taken
+ * when a statement is prepared, not when it runs: a JDBC batch counts once however many rows it carries, and a
+ * statement that fails counts all the same. Event ids come from {@code next_event_id} on the change-sequence row, read
+ * and updated in the writing session, so those statements are counted like any other.
+ */
+public final class SqlStatementCounter {
+
+  private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+  private SqlStatementCounter() {
+  }
+
+  public static void reset() {
+    COUNT.get()[0] = 0;
+  }
+
+  public static int get() {
+    return COUNT.get()[0];
+  }
+
+  static void increment() {
+    COUNT.get()[0]++;
+  }
+}
@@ -0,0 +1,28 @@
+package com.event_calendar.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.JdbcSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class SqlTracingConfig {
+
+  @Bean
+  public HibernatePropertiesCustomizer sqlTracingInspector(@Value("${events.sql.sample-rate:0}") double sampleRate) {
+    return properties -> properties.put(JdbcSettings.STATEMENT_INSPECTOR, new SqlTracingInspector(sampleRate));
+  }
+
+  @Bean
+  public FilterRegistrationBean<SqlStatementCountFilter> sqlStatementCountFilter(MeterRegistry meterRegistry,
+          @Value("${events.sql.warn-statements-per-request:20}") int warnThreshold) {
+    FilterRegistrationBean<SqlStatementCountFilter> registration = new FilterRegistrationBean<>(
+            new SqlStatementCountFilter(meterRegistry, warnThreshold));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+    return registration;
+  }
+}
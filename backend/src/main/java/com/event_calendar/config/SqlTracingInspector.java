@@ -0,0 +1,30 @@
+package com.event_calendar.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sees every statement Hibernate prepares: counts it for the current request and logs a random sample of them. Slow
+ * statements are logged by Hibernate itself ({@code hibernate.log_slow_query}).
+ */
+@Slf4j(topic = "com.event_calendar.sql")
+class SqlTracingInspector implements StatementInspector {
+
+  private final double sampleRate;
+
+  SqlTracingInspector(double sampleRate) {
+    this.sampleRate = sampleRate;
+  }
+
+  @Override
+  public String inspect(String sql) {
+    SqlStatementCounter.increment();
+    if (sampleRate > 0 && ThreadLocalRandom.current()
+            .nextDouble() < sampleRate) {
+      log.info("Sampled SQL: {}", sql);
+    }
+    return sql;
+  }
+}
@@ -0,0 +1,38 @@
+package com.event_calendar.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Only active when {@code spring.threads.virtual.enabled} is set and the JVM supports virtual threads (Java 21+); see
+ * the {@code virtual-threads} profile.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+  /**
+   * Without an explicit {@code events.concurrency.max-in-flight}, requests may use every pooled connection except
+   * {@code events.concurrency.reserved-connections}, which stay free for the scheduled archive jobs.
+   */
+  @Bean
+  public FilterRegistrationBean<ConnectionPoolLimitFilter> connectionPoolLimitFilter(
+          @Value("${events.concurrency.max-in-flight:0}") int maxInFlight,
+          @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+          @Value("${events.concurrency.reserved-connections:2}") int reservedConnections,
+          @Value("${events.concurrency.acquire-timeout:5s}") Duration acquireTimeout, ObjectMapper objectMapper) {
+    int limit = maxInFlight > 0 ? maxInFlight : ConnectionPoolLimitFilter.maxInFlight(poolSize, reservedConnections);
+    FilterRegistrationBean<ConnectionPoolLimitFilter> registration = new FilterRegistrationBean<>(
+            new ConnectionPoolLimitFilter(limit, acquireTimeout, objectMapper));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+    return registration;
+  }
+}
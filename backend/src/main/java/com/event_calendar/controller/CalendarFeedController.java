@@ -0,0 +1,75 @@
+package com.event_calendar.controller;
+
+import com.event_calendar.exception.InvalidTimeRangeException;
+import com.event_calendar.repository.projection.EventCollectionVersion;
+import com.event_calendar.service.EventService;
+import com.event_calendar.util.DateUtils;
+import com.event_calendar.util.ETagUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * iCalendar feed for calendar subscriptions. Subscribing clients poll the same URL over and over, so the feed is
+ * validated with the collection version first and only streamed when it changed.
+ */
+@RestController
+public class CalendarFeedController {
+
+  private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+  private final EventService eventService;
+
+  @Autowired
+  public CalendarFeedController(EventService eventService) {
+    this.eventService = eventService;
+  }
+
+  // Subscription clients cannot send headers, so a range without X-Timezone is read in UTC.
+  @GetMapping("/events.ics")
+  public ResponseEntity<StreamingResponseBody> getCalendarFeed(
+          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+          @RequestHeader(value = "X-Timezone", defaultValue = "UTC") String timezoneHeader, WebRequest webRequest) {
+    ZoneId zoneId = DateUtils.parseZone(timezoneHeader);
+    if ((from == null) != (to == null)) {
+      throw new InvalidTimeRangeException("Both 'from' and 'to' must be provided");
+    }
+    EventCollectionVersion version = eventService.getEventsVersion(from, to, zoneId);
+    String etag = ETagUtils.forCalendar(version, zoneId);
+    long lastModified = version.getLastModified() != null ? version.getLastModified()
+            .toEpochMilli() : -1;
+    if (webRequest.checkNotModified(etag, lastModified)) {
+      return null;
+    }
+
+    StreamingResponseBody body = outputStream -> {
+      Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+      eventService.exportCalendar(from, to, zoneId, writer);
+    };
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(TEXT_CALENDAR)
+            .eTag(etag)
+            .cacheControl(CacheControl.noCache())
+            .varyBy("X-Timezone");
+    if (version.getLastModified() != null) {
+      response.lastModified(version.getLastModified());
+    }
+    return response.body(body);
+  }
+}
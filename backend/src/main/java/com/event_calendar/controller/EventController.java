@@ -1,13 +1,40 @@
 package com.event_calendar.controller;
 
+import com.event_calendar.dto.EventBatchRequestDTO;
+import com.event_calendar.dto.EventBatchResultDTO;
+import com.event_calendar.dto.EventBusyIntervalDTO;
+import com.event_calendar.dto.EventConflictDTO;
 import com.event_calendar.dto.EventDTO;
+import com.event_calendar.dto.EventFreeSlotDTO;
+import com.event_calendar.dto.EventImportResultDTO;
+import com.event_calendar.dto.EventPageDTO;
+import com.event_calendar.dto.EventSyncDTO;
+import com.event_calendar.exception.UnsupportedExportFormatException;
 import com.event_calendar.mapper.EventMapper;
 import com.event_calendar.service.EventService;
+import com.event_calendar.service.freebusy.WorkingHours;
+import com.event_calendar.util.DateUtils;
+import com.event_calendar.util.ETagUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
 
@@ -16,45 +43,145 @@ import java.util.List;
 public class EventController {
 
   private final EventService eventService;
+  private final ObjectMapper objectMapper;
 
   @Autowired
-  public EventController(EventService eventService, EventMapper eventMapper) {
+  public EventController(EventService eventService, EventMapper eventMapper, ObjectMapper objectMapper) {
     this.eventService = eventService;
+    this.objectMapper = objectMapper;
   }
 
   @PostMapping
   public ResponseEntity<EventDTO> createEvent(@Valid @RequestBody EventDTO eventDTO, @RequestHeader(value = "X-Timezone") String timezoneHeader) {
-    ZoneId zoneId = ZoneId.of(timezoneHeader);
+    ZoneId zoneId = DateUtils.parseZone(timezoneHeader);
     EventDTO createdEvent = eventService.createEvent(eventDTO, zoneId);
     return ResponseEntity.ok()
             .body(createdEvent);
   }
 
-  @GetMapping
-  public ResponseEntity<List<EventDTO>> getAllEvents(@RequestHeader(value = "X-Timezone") String timezoneHeader) {
-    ZoneId zoneId = ZoneId.of(timezoneHeader);
-    List<EventDTO> events = eventService.getAllEvents(zoneId);
+  @PostMapping("/batch")
+  public ResponseEntity<EventBatchResultDTO> applyBatch(@RequestBody EventBatchRequestDTO batch,
+          @RequestHeader(value = "X-Timezone") String timezoneHeader) {
+    ZoneId zoneId = DateUtils.parseZone(timezoneHeader);
+    EventBatchResultDTO result = eventService.applyBatch(batch, zoneId);
+    return ResponseEntity.ok(result);
+  }
+
+  @PostMapping(value = "/import", consumes = "text/calendar")
+  public ResponseEntity<EventImportResultDTO> importEvents(InputStream body,
+          @RequestHeader(value = "X-Timezone") String timezoneHeader) {
+    ZoneId zoneId = DateUtils.parseZone(timezoneHeader);
+    EventImportResultDTO result = eventService.importEvents(new InputStreamReader(body, StandardCharsets.UTF_8), zoneId);
+    return ResponseEntity.ok(result);
+  }
+
+  @GetMapping("/page")
+  public ResponseEntity<EventPageDTO> getEventsPage(@RequestParam(required = false) String cursor,
+          @RequestParam(defaultValue = "50") int limit, @RequestHeader(value = "X-Timezone") String timezoneHeader) {
+    ZoneId zoneId = DateUtils.parseZone(timezoneHeader);
+    EventPageDTO page = eventService.getEventsPage(cursor, limit, zoneId);
+    return ResponseEntity.ok(page);
+  }
+
+  @GetMapping("/sync")
+  public ResponseEntity<EventSyncDTO> syncEvents(@RequestParam(required = false) String token,
+          @RequestParam(defaultValue = "200") int limit, @RequestHeader(value = "X-Timezone") String timezoneHeader) {
+    ZoneId zoneId = DateUtils.parseZone(timezoneHeader);
+    EventSyncDTO sync = eventService.syncEvents(token, limit, zoneId);
+    return ResponseEntity.ok(sync);
+  }
+
+  @GetMapping("/at")
+  public ResponseEntity<List<EventDTO>> getEventsAt(
+          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime time,
+          @RequestHeader(value = "X-Timezone") String timezoneHeader) {
+    ZoneId zoneId = DateUtils.parseZone(timezoneHeader);
+    List<EventDTO> events = eventService.getEventsAt(time, zoneId);
     return ResponseEntity.ok(events);
   }
 
-  @GetMapping("/{id}")
-  public ResponseEntity<EventDTO> getEventById(@PathVariable Long id, @RequestHeader(value = "X-Timezone") String timezoneHeader) {
-    ZoneId zoneId = ZoneId.of(timezoneHeader);
-    EventDTO event = eventService.getEventById(id, zoneId);
-    return ResponseEntity.ok(event);
+  @GetMapping("/conflicts")
+  public ResponseEntity<List<EventConflictDTO>> getConflicts(
+          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+          @RequestHeader(value = "X-Timezone") String timezoneHeader) {
+    ZoneId zoneId = DateUtils.parseZone(timezoneHeader);
+    List<EventConflictDTO> conflicts = eventService.getConflicts(from, to, zoneId);
+    return ResponseEntity.ok(conflicts);
+  }
+
+  @GetMapping("/freebusy")
+  public ResponseEntity<List<EventBusyIntervalDTO>> getFreeBusy(
+          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+          @RequestHeader(value = "X-Timezone") String timezoneHeader) {
+    ZoneId zoneId = DateUtils.parseZone(timezoneHeader);
+    return ResponseEntity.ok(eventService.getFreeBusy(from, to, zoneId));
+  }
+
+  @GetMapping("/availability")
+  public ResponseEntity<List<EventFreeSlotDTO>> findFreeSlots(@RequestParam Duration duration,
+          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+          @RequestParam(required = false) String workingHours, @RequestParam(required = false) String workingDays,
+          @RequestParam(defaultValue = "5") int limit, @RequestHeader(value = "X-Timezone") String timezoneHeader) {
+    ZoneId zoneId = DateUtils.parseZone(timezoneHeader);
+    List<EventFreeSlotDTO> slots = eventService.findFreeSlots(from, to, duration, WorkingHours.parse(workingHours,
+            workingDays), limit, zoneId);
+    return ResponseEntity.ok(slots);
+  }
+
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportEvents(@RequestParam(defaultValue = "json") String format,
+          @RequestHeader(value = "X-Timezone") String timezoneHeader) {
+    ZoneId zoneId = DateUtils.parseZone(timezoneHeader);
+    boolean ndjson = "ndjson".equalsIgnoreCase(format);
+    if (!ndjson && !"json".equalsIgnoreCase(format)) {
+      throw new UnsupportedExportFormatException(format);
+    }
+
+    StreamingResponseBody body = outputStream -> {
+      ObjectWriter writer = objectMapper.writerFor(EventDTO.class);
+      try (SequenceWriter sequenceWriter = ndjson
+              ? writer.withRootValueSeparator("\n").writeValues(outputStream)
+              : writer.writeValuesAsArray(outputStream)) {
+        eventService.exportEvents(zoneId, event -> {
+          try {
+            sequenceWriter.write(event);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      }
+    };
+    return ResponseEntity.ok()
+            .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename(ndjson ? "events.ndjson" : "events.json")
+                    .build()
+                    .toString())
+            .body(body);
   }
 
   @PutMapping("/{id}")
   public ResponseEntity<EventDTO> updateEvent(@PathVariable Long id, @Valid @RequestBody EventDTO eventDTO,
-          @RequestHeader(value = "X-Timezone") String timezoneHeader) {
-    ZoneId zoneId = ZoneId.of(timezoneHeader);
-    EventDTO updatedEvent = eventService.updateEvent(id, eventDTO, zoneId);
-    return ResponseEntity.ok(updatedEvent);
+          @RequestHeader(value = "X-Timezone") String timezoneHeader,
+          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+    ZoneId zoneId = DateUtils.parseZone(timezoneHeader);
+    Long expectedVersion = ETagUtils.parseEventVersion(id, ifMatch);
+    EventDTO updatedEvent = eventService.updateEvent(id, eventDTO, expectedVersion, zoneId);
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+    // Without a precondition the update does not learn which version it produced.
+    if (expectedVersion != null) {
+      response.eTag(ETagUtils.forEvent(id, expectedVersion + 1, zoneId));
+    }
+    return response.body(updatedEvent);
   }
 
   @DeleteMapping("/{id}")
-  public ResponseEntity<Void> deleteEvent(@PathVariable Long id) {
-    eventService.deleteEvent(id);
+  public ResponseEntity<Void> deleteEvent(@PathVariable Long id,
+          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+    eventService.deleteEvent(id, ETagUtils.parseEventVersion(id, ifMatch));
     return ResponseEntity.noContent()
             .build();
   }
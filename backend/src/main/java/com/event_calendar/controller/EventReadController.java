@@ -0,0 +1,91 @@
+package com.event_calendar.controller;
+
+import com.event_calendar.dto.EventDTO;
+import com.event_calendar.exception.InvalidTimeRangeException;
+import com.event_calendar.repository.projection.EventCollectionVersion;
+import com.event_calendar.repository.projection.EventVersion;
+import com.event_calendar.service.EventService;
+import com.event_calendar.util.DateUtils;
+import com.event_calendar.util.ETagUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * The plain event reads. Kept apart from {@link EventController} so that {@code events.read-stack=r2dbc} can swap
+ * them for the reactive variant without touching the rest of the API.
+ */
+@RestController
+@RequestMapping("/events")
+@ConditionalOnProperty(name = "events.read-stack", havingValue = "jpa", matchIfMissing = true)
+public class EventReadController {
+
+  private static final String TIMEZONE_HEADER = "X-Timezone";
+
+  private final EventService eventService;
+
+  @Autowired
+  public EventReadController(EventService eventService) {
+    this.eventService = eventService;
+  }
+
+  @GetMapping
+  public ResponseEntity<List<EventDTO>> getAllEvents(
+          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+          @RequestHeader(value = "X-Timezone") String timezoneHeader, WebRequest webRequest) {
+    ZoneId zoneId = DateUtils.parseZone(timezoneHeader);
+    if ((from == null) != (to == null)) {
+      throw new InvalidTimeRangeException("Both 'from' and 'to' must be provided");
+    }
+    EventCollectionVersion version = eventService.getEventsVersion(from, to, zoneId);
+    String etag = ETagUtils.forCollection(version, zoneId);
+    long lastModified = version.getLastModified() != null ? version.getLastModified()
+            .toEpochMilli() : -1;
+    if (webRequest.checkNotModified(etag, lastModified)) {
+      return null;
+    }
+
+    List<EventDTO> events = from == null ? eventService.getAllEvents(zoneId) : eventService.getEventsInRange(from, to, zoneId);
+    return conditional(ResponseEntity.ok(), etag, version.getLastModified()).body(events);
+  }
+
+  @GetMapping("/{id}")
+  public ResponseEntity<EventDTO> getEventById(@PathVariable Long id, @RequestHeader(value = "X-Timezone") String timezoneHeader,
+          WebRequest webRequest) {
+    ZoneId zoneId = DateUtils.parseZone(timezoneHeader);
+    EventVersion version = eventService.getEventVersion(id);
+    String etag = ETagUtils.forEvent(id, version.getVersion(), zoneId);
+    if (webRequest.checkNotModified(etag, version.getLastModified()
+            .toEpochMilli())) {
+      return null;
+    }
+
+    EventDTO event = eventService.getEventById(id, version.getVersion(), zoneId);
+    return conditional(ResponseEntity.ok(), etag, version.getLastModified()).body(event);
+  }
+
+  private static ResponseEntity.BodyBuilder conditional(ResponseEntity.BodyBuilder builder, String etag, Instant lastModified) {
+    builder.eTag(etag)
+            .cacheControl(CacheControl.noCache())
+            .varyBy(TIMEZONE_HEADER);
+    if (lastModified != null) {
+      builder.lastModified(lastModified);
+    }
+    return builder;
+  }
+}
@@ -0,0 +1,40 @@
+package com.event_calendar.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+public class EventBatchItemDTO {
+
+  public enum Operation {
+    CREATE, UPDATE, DELETE
+  }
+
+  public enum Status {
+    CREATED, UPDATED, DELETED, INVALID, NOT_FOUND, CONFLICT
+  }
+
+  private Operation operation;
+
+  /**
+   * Position of the item within its operation's list in the request.
+   */
+  private int index;
+
+  private Long id;
+
+  private Status status;
+
+  private Map<String, String> errors;
+
+  private List<Long> conflictingEventIds;
+
+  public EventBatchItemDTO(Operation operation, int index) {
+    this.operation = operation;
+    this.index = index;
+  }
+}
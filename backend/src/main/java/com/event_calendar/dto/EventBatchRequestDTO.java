@@ -0,0 +1,19 @@
+package com.event_calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventBatchRequestDTO {
+
+  private List<EventDTO> create;
+
+  private List<EventDTO> update;
+
+  private List<Long> delete;
+}
@@ -0,0 +1,17 @@
+package com.event_calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventBusyIntervalDTO {
+
+  private LocalDateTime start;
+
+  private LocalDateTime end;
+}
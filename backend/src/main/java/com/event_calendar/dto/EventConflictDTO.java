@@ -0,0 +1,21 @@
+package com.event_calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventConflictDTO {
+
+  private Long firstEventId;
+
+  private Long secondEventId;
+
+  private LocalDateTime overlapStart;
+
+  private LocalDateTime overlapEnd;
+}
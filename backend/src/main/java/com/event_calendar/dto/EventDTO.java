@@ -1,6 +1,7 @@
 package com.event_calendar.dto;
 
 import com.event_calendar.validator.ValidEventDateTime;
+import com.event_calendar.validator.ValidRecurrenceRule;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -9,6 +10,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -32,4 +34,12 @@ public class EventDTO {
 
   @Size(max = 255, message = "Location must be less than 255 characters")
   private String location;
+
+  @Size(max = 255, message = "Recurrence rule must be less than 255 characters")
+  @ValidRecurrenceRule
+  private String recurrenceRule;
+
+  private List<LocalDateTime> recurrenceExceptions;
+
+  private List<Long> conflictingEventIds;
 }
@@ -0,0 +1,22 @@
+package com.event_calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventImportErrorDTO {
+
+  /**
+   * Line of the event's BEGIN:VEVENT in the uploaded file.
+   */
+  private int line;
+
+  private String uid;
+
+  private Map<String, String> errors;
+}
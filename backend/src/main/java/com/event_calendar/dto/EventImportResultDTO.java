@@ -0,0 +1,24 @@
+package com.event_calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventImportResultDTO {
+
+  private int imported;
+
+  private int rejected;
+
+  /**
+   * The first rejected events with their reasons; {@code errorsTruncated} tells whether more were left out.
+   */
+  private List<EventImportErrorDTO> errors;
+
+  private boolean errorsTruncated;
+}
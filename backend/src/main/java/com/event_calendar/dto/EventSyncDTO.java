@@ -0,0 +1,21 @@
+package com.event_calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSyncDTO {
+
+  private List<EventDTO> changed;
+
+  private List<Long> deleted;
+
+  private String nextToken;
+
+  private boolean hasMore;
+}
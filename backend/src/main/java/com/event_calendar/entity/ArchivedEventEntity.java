@@ -0,0 +1,53 @@
+package com.event_calendar.entity;
+
+import com.event_calendar.repository.projection.EventDetails;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * An event that ended before the archive horizon, moved out of the {@code event} table as it was. Rows only get here,
+ * and back, by being copied between the two tables; see {@link com.event_calendar.service.archive.EventArchive}.
+ */
+@Entity
+@Table(name = "event_archive")
+
+@Data
+public class ArchivedEventEntity implements EventDetails {
+  @Id
+  private Long id;
+
+  @Column(nullable = false)
+  private String title;
+
+  @Column(columnDefinition = "TEXT")
+  private String description;
+
+  @Column(nullable = false)
+  private Instant startDateTime;
+
+  @Column(nullable = false)
+  private Instant endDateTime;
+
+  @Column(columnDefinition = "TEXT")
+  private String location;
+
+  @Column(nullable = false)
+  private long changeSeq;
+
+  private String recurrenceRule;
+
+  @Column(columnDefinition = "TEXT")
+  private String recurrenceExceptions;
+
+  private String timeZone;
+
+  private Instant recurrenceEnd;
+
+  private long version;
+
+  private Instant createdAt;
+
+  private Instant updatedAt;
+}
@@ -0,0 +1,22 @@
+package com.event_calendar.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Entity
+@Table(name = "event_change_sequence")
+
+@Data
+public class ChangeSequenceEntity {
+  @Id
+  private String name;
+
+  @Column(nullable = false)
+  private long nextValue;
+
+  @Column(nullable = false)
+  private long nextEventId;
+}
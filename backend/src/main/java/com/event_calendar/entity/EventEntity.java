@@ -1,5 +1,7 @@
 package com.event_calendar.entity;
 
+import com.event_calendar.repository.projection.EventDetails;
+import com.event_calendar.service.sync.EventId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
@@ -13,9 +15,9 @@ import java.time.Instant;
 @Table(name = "event")
 
 @Data
-public class EventEntity {
+public class EventEntity implements EventDetails {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @EventId
   private Long id;
 
   @Column(nullable = false)
@@ -34,6 +36,21 @@ public class EventEntity {
   @Column(columnDefinition = "TEXT")
   private String location;
 
+  @Column(nullable = false)
+  private long changeSeq;
+
+  private String recurrenceRule;
+
+  @Column(columnDefinition = "TEXT")
+  private String recurrenceExceptions;
+
+  private String timeZone;
+
+  private Instant recurrenceEnd;
+
+  @Version
+  private long version;
+
   @CreationTimestamp
   private Instant createdAt;
 
@@ -0,0 +1,46 @@
+package com.event_calendar.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "event_tombstone")
+
+@Data
+@NoArgsConstructor
+public class EventTombstoneEntity implements Persistable<Long> {
+  @Id
+  private Long eventId;
+
+  @Column(nullable = false)
+  private long changeSeq;
+
+  @CreationTimestamp
+  private Instant deletedAt;
+
+  public EventTombstoneEntity(Long eventId, long changeSeq) {
+    this.eventId = eventId;
+    this.changeSeq = changeSeq;
+  }
+
+  @Override
+  public Long getId() {
+    return eventId;
+  }
+
+  /**
+   * Tombstones carry the deleted event's id, so without this Spring Data would merge, and first select, every new one.
+   */
+  @Override
+  public boolean isNew() {
+    return deletedAt == null;
+  }
+}
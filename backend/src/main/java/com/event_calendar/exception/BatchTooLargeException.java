@@ -0,0 +1,7 @@
+package com.event_calendar.exception;
+
+public class BatchTooLargeException extends RuntimeException {
+  public BatchTooLargeException(int size, int limit) {
+    super("Batch of " + size + " items exceeds the limit of " + limit);
+  }
+}
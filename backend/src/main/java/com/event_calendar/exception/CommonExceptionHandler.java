@@ -3,6 +3,7 @@ package com.event_calendar.exception;
 import com.event_calendar.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -33,6 +34,46 @@ public class CommonExceptionHandler {
             .body(errorResponse);
   }
 
+  @ExceptionHandler(EventConflictException.class)
+  public ResponseEntity<ErrorResponse> handleEventConflict(EventConflictException ex) {
+    ErrorResponse errorResponse = ErrorResponse.builder()
+            .timestamp(Instant.now())
+            .status(HttpStatus.CONFLICT.value())
+            .error(ex.getMessage())
+            .message(HttpStatus.CONFLICT.getReasonPhrase())
+            .build();
+
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(errorResponse);
+  }
+
+  @ExceptionHandler(EventVersionMismatchException.class)
+  public ResponseEntity<ErrorResponse> handleVersionMismatch(EventVersionMismatchException ex) {
+    ErrorResponse errorResponse = ErrorResponse.builder()
+            .timestamp(Instant.now())
+            .status(HttpStatus.PRECONDITION_FAILED.value())
+            .error(ex.getMessage())
+            .message(HttpStatus.PRECONDITION_FAILED.getReasonPhrase())
+            .build();
+
+    return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+            .body(errorResponse);
+  }
+
+  // A batch wrote an event that another request changed after the batch read it.
+  @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+  public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+    ErrorResponse errorResponse = ErrorResponse.builder()
+            .timestamp(Instant.now())
+            .status(HttpStatus.CONFLICT.value())
+            .error("Event with id " + ex.getIdentifier() + " was modified concurrently")
+            .message(HttpStatus.CONFLICT.getReasonPhrase())
+            .build();
+
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(errorResponse);
+  }
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
 
@@ -63,6 +104,20 @@ public class CommonExceptionHandler {
             .body(error);
   }
 
+  @ExceptionHandler({InvalidTimeRangeException.class, InvalidCursorException.class, UnsupportedExportFormatException.class,
+          BatchTooLargeException.class, InvalidRecurrenceRuleException.class, InvalidTimezoneException.class,
+          InvalidWorkingHoursException.class})
+  public ResponseEntity<ErrorResponse> handleInvalidQuery(RuntimeException ex) {
+    ErrorResponse error = ErrorResponse.builder()
+            .status(HttpStatus.BAD_REQUEST.value())
+            .timestamp(Instant.now())
+            .error(ex.getMessage())
+            .message(HttpStatus.BAD_REQUEST.getReasonPhrase())
+            .build();
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+            .body(error);
+  }
+
   private String getErrorMessage(FieldError error) {
     return error.getDefaultMessage() != null ? error.getDefaultMessage() : "Invalid value";
   }
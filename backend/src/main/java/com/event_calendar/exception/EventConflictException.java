@@ -0,0 +1,16 @@
+package com.event_calendar.exception;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class EventConflictException extends RuntimeException {
+
+  private final List<Long> conflictingEventIds;
+
+  public EventConflictException(List<Long> conflictingEventIds) {
+    super("Event overlaps existing events " + conflictingEventIds);
+    this.conflictingEventIds = conflictingEventIds;
+  }
+}
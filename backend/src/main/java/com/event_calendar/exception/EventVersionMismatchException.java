@@ -0,0 +1,7 @@
+package com.event_calendar.exception;
+
+public class EventVersionMismatchException extends RuntimeException {
+  public EventVersionMismatchException(Long id) {
+    super("Event with id " + id + " has been modified since the given version");
+  }
+}
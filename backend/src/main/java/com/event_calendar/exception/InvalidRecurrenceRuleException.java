@@ -0,0 +1,7 @@
+package com.event_calendar.exception;
+
+public class InvalidRecurrenceRuleException extends RuntimeException {
+  public InvalidRecurrenceRuleException(String rule, String reason) {
+    super("Invalid recurrence rule " + rule + ": " + reason);
+  }
+}
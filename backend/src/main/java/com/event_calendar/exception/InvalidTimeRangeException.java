@@ -0,0 +1,7 @@
+package com.event_calendar.exception;
+
+public class InvalidTimeRangeException extends RuntimeException {
+  public InvalidTimeRangeException(String message) {
+    super(message);
+  }
+}
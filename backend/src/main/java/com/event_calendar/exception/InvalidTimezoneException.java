@@ -0,0 +1,7 @@
+package com.event_calendar.exception;
+
+public class InvalidTimezoneException extends RuntimeException {
+  public InvalidTimezoneException(String timezone) {
+    super("Invalid time zone " + timezone);
+  }
+}
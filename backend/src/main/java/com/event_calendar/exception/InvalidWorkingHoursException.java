@@ -0,0 +1,7 @@
+package com.event_calendar.exception;
+
+public class InvalidWorkingHoursException extends RuntimeException {
+  public InvalidWorkingHoursException(String message) {
+    super(message);
+  }
+}
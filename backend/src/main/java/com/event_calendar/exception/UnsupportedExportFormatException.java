@@ -0,0 +1,7 @@
+package com.event_calendar.exception;
+
+public class UnsupportedExportFormatException extends RuntimeException {
+  public UnsupportedExportFormatException(String format) {
+    super("Unsupported export format " + format + ", expected json or ndjson");
+  }
+}
@@ -2,11 +2,18 @@ package com.event_calendar.mapper;
 
 import com.event_calendar.dto.EventDTO;
 import com.event_calendar.entity.EventEntity;
+import com.event_calendar.repository.projection.EventDetails;
+import com.event_calendar.service.recurrence.RecurrenceRule;
+import com.event_calendar.service.recurrence.RecurrenceSeries;
 import com.event_calendar.util.DateUtils;
 import com.event_calendar.util.StringUtils;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
 
 @Component
 public class EventMapper {
@@ -20,11 +27,12 @@ public class EventMapper {
     entity.setDescription(StringUtils.trim(dto.getDescription()));
     entity.setStartDateTime(DateUtils.toInstant(dto.getStartDateTime(), zoneId));
     entity.setEndDateTime(DateUtils.toInstant(dto.getEndDateTime(), zoneId));
-    entity.setLocation(StringUtils.trim(dto.getTitle()));
+    entity.setLocation(StringUtils.trim(dto.getLocation()));
+    applyRecurrence(dto, zoneId, entity);
     return entity;
   }
 
-  public EventDTO toResponseDTO(EventEntity entity, ZoneId zoneId) {
+  public EventDTO toResponseDTO(EventDetails entity, ZoneId zoneId) {
     if (entity == null) {
       return null;
     }
@@ -32,13 +40,25 @@ public class EventMapper {
     dto.setId(entity.getId());
     dto.setTitle(entity.getTitle());
     dto.setDescription(entity.getDescription());
-    dto.setStartDateTime(entity.getStartDateTime()
-            .atZone(zoneId)
-            .toLocalDateTime());
-    dto.setEndDateTime(entity.getEndDateTime()
-            .atZone(zoneId)
-            .toLocalDateTime());
+    dto.setStartDateTime(DateUtils.toLocalDateTime(entity.getStartDateTime(), zoneId));
+    dto.setEndDateTime(DateUtils.toLocalDateTime(entity.getEndDateTime(), zoneId));
     dto.setLocation(entity.getLocation());
+    if (entity.getRecurrenceRule() != null) {
+      dto.setRecurrenceRule(entity.getRecurrenceRule());
+      dto.setRecurrenceExceptions(Arrays.stream(RecurrenceSeries.parseExceptions(entity.getRecurrenceExceptions()))
+              .mapToObj(exception -> DateUtils.toLocalDateTime(Instant.ofEpochMilli(exception), zoneId))
+              .toList());
+    }
+    return dto;
+  }
+
+  /**
+   * Maps one occurrence of a recurring event: the series' fields with the occurrence's start and end.
+   */
+  public EventDTO toOccurrenceDTO(EventDetails entity, Instant start, Instant end, ZoneId zoneId) {
+    EventDTO dto = toResponseDTO(entity, zoneId);
+    dto.setStartDateTime(DateUtils.toLocalDateTime(start, zoneId));
+    dto.setEndDateTime(DateUtils.toLocalDateTime(end, zoneId));
     return dto;
   }
 
@@ -48,6 +68,33 @@ public class EventMapper {
     existingEvent.setStartDateTime(DateUtils.toInstant(eventDetails.getStartDateTime(), zoneId));
     existingEvent.setEndDateTime(DateUtils.toInstant(eventDetails.getEndDateTime(), zoneId));
     existingEvent.setLocation(StringUtils.trim(eventDetails.getLocation()));
+    applyRecurrence(eventDetails, zoneId, existingEvent);
+  }
+
+  /**
+   * Stores the rule in normalized form, evaluated in the caller's zone, together with the end of its last occurrence
+   * so that range queries can skip finished series.
+   */
+  private void applyRecurrence(EventDTO dto, ZoneId zoneId, EventEntity entity) {
+    String rule = StringUtils.trim(dto.getRecurrenceRule());
+    if (rule == null || rule.isEmpty()) {
+      entity.setRecurrenceRule(null);
+      entity.setRecurrenceExceptions(null);
+      entity.setTimeZone(null);
+      entity.setRecurrenceEnd(null);
+      return;
+    }
+    entity.setRecurrenceRule(RecurrenceRule.parse(rule)
+            .toString());
+    entity.setTimeZone(zoneId.getId());
+    List<LocalDateTime> exceptions = dto.getRecurrenceExceptions();
+    entity.setRecurrenceExceptions(exceptions == null ? null : RecurrenceSeries.formatExceptions(exceptions.stream()
+            .map(exception -> DateUtils.toInstant(exception, zoneId))
+            .toList()));
+    // Cleared first so the series computes its end from the rule instead of reusing the stored one.
+    entity.setRecurrenceEnd(null);
+    entity.setRecurrenceEnd(RecurrenceSeries.of(entity)
+            .getEnd());
   }
 
 }
\ No newline at end of file
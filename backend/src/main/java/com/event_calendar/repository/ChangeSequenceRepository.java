@@ -0,0 +1,19 @@
+package com.event_calendar.repository;
+
+import com.event_calendar.entity.ChangeSequenceEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ChangeSequenceRepository extends JpaRepository<ChangeSequenceEntity, String> {
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select s from ChangeSequenceEntity s where s.name = :name")
+  Optional<ChangeSequenceEntity> findForUpdate(@Param("name") String name);
+}
@@ -0,0 +1,126 @@
+package com.event_calendar.repository;
+
+import com.event_calendar.entity.ArchivedEventEntity;
+import com.event_calendar.repository.projection.EventCollectionVersion;
+import com.event_calendar.repository.projection.EventInterval;
+import com.event_calendar.repository.projection.EventVersion;
+import com.event_calendar.repository.projection.EventView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Reads of the {@code event_archive} table, mirroring those of {@link EventRepository}. Only single events are
+ * archived, so there is no recurring variant of the window queries.
+ */
+@Repository
+public interface EventArchiveRepository extends JpaRepository<ArchivedEventEntity, Long> {
+
+  String COLUMNS = "id, title, description, start_date_time, end_date_time, location, change_seq, recurrence_rule, "
+          + "recurrence_exceptions, time_zone, recurrence_end, version, created_at, updated_at";
+
+  String SELECT_VIEW = "select new com.event_calendar.repository.projection.EventView(e.id, e.title, e.description, "
+          + "e.startDateTime, e.endDateTime, e.location, e.changeSeq, e.recurrenceRule, e.recurrenceExceptions, "
+          + "e.timeZone, e.recurrenceEnd, e.version, e.createdAt, e.updatedAt) from ArchivedEventEntity e ";
+
+  @Query(SELECT_VIEW)
+  List<EventView> findAllViews();
+
+  @Query(SELECT_VIEW + "where e.id = :id")
+  Optional<EventView> findViewById(@Param("id") Long id);
+
+  @Query("select new com.event_calendar.repository.projection.EventVersion(e.version, coalesce(e.updatedAt, e.createdAt)) "
+          + "from ArchivedEventEntity e where e.id = :id")
+  Optional<EventVersion> findVersionById(@Param("id") Long id);
+
+  @Query(SELECT_VIEW + "where e.id in :ids")
+  List<EventView> findViewsById(@Param("ids") Collection<Long> ids);
+
+  @Query("select e.id from ArchivedEventEntity e where e.id in :ids")
+  List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+  @Query(SELECT_VIEW + "where e.startDateTime < :to and e.endDateTime > :from order by e.startDateTime, e.id")
+  List<EventView> findOverlapping(@Param("from") Instant from, @Param("to") Instant to);
+
+  @Query("select new com.event_calendar.repository.projection.EventInterval(e.id, e.startDateTime, e.endDateTime, "
+          + "e.recurrenceRule, e.timeZone, e.recurrenceExceptions, e.recurrenceEnd) from ArchivedEventEntity e "
+          + "where e.startDateTime < :to and e.endDateTime > :from")
+  List<EventInterval> findIntervalsOverlapping(@Param("from") Instant from, @Param("to") Instant to);
+
+  @Query("select new com.event_calendar.repository.projection.EventCollectionVersion(count(e), max(e.updatedAt)) "
+          + "from ArchivedEventEntity e")
+  EventCollectionVersion findCollectionVersion();
+
+  @Query("select new com.event_calendar.repository.projection.EventCollectionVersion(count(e), max(e.updatedAt)) "
+          + "from ArchivedEventEntity e where e.startDateTime < :to and e.endDateTime > :from")
+  EventCollectionVersion findCollectionVersion(@Param("from") Instant from, @Param("to") Instant to);
+
+  @Query(SELECT_VIEW + "order by e.startDateTime, e.id")
+  List<EventView> findFirstPage(Limit limit);
+
+  @Query(SELECT_VIEW + "where e.startDateTime >= :start and (e.startDateTime > :start or e.id > :id) "
+          + "order by e.startDateTime, e.id")
+  List<EventView> findPageAfter(@Param("start") Instant start, @Param("id") Long id, Limit limit);
+
+  @Query(SELECT_VIEW + "where e.changeSeq > :changeSeq order by e.changeSeq")
+  List<EventView> findByChangeSeqGreaterThanOrderByChangeSeq(@Param("changeSeq") long changeSeq, Limit limit);
+
+  @Query("select max(e.endDateTime) from ArchivedEventEntity e")
+  Optional<Instant> findLatestEnd();
+
+  @Modifying
+  @Query("delete from ArchivedEventEntity e where e.id = :id and (:version is null or e.version = :version)")
+  int deleteIfVersion(@Param("id") Long id, @Param("version") Long version);
+
+  /**
+   * Copies the given rows of {@code event} into the archive; the caller deletes them from {@code event}.
+   */
+  @Modifying
+  @Query(value = "insert into event_archive (" + COLUMNS + ") select " + COLUMNS + " from event where id in :ids",
+          nativeQuery = true)
+  int copyFromEvents(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Copies the given archived rows back into {@code event}; the caller deletes them from the archive.
+   */
+  @Modifying
+  @Query(value = "insert into event (" + COLUMNS + ") select " + COLUMNS + " from event_archive where id in :ids",
+          nativeQuery = true)
+  int copyToEvents(@Param("ids") Collection<Long> ids);
+
+  @QueryHints({
+          @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EventRepository.STREAM_FETCH_SIZE),
+          @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+          @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+  })
+  @Query("select e from ArchivedEventEntity e order by e.id")
+  Stream<ArchivedEventEntity> streamAll();
+
+  @QueryHints({
+          @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EventRepository.STREAM_FETCH_SIZE),
+          @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+          @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+  })
+  @Query("select e from ArchivedEventEntity e where e.startDateTime < :to and e.endDateTime > :from")
+  Stream<ArchivedEventEntity> streamOverlapping(@Param("from") Instant from, @Param("to") Instant to);
+
+  @QueryHints({
+          @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EventRepository.STREAM_FETCH_SIZE),
+          @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+  })
+  @Query("select new com.event_calendar.repository.projection.EventInterval(e.id, e.startDateTime, e.endDateTime, "
+          + "e.recurrenceRule, e.timeZone, e.recurrenceExceptions, e.recurrenceEnd) from ArchivedEventEntity e")
+  Stream<EventInterval> streamIntervals();
+}
@@ -1,9 +1,143 @@
 package com.event_calendar.repository;
 
 import com.event_calendar.entity.EventEntity;
+import com.event_calendar.repository.projection.EventCollectionVersion;
+import com.event_calendar.repository.projection.EventInterval;
+import com.event_calendar.repository.projection.EventVersion;
+import com.event_calendar.repository.projection.EventView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface EventRepository extends JpaRepository<EventEntity, Long> {
+
+  String STREAM_FETCH_SIZE = "1000";
+
+  String SELECT_VIEW = "select new com.event_calendar.repository.projection.EventView(e.id, e.title, e.description, "
+          + "e.startDateTime, e.endDateTime, e.location, e.changeSeq, e.recurrenceRule, e.recurrenceExceptions, "
+          + "e.timeZone, e.recurrenceEnd, e.version, e.createdAt, e.updatedAt) from EventEntity e ";
+
+  @Query(SELECT_VIEW)
+  List<EventView> findAllViews();
+
+  @Query(SELECT_VIEW + "where e.id = :id")
+  Optional<EventView> findViewById(@Param("id") Long id);
+
+  @Query("select new com.event_calendar.repository.projection.EventVersion(e.version, coalesce(e.updatedAt, e.createdAt)) "
+          + "from EventEntity e where e.id = :id")
+  Optional<EventVersion> findVersionById(@Param("id") Long id);
+
+  @Query(SELECT_VIEW + "where e.id in :ids")
+  List<EventView> findViewsById(@Param("ids") Collection<Long> ids);
+
+  @Query(SELECT_VIEW + "where e.startDateTime < :to and e.endDateTime > :from and e.recurrenceRule is null "
+          + "order by e.startDateTime, e.id")
+  List<EventView> findOverlapping(@Param("from") Instant from, @Param("to") Instant to);
+
+  /**
+   * Recurring series that may have an occurrence in {@code [from, to)}; the caller expands them to find out.
+   */
+  @Query(SELECT_VIEW + "where e.recurrenceRule is not null and e.startDateTime < :to "
+          + "and (e.recurrenceEnd is null or e.recurrenceEnd > :from)")
+  List<EventView> findRecurringOverlapping(@Param("from") Instant from, @Param("to") Instant to);
+
+  /**
+   * Intervals of the events and series that may occur in {@code [from, to)}, for checks that must not rely on the
+   * in-memory index.
+   */
+  @Query("select new com.event_calendar.repository.projection.EventInterval(e.id, e.startDateTime, e.endDateTime, "
+          + "e.recurrenceRule, e.timeZone, e.recurrenceExceptions, e.recurrenceEnd) from EventEntity e "
+          + "where e.startDateTime < :to and (e.endDateTime > :from "
+          + "or (e.recurrenceRule is not null and (e.recurrenceEnd is null or e.recurrenceEnd > :from)))")
+  List<EventInterval> findIntervalsOverlapping(@Param("from") Instant from, @Param("to") Instant to);
+
+  @Query("select new com.event_calendar.repository.projection.EventCollectionVersion(count(e), max(e.updatedAt)) "
+          + "from EventEntity e")
+  EventCollectionVersion findCollectionVersion();
+
+  @Query("select new com.event_calendar.repository.projection.EventCollectionVersion(count(e), max(e.updatedAt)) "
+          + "from EventEntity e where e.startDateTime < :to and (e.endDateTime > :from "
+          + "or (e.recurrenceRule is not null and (e.recurrenceEnd is null or e.recurrenceEnd > :from)))")
+  EventCollectionVersion findCollectionVersion(@Param("from") Instant from, @Param("to") Instant to);
+
+  /**
+   * Overwrites the row with {@code event}'s fields and bumps its version in one statement, without loading it first.
+   * With a {@code version} only that version is overwritten. Returns the number of rows changed: 0 when the event does
+   * not exist or has moved on.
+   */
+  @Modifying
+  @Query("update EventEntity e set e.title = :#{#event.title}, e.description = :#{#event.description}, "
+          + "e.startDateTime = :#{#event.startDateTime}, e.endDateTime = :#{#event.endDateTime}, "
+          + "e.location = :#{#event.location}, e.changeSeq = :#{#event.changeSeq}, "
+          + "e.recurrenceRule = :#{#event.recurrenceRule}, e.recurrenceExceptions = :#{#event.recurrenceExceptions}, "
+          + "e.timeZone = :#{#event.timeZone}, e.recurrenceEnd = :#{#event.recurrenceEnd}, "
+          + "e.updatedAt = :#{#event.updatedAt}, e.version = e.version + 1 "
+          + "where e.id = :#{#event.id} and (:version is null or e.version = :version)")
+  int updateIfVersion(@Param("event") EventEntity event, @Param("version") Long version);
+
+  /**
+   * Deletes the row, or with a {@code version} only that version of it. Returns the number of rows deleted.
+   */
+  @Modifying
+  @Query("delete from EventEntity e where e.id = :id and (:version is null or e.version = :version)")
+  int deleteIfVersion(@Param("id") Long id, @Param("version") Long version);
+
+  /**
+   * Single events that ended at or before {@code before}, oldest first; recurring series are never archived.
+   */
+  @Query("select e.id from EventEntity e where e.endDateTime <= :before and e.recurrenceRule is null "
+          + "order by e.endDateTime")
+  List<Long> findArchivableIds(@Param("before") Instant before, Limit limit);
+
+  @Query(SELECT_VIEW + "order by e.startDateTime, e.id")
+  List<EventView> findFirstPage(Limit limit);
+
+  @Query(SELECT_VIEW + "where e.startDateTime >= :start and (e.startDateTime > :start or e.id > :id) "
+          + "order by e.startDateTime, e.id")
+  List<EventView> findPageAfter(@Param("start") Instant start, @Param("id") Long id, Limit limit);
+
+  @Query(SELECT_VIEW + "where e.changeSeq > :changeSeq order by e.changeSeq")
+  List<EventView> findByChangeSeqGreaterThanOrderByChangeSeq(@Param("changeSeq") long changeSeq, Limit limit);
+
+  @QueryHints({
+          @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+          @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+          @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+  })
+  @Query("select e from EventEntity e order by e.id")
+  Stream<EventEntity> streamAll();
+
+  /**
+   * Events and series that may occur in {@code [from, to)}; the same window {@link #findCollectionVersion(Instant,
+   * Instant)} versions.
+   */
+  @QueryHints({
+          @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+          @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+          @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+  })
+  @Query("select e from EventEntity e where e.startDateTime < :to and (e.endDateTime > :from "
+          + "or (e.recurrenceRule is not null and (e.recurrenceEnd is null or e.recurrenceEnd > :from)))")
+  Stream<EventEntity> streamOverlapping(@Param("from") Instant from, @Param("to") Instant to);
+
+  @QueryHints({
+          @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+          @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+  })
+  @Query("select new com.event_calendar.repository.projection.EventInterval(e.id, e.startDateTime, e.endDateTime, "
+          + "e.recurrenceRule, e.timeZone, e.recurrenceExceptions, e.recurrenceEnd) from EventEntity e")
+  Stream<EventInterval> streamIntervals();
 }
@@ -0,0 +1,14 @@
+package com.event_calendar.repository;
+
+import com.event_calendar.entity.EventTombstoneEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface EventTombstoneRepository extends JpaRepository<EventTombstoneEntity, Long> {
+
+  List<EventTombstoneEntity> findByChangeSeqGreaterThanOrderByChangeSeq(long changeSeq, Limit limit);
+}
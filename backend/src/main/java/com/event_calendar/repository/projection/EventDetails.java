@@ -0,0 +1,35 @@
+package com.event_calendar.repository.projection;
+
+import java.time.Instant;
+
+/**
+ * What responses, exports and recurrence expansion read from an event, whether it was loaded as an
+ * {@link com.event_calendar.entity.EventEntity}, an {@link com.event_calendar.entity.ArchivedEventEntity} or as an
+ * {@link EventView}.
+ */
+public interface EventDetails {
+
+  Long getId();
+
+  String getTitle();
+
+  String getDescription();
+
+  Instant getStartDateTime();
+
+  Instant getEndDateTime();
+
+  String getLocation();
+
+  String getRecurrenceRule();
+
+  String getRecurrenceExceptions();
+
+  String getTimeZone();
+
+  Instant getRecurrenceEnd();
+
+  Instant getCreatedAt();
+
+  Instant getUpdatedAt();
+}
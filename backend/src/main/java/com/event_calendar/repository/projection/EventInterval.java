@@ -0,0 +1,29 @@
+package com.event_calendar.repository.projection;
+
+import com.event_calendar.service.recurrence.RecurrenceSeries;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class EventInterval {
+
+  private final Long id;
+  private final Instant startDateTime;
+  private final Instant endDateTime;
+  private final String recurrenceRule;
+  private final String timeZone;
+  private final String recurrenceExceptions;
+  private final Instant recurrenceEnd;
+
+  public boolean isRecurring() {
+    return recurrenceRule != null;
+  }
+
+  public RecurrenceSeries toSeries() {
+    return RecurrenceSeries.of(startDateTime, endDateTime, recurrenceRule, timeZone, recurrenceExceptions,
+            recurrenceEnd);
+  }
+}
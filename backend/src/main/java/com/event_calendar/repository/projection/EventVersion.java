@@ -0,0 +1,14 @@
+package com.event_calendar.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class EventVersion {
+
+  private final long version;
+  private final Instant lastModified;
+}
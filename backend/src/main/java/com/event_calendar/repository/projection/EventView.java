@@ -0,0 +1,30 @@
+package com.event_calendar.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Read-only copy of an event row, selected with a constructor expression. Unlike a loaded entity it is never attached
+ * to the persistence context, so Hibernate keeps no snapshot of it for dirty checking.
+ */
+@Getter
+@AllArgsConstructor
+public class EventView implements EventDetails {
+
+  private final Long id;
+  private final String title;
+  private final String description;
+  private final Instant startDateTime;
+  private final Instant endDateTime;
+  private final String location;
+  private final long changeSeq;
+  private final String recurrenceRule;
+  private final String recurrenceExceptions;
+  private final String timeZone;
+  private final Instant recurrenceEnd;
+  private final long version;
+  private final Instant createdAt;
+  private final Instant updatedAt;
+}
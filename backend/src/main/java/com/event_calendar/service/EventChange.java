@@ -0,0 +1,28 @@
+package com.event_calendar.service;
+
+import com.event_calendar.entity.EventEntity;
+import com.event_calendar.service.recurrence.RecurrenceSeries;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class EventChange {
+
+  private final Long id;
+  private final Instant startDateTime;
+  private final Instant endDateTime;
+  private final RecurrenceSeries series;
+  private final boolean deleted;
+
+  public static EventChange saved(EventEntity event) {
+    RecurrenceSeries series = event.getRecurrenceRule() == null ? null : RecurrenceSeries.of(event);
+    return new EventChange(event.getId(), event.getStartDateTime(), event.getEndDateTime(), series, false);
+  }
+
+  public static EventChange deleted(Long id) {
+    return new EventChange(id, null, null, null, true);
+  }
+}
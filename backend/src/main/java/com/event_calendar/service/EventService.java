@@ -1,25 +1,98 @@
 package com.event_calendar.service;
 
+import com.event_calendar.dto.EventBatchRequestDTO;
+import com.event_calendar.dto.EventBatchResultDTO;
+import com.event_calendar.dto.EventBusyIntervalDTO;
+import com.event_calendar.dto.EventConflictDTO;
 import com.event_calendar.dto.EventDTO;
+import com.event_calendar.dto.EventFreeSlotDTO;
+import com.event_calendar.dto.EventImportResultDTO;
+import com.event_calendar.dto.EventPageDTO;
+import com.event_calendar.dto.EventSyncDTO;
+import com.event_calendar.repository.projection.EventCollectionVersion;
+import com.event_calendar.repository.projection.EventVersion;
+import com.event_calendar.service.freebusy.WorkingHours;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.Reader;
+import java.io.Writer;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface EventService {
 
   @Transactional
   EventDTO createEvent(EventDTO event, ZoneId zoneId);
 
+  @Transactional
+  EventBatchResultDTO applyBatch(EventBatchRequestDTO batch, ZoneId zoneId);
+
+  EventImportResultDTO importEvents(Reader reader, ZoneId zoneId);
+
   @Transactional
   List<EventDTO> getAllEvents(ZoneId zoneId);
 
+  @Transactional
+  List<EventDTO> getEventsInRange(LocalDateTime from, LocalDateTime to, ZoneId zoneId);
+
+  @Transactional
+  EventCollectionVersion getEventsVersion(LocalDateTime from, LocalDateTime to, ZoneId zoneId);
+
+  @Transactional
+  EventPageDTO getEventsPage(String cursor, int limit, ZoneId zoneId);
+
+  @Transactional
+  EventSyncDTO syncEvents(String token, int limit, ZoneId zoneId);
+
+  @Transactional
+  List<EventDTO> getEventsAt(LocalDateTime at, ZoneId zoneId);
+
+  List<EventConflictDTO> getConflicts(LocalDateTime from, LocalDateTime to, ZoneId zoneId);
+
+  /**
+   * The blocks of time in {@code [from, to)} covered by at least one event or occurrence, merged and clipped to the
+   * range.
+   */
+  List<EventBusyIntervalDTO> getFreeBusy(LocalDateTime from, LocalDateTime to, ZoneId zoneId);
+
+  /**
+   * The first free stretches of working time in {@code [from, to)} that are at least {@code duration} long, in order.
+   */
+  List<EventFreeSlotDTO> findFreeSlots(LocalDateTime from, LocalDateTime to, Duration duration,
+          WorkingHours workingHours, int limit, ZoneId zoneId);
+
+  @Transactional(readOnly = true)
+  void exportEvents(ZoneId zoneId, Consumer<EventDTO> consumer);
+
+  /**
+   * Writes the events in {@code [from, to)}, or all events when no range is given, as an iCalendar feed.
+   */
+  @Transactional(readOnly = true)
+  void exportCalendar(LocalDateTime from, LocalDateTime to, ZoneId zoneId, Writer writer);
+
   @Transactional
   EventDTO getEventById(Long id, ZoneId zoneId);
 
+  /**
+   * The event as of {@code version}, which the caller has just read with {@link #getEventVersion(Long)}; a cached copy
+   * at another version is reloaded.
+   */
+  @Transactional
+  EventDTO getEventById(Long id, long version, ZoneId zoneId);
+
+  @Transactional
+  EventVersion getEventVersion(Long id);
+
+  /**
+   * Replaces the event. With an {@code expectedVersion} the update only applies while the event is still at that
+   * version, and leaves it at {@code expectedVersion + 1}.
+   */
   @Transactional
-  EventDTO updateEvent(Long id, EventDTO eventDetails, ZoneId zoneId);
+  EventDTO updateEvent(Long id, EventDTO eventDetails, Long expectedVersion, ZoneId zoneId);
 
   @Transactional
-  void deleteEvent(Long id);
+  void deleteEvent(Long id, Long expectedVersion);
 }
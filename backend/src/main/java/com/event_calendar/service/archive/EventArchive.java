@@ -0,0 +1,161 @@
+package com.event_calendar.service.archive;
+
+import com.event_calendar.repository.EventArchiveRepository;
+import com.event_calendar.repository.EventRepository;
+import com.event_calendar.service.sync.ChangeSequence;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Splits events between the {@code event} table and {@code event_archive}. Single events that ended before the
+ * horizon are moved to the archive by {@link EventArchiver}; every archived event ended at or before
+ * {@link #archivedBefore()}, so a read whose window starts there or later never has to look at the archive.
+ * <p>
+ * Moves take the change sequence lock, so they queue with event writes: a write never races a move of the same row.
+ * A moved event keeps its id, version and change sequence, and is not reported as a change.
+ * <p>
+ * Other instances may archive with a longer horizon, or while archiving is off here, so the latest archived end is
+ * re-read every {@code events.archive.refresh-interval}. Until then windowed reads on this instance may miss events
+ * archived elsewhere; lookups by id always ask the archive when the event table has no such row.
+ */
+@Slf4j
+@Component
+public class EventArchive implements SmartInitializingSingleton {
+
+  private final EventRepository eventRepository;
+  private final EventArchiveRepository eventArchiveRepository;
+  private final ChangeSequence changeSequence;
+  private final TransactionTemplate readOnlyTransaction;
+  private final boolean enabled;
+  private final Duration horizon;
+  // End of the latest archived event as of the last refresh, which may lie past the horizon if the horizon has grown
+  // or another instance archives with a longer one.
+  private volatile Instant latestArchivedEnd;
+
+  @Autowired
+  public EventArchive(EventRepository eventRepository, EventArchiveRepository eventArchiveRepository,
+          ChangeSequence changeSequence, PlatformTransactionManager transactionManager,
+          @Value("${events.archive.enabled:true}") boolean enabled,
+          @Value("${events.archive.horizon:P365D}") Duration horizon) {
+    this.eventRepository = eventRepository;
+    this.eventArchiveRepository = eventArchiveRepository;
+    this.changeSequence = changeSequence;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.enabled = enabled;
+    this.horizon = horizon;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    refresh();
+    log.info("Archiving events that ended more than {} ago: {}; latest archived end {}", horizon,
+            enabled ? "on" : "off", latestArchivedEnd);
+  }
+
+  /**
+   * Re-reads the end of the latest archived event, which archiving on any instance may have moved.
+   */
+  @Scheduled(initialDelayString = "${events.archive.refresh-interval:PT1M}",
+          fixedDelayString = "${events.archive.refresh-interval:PT1M}")
+  public void refresh() {
+    latestArchivedEnd = readOnlyTransaction.execute(status -> eventArchiveRepository.findLatestEnd()
+            .orElse(null));
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Where events are archived up to right now: {@code now - horizon}.
+   */
+  public Instant horizonStart() {
+    return Instant.now()
+            .minus(horizon);
+  }
+
+  /**
+   * No archived event ends after this instant; {@link Instant#MIN} when archiving is off and the archive was empty.
+   */
+  public Instant archivedBefore() {
+    Instant before = enabled ? horizonStart() : Instant.MIN;
+    Instant latest = latestArchivedEnd;
+    return latest != null && latest.isAfter(before) ? latest : before;
+  }
+
+  /**
+   * Whether a window starting at {@code from} may overlap archived events.
+   */
+  public boolean reaches(Instant from) {
+    return from.isBefore(archivedBefore());
+  }
+
+  /**
+   * Whether the archive held nothing at the last refresh while archiving is off here; reads without a window look
+   * there unless it did not.
+   */
+  public boolean isEmpty() {
+    return archivedBefore().equals(Instant.MIN);
+  }
+
+  /**
+   * Moves up to {@code limit} single events that ended at or before {@code before} to the archive, oldest first, and
+   * returns how many were moved.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public int archive(Instant before, int limit) {
+    changeSequence.lock();
+    List<Long> ids = eventRepository.findArchivableIds(before, Limit.of(limit));
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    eventArchiveRepository.copyFromEvents(ids);
+    eventRepository.deleteAllByIdInBatch(ids);
+    return ids.size();
+  }
+
+  /**
+   * The ids among {@code ids} that are archived. Asks the archive even when {@link #isEmpty()}, which may be stale.
+   */
+  public Set<Long> findArchived(Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return Set.of();
+    }
+    return new HashSet<>(eventArchiveRepository.findIdsByIdIn(ids));
+  }
+
+  /**
+   * Moves the archived events among {@code ids} back to the {@code event} table, so they can be written like any other,
+   * and returns how many there were. Ids that are not archived are ignored. Like {@link #findArchived}, this does not
+   * trust {@link #isEmpty()}.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public int restore(Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    changeSequence.lock();
+    int restored = eventArchiveRepository.copyToEvents(ids);
+    if (restored > 0) {
+      eventArchiveRepository.deleteAllByIdInBatch(ids);
+    }
+    return restored;
+  }
+}
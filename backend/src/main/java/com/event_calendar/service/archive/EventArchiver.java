@@ -0,0 +1,71 @@
+package com.event_calendar.service.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Moves events past the archive horizon to {@code event_archive} on a schedule. Each batch is its own short
+ * transaction, and the job pauses between batches, so writers queued on the change sequence lock only ever wait for
+ * one batch and the first run on a large table does not starve the rest of the application.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "events.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class EventArchiver {
+
+  private final EventArchive eventArchive;
+  private final TransactionTemplate transaction;
+  private final int batchSize;
+  private final Duration pause;
+
+  @Autowired
+  public EventArchiver(EventArchive eventArchive, PlatformTransactionManager transactionManager,
+          @Value("${events.archive.batch-size:500}") int batchSize,
+          @Value("${events.archive.pause:200ms}") Duration pause) {
+    this.eventArchive = eventArchive;
+    this.transaction = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+    this.pause = pause;
+  }
+
+  /**
+   * Archives everything that ended before the horizon as of the start of the run and returns how many events moved.
+   * Stops early when the thread is interrupted.
+   */
+  @Scheduled(initialDelayString = "${events.archive.interval:PT1H}", fixedDelayString = "${events.archive.interval:PT1H}")
+  public long archive() {
+    Instant before = eventArchive.horizonStart();
+    long started = System.nanoTime();
+    long moved = 0;
+    int batch;
+    do {
+      batch = transaction.execute(status -> eventArchive.archive(before, batchSize));
+      moved += batch;
+    } while (batch == batchSize && pause());
+    if (moved > 0) {
+      log.info("Archived {} events that ended before {} in {} ms", moved, before,
+              (System.nanoTime() - started) / 1_000_000);
+    }
+    return moved;
+  }
+
+  private boolean pause() {
+    try {
+      Thread.sleep(pause.toMillis());
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread()
+              .interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,360 @@
+package com.event_calendar.service.batch;
+
+import com.event_calendar.dto.EventBatchItemDTO;
+import com.event_calendar.dto.EventBatchItemDTO.Operation;
+import com.event_calendar.dto.EventBatchItemDTO.Status;
+import com.event_calendar.dto.EventBatchRequestDTO;
+import com.event_calendar.dto.EventBatchResultDTO;
+import com.event_calendar.dto.EventDTO;
+import com.event_calendar.entity.EventEntity;
+import com.event_calendar.entity.EventTombstoneEntity;
+import com.event_calendar.exception.BatchTooLargeException;
+import com.event_calendar.exception.EventConflictException;
+import com.event_calendar.mapper.EventMapper;
+import com.event_calendar.repository.EventRepository;
+import com.event_calendar.repository.EventTombstoneRepository;
+import com.event_calendar.service.EventChange;
+import com.event_calendar.service.archive.EventArchive;
+import com.event_calendar.service.conflict.ConflictPolicy;
+import com.event_calendar.service.conflict.EventConflictDetector;
+import com.event_calendar.service.index.IntervalTree;
+import com.event_calendar.service.sync.ChangeSequence;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies bulk creates, updates and deletes in one transaction. Every item is validated and checked on its own and
+ * gets its own result; invalid items are skipped instead of failing the batch. Writes are only flushed at commit, so
+ * Hibernate can send them as JDBC batches.
+ */
+@Component
+public class EventBatchProcessor {
+
+  public static final int MAX_BATCH_SIZE = 1000;
+
+  private static final String OBJECT_ERROR_KEY = "event";
+
+  private final EventRepository eventRepository;
+  private final EventTombstoneRepository eventTombstoneRepository;
+  private final EventMapper eventMapper;
+  private final EventConflictDetector eventConflictDetector;
+  private final ChangeSequence changeSequence;
+  private final ApplicationEventPublisher eventPublisher;
+  private final Validator validator;
+  private final EventArchive eventArchive;
+
+  @Autowired
+  public EventBatchProcessor(EventRepository eventRepository, EventTombstoneRepository eventTombstoneRepository,
+          EventMapper eventMapper, EventConflictDetector eventConflictDetector, ChangeSequence changeSequence,
+          ApplicationEventPublisher eventPublisher, Validator validator, EventArchive eventArchive) {
+    this.eventRepository = eventRepository;
+    this.eventTombstoneRepository = eventTombstoneRepository;
+    this.eventMapper = eventMapper;
+    this.eventConflictDetector = eventConflictDetector;
+    this.changeSequence = changeSequence;
+    this.eventPublisher = eventPublisher;
+    this.validator = validator;
+    this.eventArchive = eventArchive;
+  }
+
+  /**
+   * Every create and update is checked against the stored events and then against the items before it in the batch.
+   * Under {@link ConflictPolicy#REJECT} an item that overlaps an earlier accepted item is rejected as a conflict; under
+   * {@link ConflictPolicy#FLAG} both are written and report each other. An event that the same batch deletes or moves
+   * still counts where it was stored.
+   */
+  @Transactional
+  public EventBatchResultDTO apply(EventBatchRequestDTO batch, ZoneId zoneId) {
+    List<EventDTO> creates = orEmpty(batch.getCreate());
+    List<EventDTO> updates = orEmpty(batch.getUpdate());
+    List<Long> deletes = orEmpty(batch.getDelete());
+    int size = creates.size() + updates.size() + deletes.size();
+    if (size > MAX_BATCH_SIZE) {
+      throw new BatchTooLargeException(size, MAX_BATCH_SIZE);
+    }
+
+    eventConflictDetector.lockSchedule();
+    Map<Long, EventEntity> existing = findExisting(updates, deletes);
+    Set<Long> archived = findArchived(updates, deletes, existing.keySet());
+    List<EventBatchItemDTO> results = new ArrayList<>(size);
+    List<PendingWrite> pending = new ArrayList<>(size);
+
+    for (int i = 0; i < creates.size(); i++) {
+      EventBatchItemDTO result = new EventBatchItemDTO(Operation.CREATE, i);
+      results.add(result);
+      EventDTO event = creates.get(i);
+      if (!isValid(event, result)) {
+        continue;
+      }
+      EventEntity entity = eventMapper.toEntity(event, zoneId);
+      if (isFree(null, entity, result)) {
+        pending.add(new PendingWrite(result, entity, null, entity));
+      }
+    }
+
+    for (int i = 0; i < updates.size(); i++) {
+      EventBatchItemDTO result = new EventBatchItemDTO(Operation.UPDATE, i);
+      results.add(result);
+      EventDTO event = updates.get(i);
+      if (!isValid(event, result)) {
+        continue;
+      }
+      if (event.getId() == null) {
+        reject(result, Status.INVALID).setErrors(Map.of("id", "Id is required"));
+        continue;
+      }
+      result.setId(event.getId());
+      EventEntity entity = existing.get(event.getId());
+      EventEntity candidate = eventMapper.toEntity(event, zoneId);
+      if (entity == null && !archived.contains(event.getId())) {
+        reject(result, Status.NOT_FOUND);
+      } else if (isFree(event.getId(), candidate, result)) {
+        pending.add(new PendingWrite(result, entity, event, candidate));
+      }
+    }
+
+    Set<Long> deleted = new HashSet<>();
+    for (int i = 0; i < deletes.size(); i++) {
+      EventBatchItemDTO result = new EventBatchItemDTO(Operation.DELETE, i);
+      results.add(result);
+      Long id = deletes.get(i);
+      result.setId(id);
+      EventEntity entity = id == null ? null : existing.get(id);
+      if ((entity == null && !archived.contains(id)) || !deleted.add(id)) {
+        reject(result, Status.NOT_FOUND);
+      } else {
+        pending.add(new PendingWrite(result, entity, null, null));
+      }
+    }
+
+    List<PendingWrite> checked = pending;
+    pending = checkAgainstEachOther(checked);
+
+    // Reserved only after the conflict checks, which is the lock order the single-event writes use as well. Archived
+    // rows are moved back in the same step, and only for the items that are about to be written.
+    int applied = 0;
+    if (!pending.isEmpty()) {
+      long changeSeq = changeSequence.reserve(pending.size());
+      restoreArchived(pending);
+      for (PendingWrite write : pending) {
+        if (write.entity == null) {
+          // Deleted by another writer since it was looked up.
+          reject(write.result, Status.NOT_FOUND);
+        } else {
+          write(write, changeSeq, zoneId);
+          applied++;
+        }
+        changeSeq++;
+      }
+    }
+    reportOverlapsWithinBatch(checked);
+    return new EventBatchResultDTO(applied, size - applied, results);
+  }
+
+  // Walks the writes in batch order and keeps the intervals of those accepted so far in a tree. Each item is checked
+  // against that tree before its own intervals are added, so an item only ever conflicts with items before it.
+  private List<PendingWrite> checkAgainstEachOther(List<PendingWrite> pending) {
+    if (eventConflictDetector.getPolicy() == ConflictPolicy.ALLOW) {
+      return pending;
+    }
+    List<PendingWrite> accepted = new ArrayList<>(pending.size());
+    IntervalTree schedule = new IntervalTree();
+    for (PendingWrite write : pending) {
+      if (write.candidate == null) {
+        accepted.add(write);
+        continue;
+      }
+      Set<PendingWrite> overlaps = new LinkedHashSet<>();
+      eventConflictDetector.forEachCheckedInterval(write.candidate, (id, start, end) -> schedule.forEachOverlapping(
+              start, end, (position, otherStart, otherEnd) -> {
+                PendingWrite other = accepted.get((int) position);
+                if (other.result.getId() == null || !other.result.getId()
+                        .equals(write.result.getId())) {
+                  overlaps.add(other);
+                }
+              }));
+      write.overlaps = new ArrayList<>(overlaps);
+      if (!overlaps.isEmpty() && eventConflictDetector.getPolicy() == ConflictPolicy.REJECT) {
+        reject(write.result, Status.CONFLICT);
+        continue;
+      }
+      int position = accepted.size();
+      accepted.add(write);
+      eventConflictDetector.forEachCheckedInterval(write.candidate, (id, start, end) -> schedule.insert(position,
+              start, end));
+    }
+    return accepted;
+  }
+
+  // Created items only get their ids once written, so items of the batch are named in each other's results last. A
+  // rejected item names the items it overlaps; written items name each other.
+  private static void reportOverlapsWithinBatch(List<PendingWrite> checked) {
+    for (PendingWrite write : checked) {
+      for (PendingWrite other : write.overlaps) {
+        addConflict(write.result, other.result.getId());
+        if (write.result.getStatus() != Status.CONFLICT) {
+          addConflict(other.result, write.result.getId());
+        }
+      }
+    }
+  }
+
+  private static void addConflict(EventBatchItemDTO result, Long id) {
+    List<Long> conflicts = result.getConflictingEventIds() == null ? new ArrayList<>()
+            : new ArrayList<>(result.getConflictingEventIds());
+    if (id != null && !conflicts.contains(id)) {
+      conflicts.add(id);
+      result.setConflictingEventIds(conflicts);
+    }
+  }
+
+  private void write(PendingWrite write, long changeSeq, ZoneId zoneId) {
+    EventBatchItemDTO result = write.result;
+    EventEntity entity = write.entity;
+    switch (result.getOperation()) {
+      case CREATE -> {
+        entity.setChangeSeq(changeSeq);
+        eventRepository.save(entity);
+        result.setId(entity.getId());
+        result.setStatus(Status.CREATED);
+        eventPublisher.publishEvent(EventChange.saved(entity));
+      }
+      case UPDATE -> {
+        eventMapper.updateEntityFromDto(write.event, zoneId, entity);
+        entity.setChangeSeq(changeSeq);
+        result.setStatus(Status.UPDATED);
+        eventPublisher.publishEvent(EventChange.saved(entity));
+      }
+      case DELETE -> {
+        eventRepository.delete(entity);
+        eventTombstoneRepository.save(new EventTombstoneEntity(entity.getId(), changeSeq));
+        result.setStatus(Status.DELETED);
+        eventPublisher.publishEvent(EventChange.deleted(entity.getId()));
+      }
+    }
+  }
+
+  private Map<Long, EventEntity> findExisting(List<EventDTO> updates, List<Long> deletes) {
+    Set<Long> ids = referencedIds(updates, deletes);
+    if (ids.isEmpty()) {
+      return Map.of();
+    }
+    return eventRepository.findAllById(ids)
+            .stream()
+            .collect(Collectors.toMap(EventEntity::getId, Function.identity()));
+  }
+
+  // Ids that are not in the event table may be archived. They are only looked up here, and moved back once the batch
+  // knows which of them it writes.
+  private Set<Long> findArchived(List<EventDTO> updates, List<Long> deletes, Set<Long> existing) {
+    Set<Long> ids = referencedIds(updates, deletes);
+    ids.removeAll(existing);
+    return ids.isEmpty() ? Set.of() : eventArchive.findArchived(ids);
+  }
+
+  private void restoreArchived(List<PendingWrite> pending) {
+    Map<Long, PendingWrite> archived = new HashMap<>();
+    for (PendingWrite write : pending) {
+      if (write.entity == null) {
+        archived.put(write.result.getId(), write);
+      }
+    }
+    if (archived.isEmpty()) {
+      return;
+    }
+    eventArchive.restore(archived.keySet());
+    for (EventEntity event : eventRepository.findAllById(archived.keySet())) {
+      archived.get(event.getId()).entity = event;
+    }
+  }
+
+  private static Set<Long> referencedIds(List<EventDTO> updates, List<Long> deletes) {
+    Set<Long> ids = new HashSet<>();
+    for (EventDTO event : updates) {
+      if (event != null && event.getId() != null) {
+        ids.add(event.getId());
+      }
+    }
+    for (Long id : deletes) {
+      if (id != null) {
+        ids.add(id);
+      }
+    }
+    return ids;
+  }
+
+  private boolean isValid(EventDTO event, EventBatchItemDTO result) {
+    if (event == null) {
+      reject(result, Status.INVALID).setErrors(Map.of(OBJECT_ERROR_KEY, "Event is required"));
+      return false;
+    }
+    Set<ConstraintViolation<EventDTO>> violations = validator.validate(event);
+    if (violations.isEmpty()) {
+      return true;
+    }
+    Map<String, String> errors = new LinkedHashMap<>();
+    for (ConstraintViolation<EventDTO> violation : violations) {
+      String path = violation.getPropertyPath()
+              .toString();
+      errors.putIfAbsent(path.isEmpty() ? OBJECT_ERROR_KEY : path, violation.getMessage());
+    }
+    reject(result, Status.INVALID).setErrors(errors);
+    return false;
+  }
+
+  // Takes the event as it would be saved; updates pass an unmanaged copy so a rejected item leaves the row untouched.
+  private boolean isFree(Long eventId, EventEntity candidate, EventBatchItemDTO result) {
+    try {
+      List<Long> conflicts = eventConflictDetector.check(eventId, candidate);
+      if (!conflicts.isEmpty()) {
+        result.setConflictingEventIds(conflicts);
+      }
+      return true;
+    } catch (EventConflictException e) {
+      reject(result, Status.CONFLICT).setConflictingEventIds(e.getConflictingEventIds());
+      return false;
+    }
+  }
+
+  private static EventBatchItemDTO reject(EventBatchItemDTO result, Status status) {
+    result.setStatus(status);
+    return result;
+  }
+
+  private static <T> List<T> orEmpty(List<T> items) {
+    return items == null ? List.of() : items;
+  }
+
+  private static class PendingWrite {
+    private final EventBatchItemDTO result;
+    // Null for an archived event until it is moved back.
+    private EventEntity entity;
+    private final EventDTO event;
+    // The event as it will be saved, for the checks within the batch; null for deletes.
+    private final EventEntity candidate;
+    private List<PendingWrite> overlaps = List.of();
+
+    private PendingWrite(EventBatchItemDTO result, EventEntity entity, EventDTO event, EventEntity candidate) {
+      this.result = result;
+      this.entity = entity;
+      this.event = event;
+      this.candidate = candidate;
+    }
+  }
+}
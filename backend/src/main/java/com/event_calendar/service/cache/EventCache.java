@@ -0,0 +1,52 @@
+package com.event_calendar.service.cache;
+
+import com.event_calendar.repository.projection.EventView;
+import com.event_calendar.service.EventChange;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of event views keyed by id. Entries hold UTC instants only, so one entry serves callers
+ * in every timezone. Committed writes on this instance evict the affected entry; writes on other instances do not, so
+ * an entry is only served while it is still at the version the caller has just read from the database.
+ */
+@Component
+public class EventCache {
+
+  public static final String CACHE_NAME = "events";
+
+  private final Cache cache;
+  private final AtomicLong invalidations = new AtomicLong();
+
+  @Autowired
+  public EventCache(CacheManager cacheManager) {
+    this.cache = cacheManager.getCache(CACHE_NAME);
+  }
+
+  public Optional<EventView> get(Long id, long version, Supplier<Optional<EventView>> loader) {
+    EventView cached = cache.get(id, EventView.class);
+    if (cached != null && cached.getVersion() == version) {
+      return Optional.of(cached);
+    }
+    // A write committed while the loader ran may have evicted this id already; skip caching what could be stale.
+    long generation = invalidations.get();
+    Optional<EventView> loaded = loader.get();
+    if (loaded.isPresent() && generation == invalidations.get()) {
+      cache.put(id, loaded.get());
+    }
+    return loaded;
+  }
+
+  @TransactionalEventListener
+  public void onEventChange(EventChange change) {
+    invalidations.incrementAndGet();
+    cache.evict(change.getId());
+  }
+}
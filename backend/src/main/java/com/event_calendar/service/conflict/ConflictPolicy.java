@@ -0,0 +1,7 @@
+package com.event_calendar.service.conflict;
+
+public enum ConflictPolicy {
+  ALLOW,
+  FLAG,
+  REJECT
+}
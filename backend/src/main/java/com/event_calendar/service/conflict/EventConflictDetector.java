@@ -0,0 +1,180 @@
+package com.event_calendar.service.conflict;
+
+import com.event_calendar.entity.EventEntity;
+import com.event_calendar.exception.EventConflictException;
+import com.event_calendar.repository.EventArchiveRepository;
+import com.event_calendar.repository.EventRepository;
+import com.event_calendar.repository.projection.EventInterval;
+import com.event_calendar.service.archive.EventArchive;
+import com.event_calendar.service.index.EventIntervalIndex;
+import com.event_calendar.service.index.IntervalConsumer;
+import com.event_calendar.service.index.IntervalTree;
+import com.event_calendar.service.recurrence.OccurrenceCursor;
+import com.event_calendar.service.recurrence.RecurrenceSeries;
+import com.event_calendar.service.sync.ChangeSequence;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Checks events against the schedule before they are written. {@link ConflictPolicy#FLAG} asks the interval index,
+ * which is cheap but only knows the writes this instance has seen. {@link ConflictPolicy#REJECT} has to hold across
+ * instances, so it first takes the change sequence lock that every writer queues on and then reads the overlapping
+ * events from the database: a second writer's check only runs once the first writer has committed.
+ */
+@Component
+public class EventConflictDetector {
+
+  static final Duration RECURRING_HORIZON = Duration.ofDays(366);
+
+  private final EventIntervalIndex eventIntervalIndex;
+  private final EventRepository eventRepository;
+  private final EventArchiveRepository eventArchiveRepository;
+  private final EventArchive eventArchive;
+  private final ChangeSequence changeSequence;
+  private final ConflictPolicy policy;
+
+  @Autowired
+  public EventConflictDetector(EventIntervalIndex eventIntervalIndex, EventRepository eventRepository,
+          EventArchiveRepository eventArchiveRepository, EventArchive eventArchive, ChangeSequence changeSequence,
+          @Value("${events.conflicts.policy:FLAG}") ConflictPolicy policy) {
+    this.eventIntervalIndex = eventIntervalIndex;
+    this.eventRepository = eventRepository;
+    this.eventArchiveRepository = eventArchiveRepository;
+    this.eventArchive = eventArchive;
+    this.changeSequence = changeSequence;
+    this.policy = policy;
+  }
+
+  public ConflictPolicy getPolicy() {
+    return policy;
+  }
+
+  /**
+   * Under {@link ConflictPolicy#REJECT}, takes the change sequence lock now instead of at the first check. Writers
+   * that read events before checking them call this first: MySQL fixes a transaction's snapshot at its first read, and
+   * a snapshot taken before the lock would miss events committed while waiting for it.
+   */
+  public void lockSchedule() {
+    if (policy == ConflictPolicy.REJECT) {
+      changeSequence.lock();
+    }
+  }
+
+  /**
+   * Returns the ids of events overlapping {@code [start, end)}, ignoring {@code eventId} itself. Under
+   * {@link ConflictPolicy#REJECT} the change sequence lock is held until the surrounding transaction completes.
+   */
+  public List<Long> check(Long eventId, Instant start, Instant end) {
+    return check(eventId, List.of(new long[]{start.toEpochMilli(), end.toEpochMilli()}));
+  }
+
+  /**
+   * Checks {@code event} as it is about to be saved. A recurring event is checked occurrence by occurrence over the
+   * first {@link #RECURRING_HORIZON} of the series; occurrences after that are not checked.
+   */
+  public List<Long> check(Long eventId, EventEntity event) {
+    if (policy == ConflictPolicy.ALLOW) {
+      return List.of();
+    }
+    List<long[]> intervals = new ArrayList<>();
+    forEachCheckedInterval(event, (id, start, end) -> intervals.add(new long[]{start, end}));
+    return check(eventId, intervals);
+  }
+
+  /**
+   * The intervals a check of {@code event} covers, in start order: the event itself, or the occurrences of a series
+   * over its first {@link #RECURRING_HORIZON}. Each is passed with the event's id, which is {@code 0} when it has none.
+   */
+  public void forEachCheckedInterval(EventEntity event, IntervalConsumer consumer) {
+    long id = event.getId() == null ? 0 : event.getId();
+    if (event.getRecurrenceRule() == null) {
+      consumer.accept(id, event.getStartDateTime()
+              .toEpochMilli(), event.getEndDateTime()
+              .toEpochMilli());
+      return;
+    }
+    OccurrenceCursor occurrences = RecurrenceSeries.of(event)
+            .occurrences(event.getStartDateTime(), event.getStartDateTime()
+                    .plus(RECURRING_HORIZON));
+    while (occurrences.next()) {
+      consumer.accept(id, occurrences.getStart(), occurrences.getEnd());
+    }
+  }
+
+  public List<EventOverlap> findOverlaps(Instant from, Instant to) {
+    OverlapSweep sweep = new OverlapSweep();
+    eventIntervalIndex.forEachOverlapping(from, to, sweep);
+    return sweep.getOverlaps();
+  }
+
+  private List<Long> check(Long eventId, List<long[]> intervals) {
+    if (policy == ConflictPolicy.ALLOW || intervals.isEmpty()) {
+      return List.of();
+    }
+    Set<Long> conflicts = new LinkedHashSet<>();
+    IntervalConsumer collector = (id, start, end) -> {
+      if (eventId == null || id != eventId) {
+        conflicts.add(id);
+      }
+    };
+    if (policy == ConflictPolicy.REJECT) {
+      changeSequence.lock();
+      IntervalTree schedule = loadSchedule(intervals.get(0)[0], intervals.get(intervals.size() - 1)[1]);
+      for (long[] interval : intervals) {
+        schedule.forEachOverlapping(interval[0], interval[1], collector);
+      }
+    } else {
+      for (long[] interval : intervals) {
+        for (Long id : eventIntervalIndex.findOverlapping(Instant.ofEpochMilli(interval[0]),
+                Instant.ofEpochMilli(interval[1]))) {
+          collector.accept(id, interval[0], interval[1]);
+        }
+      }
+    }
+    return resolve(conflicts);
+  }
+
+  // Committed events and occurrences in [from, to), read in one query per table.
+  private IntervalTree loadSchedule(long from, long to) {
+    Instant fromInstant = Instant.ofEpochMilli(from);
+    Instant toInstant = Instant.ofEpochMilli(to);
+    IntervalTree schedule = new IntervalTree();
+    for (EventInterval event : eventRepository.findIntervalsOverlapping(fromInstant, toInstant)) {
+      if (!event.isRecurring()) {
+        schedule.insert(event.getId(), event.getStartDateTime()
+                .toEpochMilli(), event.getEndDateTime()
+                .toEpochMilli());
+        continue;
+      }
+      OccurrenceCursor occurrences = event.toSeries()
+              .occurrences(from, to);
+      while (occurrences.next()) {
+        schedule.insert(event.getId(), occurrences.getStart(), occurrences.getEnd());
+      }
+    }
+    if (eventArchive.reaches(fromInstant)) {
+      for (EventInterval event : eventArchiveRepository.findIntervalsOverlapping(fromInstant, toInstant)) {
+        schedule.insert(event.getId(), event.getStartDateTime()
+                .toEpochMilli(), event.getEndDateTime()
+                .toEpochMilli());
+      }
+    }
+    return schedule;
+  }
+
+  private List<Long> resolve(Set<Long> conflicts) {
+    List<Long> ids = new ArrayList<>(conflicts);
+    if (policy == ConflictPolicy.REJECT && !ids.isEmpty()) {
+      throw new EventConflictException(ids);
+    }
+    return ids;
+  }
+}
@@ -0,0 +1,14 @@
+package com.event_calendar.service.conflict;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EventOverlap {
+
+  private final long firstEventId;
+  private final long secondEventId;
+  private final long overlapStart;
+  private final long overlapEnd;
+}
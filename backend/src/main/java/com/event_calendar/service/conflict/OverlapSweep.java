@@ -0,0 +1,40 @@
+package com.event_calendar.service.conflict;
+
+import com.event_calendar.service.index.IntervalConsumer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Collects every overlapping pair from intervals fed in ascending start order. Intervals that have already ended
+ * are dropped from the active set as the sweep advances, so the cost is O(n log n + k) for k overlapping pairs.
+ */
+public class OverlapSweep implements IntervalConsumer {
+
+  private final PriorityQueue<long[]> active = new PriorityQueue<>((a, b) -> Long.compare(a[1], b[1]));
+  private final List<EventOverlap> overlaps = new ArrayList<>();
+  private long lastStart = Long.MIN_VALUE;
+
+  @Override
+  public void accept(long id, long start, long end) {
+    if (start < lastStart) {
+      throw new IllegalStateException("Intervals must be supplied in ascending start order");
+    }
+    lastStart = start;
+    while (!active.isEmpty() && active.peek()[1] <= start) {
+      active.poll();
+    }
+    for (long[] other : active) {
+      // Occurrences of one recurring series never conflict with each other.
+      if (other[0] != id) {
+        overlaps.add(new EventOverlap(other[0], id, start, Math.min(other[1], end)));
+      }
+    }
+    active.add(new long[]{id, end});
+  }
+
+  public List<EventOverlap> getOverlaps() {
+    return overlaps;
+  }
+}
@@ -0,0 +1,12 @@
+package com.event_calendar.service.freebusy;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BusyBlock {
+
+  private final long start;
+  private final long end;
+}
@@ -0,0 +1,60 @@
+package com.event_calendar.service.freebusy;
+
+import com.event_calendar.service.index.IntervalConsumer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Merges intervals fed in ascending start order into the blocks of time they cover, clipped to {@code [from, to)}.
+ * Touching intervals join into one block. Only the block being extended is held beside the finished ones, so memory
+ * grows with the number of blocks, not with the number of events.
+ */
+public class BusySweep implements IntervalConsumer {
+
+  private final long from;
+  private final long to;
+  private final List<BusyBlock> blocks = new ArrayList<>();
+  private long lastStart = Long.MIN_VALUE;
+  private boolean open;
+  private long blockStart;
+  private long blockEnd;
+
+  public BusySweep(long from, long to) {
+    this.from = from;
+    this.to = to;
+  }
+
+  @Override
+  public void accept(long id, long start, long end) {
+    if (start < lastStart) {
+      throw new IllegalStateException("Intervals must be supplied in ascending start order");
+    }
+    lastStart = start;
+    long clippedStart = Math.max(start, from);
+    long clippedEnd = Math.min(end, to);
+    if (clippedEnd <= clippedStart) {
+      return;
+    }
+    if (open && clippedStart <= blockEnd) {
+      blockEnd = Math.max(blockEnd, clippedEnd);
+      return;
+    }
+    close();
+    open = true;
+    blockStart = clippedStart;
+    blockEnd = clippedEnd;
+  }
+
+  public List<BusyBlock> getBlocks() {
+    close();
+    return blocks;
+  }
+
+  private void close() {
+    if (open) {
+      blocks.add(new BusyBlock(blockStart, blockEnd));
+      open = false;
+    }
+  }
+}
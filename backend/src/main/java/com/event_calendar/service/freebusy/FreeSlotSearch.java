@@ -0,0 +1,90 @@
+package com.event_calendar.service.freebusy;
+
+import com.event_calendar.service.index.IntervalVisitor;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds the first free stretches of working time in {@code [from, to)} that are at least {@code duration} long, from
+ * busy intervals fed in ascending start order. It declines further intervals once it has {@code limit} slots, so the
+ * walk feeding it stops there and the cost depends on how far into the window the slots are, not on its length.
+ */
+public class FreeSlotSearch implements IntervalVisitor {
+
+  private final long to;
+  private final long duration;
+  private final int limit;
+  private final WorkingHours workingHours;
+  private final ZoneId zoneId;
+  private final List<FreeSlot> slots = new ArrayList<>();
+  private long lastStart = Long.MIN_VALUE;
+  // Everything before this is busy or already searched.
+  private long freeFrom;
+
+  public FreeSlotSearch(long from, long to, long duration, int limit, WorkingHours workingHours, ZoneId zoneId) {
+    this.freeFrom = from;
+    this.to = to;
+    this.duration = duration;
+    this.limit = limit;
+    this.workingHours = workingHours;
+    this.zoneId = zoneId;
+  }
+
+  @Override
+  public boolean visit(long id, long start, long end) {
+    if (start < lastStart) {
+      throw new IllegalStateException("Intervals must be supplied in ascending start order");
+    }
+    lastStart = start;
+    if (start > freeFrom) {
+      collect(freeFrom, Math.min(start, to));
+    }
+    freeFrom = Math.max(freeFrom, end);
+    return !isDone();
+  }
+
+  /**
+   * The slots found; searches the rest of the window first if the walk ran out of intervals.
+   */
+  public List<FreeSlot> getSlots() {
+    if (!isDone()) {
+      collect(freeFrom, to);
+      freeFrom = to;
+    }
+    return slots;
+  }
+
+  private boolean isDone() {
+    return slots.size() >= limit || freeFrom >= to;
+  }
+
+  // Cuts the free gap [from, to) into working periods; periods that touch, like consecutive whole days, stay joined.
+  private void collect(long from, long to) {
+    long slotStart = 0;
+    long slotEnd = Long.MIN_VALUE;
+    long cursor = from;
+    while (cursor < to && slots.size() < limit) {
+      long[] period = workingHours.periodEndingAfter(cursor, zoneId);
+      if (period[0] >= to) {
+        break;
+      }
+      long start = Math.max(cursor, period[0]);
+      long end = Math.min(to, period[1]);
+      if (start != slotEnd) {
+        add(slotStart, slotEnd);
+        slotStart = start;
+      }
+      slotEnd = end;
+      cursor = end;
+    }
+    add(slotStart, slotEnd);
+  }
+
+  private void add(long start, long end) {
+    if (end != Long.MIN_VALUE && end - start >= duration && slots.size() < limit) {
+      slots.add(new FreeSlot(start, end));
+    }
+  }
+}
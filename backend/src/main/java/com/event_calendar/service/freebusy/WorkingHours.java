@@ -0,0 +1,154 @@
+package com.event_calendar.service.freebusy;
+
+import com.event_calendar.exception.InvalidWorkingHoursException;
+import com.event_calendar.util.DateUtils;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The local hours of the day and days of the week a slot may fall in. Hours are resolved per date in the caller's zone,
+ * so a working day keeps its local hours across DST changes; a start that falls into a gap moves forward with it.
+ */
+public class WorkingHours {
+
+  public static final WorkingHours ALWAYS = new WorkingHours(null, null, EnumSet.allOf(DayOfWeek.class));
+
+  private final LocalTime start;
+  private final LocalTime end;
+  private final Set<DayOfWeek> days;
+
+  private WorkingHours(LocalTime start, LocalTime end, Set<DayOfWeek> days) {
+    this.start = start;
+    this.end = end;
+    this.days = days;
+  }
+
+  /**
+   * Parses hours such as {@code 09:00-17:00} and days such as {@code MON-FRI} or {@code MON,WED,FRI}. Without hours
+   * whole days count; without days every day does.
+   */
+  public static WorkingHours parse(String hours, String days) {
+    boolean noHours = hours == null || hours.isBlank();
+    boolean noDays = days == null || days.isBlank();
+    if (noHours && noDays) {
+      return ALWAYS;
+    }
+    LocalTime start = null;
+    LocalTime end = null;
+    if (!noHours) {
+      String[] bounds = hours.trim()
+              .split("-");
+      if (bounds.length != 2) {
+        throw new InvalidWorkingHoursException("Working hours must look like 09:00-17:00, got '" + hours + "'");
+      }
+      start = parseTime(bounds[0]);
+      end = parseTime(bounds[1]);
+      if (!start.isBefore(end)) {
+        throw new InvalidWorkingHoursException("Working hours must start before they end, got '" + hours + "'");
+      }
+    }
+    return new WorkingHours(start, end, noDays ? EnumSet.allOf(DayOfWeek.class) : parseDays(days));
+  }
+
+  /**
+   * The longest stretch of working time, in local hours: one day's hours, or the longest run of consecutive whole
+   * days. No slot longer than this can be found. Unbounded when every whole day counts.
+   */
+  public Duration longestPeriod() {
+    if (start != null) {
+      return Duration.between(start, end);
+    }
+    if (days.size() == DayOfWeek.values().length) {
+      return ChronoUnit.FOREVER.getDuration();
+    }
+    int longest = 0;
+    int run = 0;
+    // Twice round the week, so a run that wraps from Sunday into Monday is counted whole.
+    for (int i = 0; i < 2 * DayOfWeek.values().length; i++) {
+      run = days.contains(DayOfWeek.of(i % DayOfWeek.values().length + 1)) ? run + 1 : 0;
+      longest = Math.max(longest, run);
+    }
+    return Duration.ofDays(longest);
+  }
+
+  /**
+   * The first working period that ends after {@code millis}, as {@code [start, end)} epoch millis. Periods on
+   * consecutive whole days touch; the caller joins them.
+   */
+  long[] periodEndingAfter(long millis, ZoneId zoneId) {
+    if (this == ALWAYS) {
+      return new long[]{Long.MIN_VALUE, Long.MAX_VALUE};
+    }
+    LocalDate date = DateUtils.toLocalDateTime(Instant.ofEpochMilli(millis), zoneId)
+            .toLocalDate();
+    // Today plus a week always reaches a working day.
+    for (int i = 0; i <= 7; i++, date = date.plusDays(1)) {
+      if (!days.contains(date.getDayOfWeek())) {
+        continue;
+      }
+      long periodEnd = toMillis(end == null ? date.plusDays(1)
+              .atStartOfDay() : date.atTime(end), zoneId);
+      if (periodEnd > millis) {
+        return new long[]{toMillis(start == null ? date.atStartOfDay() : date.atTime(start), zoneId), periodEnd};
+      }
+    }
+    throw new IllegalStateException("No working day in a week");
+  }
+
+  private static long toMillis(LocalDateTime dateTime, ZoneId zoneId) {
+    return DateUtils.toInstant(dateTime, zoneId)
+            .toEpochMilli();
+  }
+
+  private static LocalTime parseTime(String value) {
+    try {
+      return LocalTime.parse(value.trim());
+    } catch (DateTimeParseException e) {
+      throw new InvalidWorkingHoursException("Invalid time '" + value.trim() + "' in working hours");
+    }
+  }
+
+  private static Set<DayOfWeek> parseDays(String value) {
+    Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+    for (String part : value.split(",")) {
+      String[] range = part.trim()
+              .split("-", -1);
+      if (range.length > 2) {
+        throw new InvalidWorkingHoursException("Invalid working days '" + value + "'");
+      }
+      DayOfWeek first = parseDay(range[0]);
+      DayOfWeek last = range.length == 2 ? parseDay(range[1]) : first;
+      for (DayOfWeek day = first; ; day = day.plus(1)) {
+        days.add(day);
+        if (day == last) {
+          break;
+        }
+      }
+    }
+    return days;
+  }
+
+  private static DayOfWeek parseDay(String value) {
+    String name = value.trim()
+            .toUpperCase();
+    if (name.length() >= 3) {
+      for (DayOfWeek day : DayOfWeek.values()) {
+        if (day.name()
+                .startsWith(name)) {
+          return day;
+        }
+      }
+    }
+    throw new InvalidWorkingHoursException("Invalid day '" + value.trim() + "' in working days");
+  }
+}
@@ -0,0 +1,40 @@
+package com.event_calendar.service.ical;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The properties of one VEVENT. Single-valued properties keep their first occurrence; EXDATE may repeat.
+ */
+@Getter
+public class IcsEvent {
+
+  private final int line;
+  private final Map<String, IcsProperty> properties = new HashMap<>();
+  private final List<IcsProperty> exceptionDates = new ArrayList<>();
+
+  public IcsEvent(int line) {
+    this.line = line;
+  }
+
+  public void add(IcsProperty property) {
+    if ("EXDATE".equals(property.getName())) {
+      exceptionDates.add(property);
+    } else {
+      properties.putIfAbsent(property.getName(), property);
+    }
+  }
+
+  public IcsProperty get(String name) {
+    return properties.get(name);
+  }
+
+  public String getUid() {
+    IcsProperty uid = properties.get("UID");
+    return uid == null ? null : uid.getValue();
+  }
+}
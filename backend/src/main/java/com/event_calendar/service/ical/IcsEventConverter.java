@@ -0,0 +1,136 @@
+package com.event_calendar.service.ical;
+
+import com.event_calendar.dto.EventDTO;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns a VEVENT into the {@link EventDTO} a client would have posted, with times in the importing caller's zone.
+ * Date-times with a TZID are read in that zone; floating date-times and all-day dates are read in the caller's zone.
+ */
+public class IcsEventConverter {
+
+  private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+  private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+  private IcsEventConverter() {
+  }
+
+  public static EventDTO toEventDTO(IcsEvent event, ZoneId zoneId) {
+    IcsProperty dtStart = event.get("DTSTART");
+    if (dtStart == null) {
+      throw new IcsFormatException("DTSTART is required");
+    }
+    Instant start = parseDateTime(dtStart, dtStart.getValue(), zoneId);
+    Instant end = resolveEnd(event, dtStart, start, zoneId);
+
+    EventDTO dto = new EventDTO();
+    dto.setTitle(text(event.get("SUMMARY")));
+    dto.setDescription(text(event.get("DESCRIPTION")));
+    dto.setLocation(text(event.get("LOCATION")));
+    dto.setStartDateTime(LocalDateTime.ofInstant(start, zoneId));
+    dto.setEndDateTime(LocalDateTime.ofInstant(end, zoneId));
+    IcsProperty rrule = event.get("RRULE");
+    if (rrule != null) {
+      dto.setRecurrenceRule(rrule.getValue());
+      dto.setRecurrenceExceptions(exceptionDates(event, zoneId));
+    }
+    return dto;
+  }
+
+  private static Instant resolveEnd(IcsEvent event, IcsProperty dtStart, Instant start, ZoneId zoneId) {
+    IcsProperty dtEnd = event.get("DTEND");
+    if (dtEnd != null) {
+      return parseDateTime(dtEnd, dtEnd.getValue(), zoneId);
+    }
+    IcsProperty duration = event.get("DURATION");
+    if (duration != null) {
+      return start.plus(parseDuration(duration.getValue()));
+    }
+    // RFC 5545: an all-day event without an end lasts one day; a timed one has no duration, which we do not store.
+    if (isDate(dtStart, dtStart.getValue())) {
+      return start.atZone(zoneId)
+              .plusDays(1)
+              .toInstant();
+    }
+    throw new IcsFormatException("DTEND or DURATION is required");
+  }
+
+  private static List<LocalDateTime> exceptionDates(IcsEvent event, ZoneId zoneId) {
+    List<LocalDateTime> exceptions = new ArrayList<>();
+    for (IcsProperty exdate : event.getExceptionDates()) {
+      for (String value : exdate.getValue()
+              .split(",")) {
+        exceptions.add(LocalDateTime.ofInstant(parseDateTime(exdate, value.trim(), zoneId), zoneId));
+      }
+    }
+    return exceptions;
+  }
+
+  static Instant parseDateTime(IcsProperty property, String value, ZoneId zoneId) {
+    try {
+      if (isDate(property, value)) {
+        return LocalDate.parse(value, DATE)
+                .atStartOfDay(zoneId)
+                .toInstant();
+      }
+      if (value.endsWith("Z")) {
+        return LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME)
+                .toInstant(ZoneOffset.UTC);
+      }
+      String tzid = property.getParameter("TZID");
+      return LocalDateTime.parse(value, DATE_TIME)
+              .atZone(tzid == null ? zoneId : ZoneId.of(tzid))
+              .toInstant();
+    } catch (DateTimeException e) {
+      throw new IcsFormatException("Invalid " + property.getName() + " " + value + ": " + e.getMessage());
+    }
+  }
+
+  static Duration parseDuration(String value) {
+    try {
+      String upper = value.toUpperCase();
+      if (upper.matches("[+-]?P\\d+W")) {
+        long weeks = Long.parseLong(upper.replaceAll("\\D", ""));
+        return Duration.ofDays(weeks * 7);
+      }
+      return Duration.parse(upper);
+    } catch (DateTimeException | NumberFormatException e) {
+      throw new IcsFormatException("Invalid DURATION " + value);
+    }
+  }
+
+  private static boolean isDate(IcsProperty property, String value) {
+    return "DATE".equalsIgnoreCase(property.getParameter("VALUE")) || value.length() == 8;
+  }
+
+  private static String text(IcsProperty property) {
+    if (property == null) {
+      return null;
+    }
+    String value = property.getValue();
+    if (value.indexOf('\\') < 0) {
+      return value;
+    }
+    StringBuilder text = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '\\' && i + 1 < value.length()) {
+        char escaped = value.charAt(++i);
+        text.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+      } else {
+        text.append(c);
+      }
+    }
+    return text.toString();
+  }
+}
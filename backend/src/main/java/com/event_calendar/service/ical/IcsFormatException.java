@@ -0,0 +1,7 @@
+package com.event_calendar.service.ical;
+
+public class IcsFormatException extends RuntimeException {
+  public IcsFormatException(String message) {
+    super(message);
+  }
+}
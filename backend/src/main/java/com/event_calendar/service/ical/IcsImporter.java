@@ -0,0 +1,120 @@
+package com.event_calendar.service.ical;
+
+import com.event_calendar.dto.EventBatchItemDTO;
+import com.event_calendar.dto.EventBatchRequestDTO;
+import com.event_calendar.dto.EventBatchResultDTO;
+import com.event_calendar.dto.EventDTO;
+import com.event_calendar.dto.EventImportErrorDTO;
+import com.event_calendar.dto.EventImportResultDTO;
+import com.event_calendar.service.batch.EventBatchProcessor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Imports the VEVENTs of an iCalendar stream. Events are parsed as the stream is read and handed to the
+ * {@link EventBatchProcessor} in chunks of {@link #CHUNK_SIZE}, each committed in its own transaction, so memory use
+ * does not grow with the file. Nested components such as VALARM are skipped.
+ */
+@Component
+public class IcsImporter {
+
+  static final int CHUNK_SIZE = 500;
+  static final int MAX_REPORTED_ERRORS = 1000;
+
+  private final EventBatchProcessor eventBatchProcessor;
+
+  @Autowired
+  public IcsImporter(EventBatchProcessor eventBatchProcessor) {
+    this.eventBatchProcessor = eventBatchProcessor;
+  }
+
+  public EventImportResultDTO importEvents(Reader reader, ZoneId zoneId) {
+    Import result = new Import(zoneId);
+    IcsReader ics = new IcsReader(reader);
+    IcsEvent event = null;
+    int nestedDepth = 0;
+    try {
+      for (IcsProperty property = ics.next(); property != null; property = ics.next()) {
+        String name = property.getName();
+        if (event == null) {
+          if ("BEGIN".equals(name) && "VEVENT".equalsIgnoreCase(property.getValue())) {
+            event = new IcsEvent(property.getLine());
+          }
+        } else if (nestedDepth > 0) {
+          nestedDepth += "BEGIN".equals(name) ? 1 : "END".equals(name) ? -1 : 0;
+        } else if ("BEGIN".equals(name)) {
+          nestedDepth = 1;
+        } else if ("END".equals(name) && "VEVENT".equalsIgnoreCase(property.getValue())) {
+          result.add(event);
+          event = null;
+        } else {
+          event.add(property);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    result.flush();
+    return new EventImportResultDTO(result.imported, result.rejected, result.errors, result.errorsTruncated);
+  }
+
+  private class Import {
+    private final ZoneId zoneId;
+    private final List<EventDTO> chunk = new ArrayList<>(CHUNK_SIZE);
+    private final List<IcsEvent> sources = new ArrayList<>(CHUNK_SIZE);
+    private final List<EventImportErrorDTO> errors = new ArrayList<>();
+    private int imported;
+    private int rejected;
+    private boolean errorsTruncated;
+
+    private Import(ZoneId zoneId) {
+      this.zoneId = zoneId;
+    }
+
+    private void add(IcsEvent event) {
+      try {
+        chunk.add(IcsEventConverter.toEventDTO(event, zoneId));
+        sources.add(event);
+      } catch (IcsFormatException e) {
+        reject(event, Map.of("event", e.getMessage()));
+      }
+      if (chunk.size() == CHUNK_SIZE) {
+        flush();
+      }
+    }
+
+    private void flush() {
+      if (chunk.isEmpty()) {
+        return;
+      }
+      EventBatchResultDTO batch = eventBatchProcessor.apply(new EventBatchRequestDTO(chunk, null, null), zoneId);
+      imported += batch.getApplied();
+      for (EventBatchItemDTO item : batch.getResults()) {
+        if (item.getStatus() == EventBatchItemDTO.Status.CONFLICT) {
+          reject(sources.get(item.getIndex()), Map.of("event", "Overlaps events " + item.getConflictingEventIds()));
+        } else if (item.getStatus() != EventBatchItemDTO.Status.CREATED) {
+          reject(sources.get(item.getIndex()), item.getErrors());
+        }
+      }
+      chunk.clear();
+      sources.clear();
+    }
+
+    private void reject(IcsEvent event, Map<String, String> reasons) {
+      rejected++;
+      if (errors.size() < MAX_REPORTED_ERRORS) {
+        errors.add(new EventImportErrorDTO(event.getLine(), event.getUid(), reasons));
+      } else {
+        errorsTruncated = true;
+      }
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.event_calendar.service.ical;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * One unfolded iCalendar content line: {@code NAME;PARAM=VALUE:value}.
+ */
+@Getter
+@AllArgsConstructor
+public class IcsProperty {
+
+  private final String name;
+  private final Map<String, String> parameters;
+  private final String value;
+  private final int line;
+
+  public String getParameter(String name) {
+    return parameters.get(name);
+  }
+}
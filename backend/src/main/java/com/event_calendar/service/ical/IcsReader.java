@@ -0,0 +1,124 @@
+package com.event_calendar.service.ical;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads an iCalendar stream one content line at a time, unfolding continuation lines as it goes. Only the current
+ * line and one line of lookahead are held in memory. Lines that are not {@code name[;params]:value} are skipped.
+ */
+public class IcsReader {
+
+  private final BufferedReader reader;
+  private String peeked;
+  private int peekedLine;
+  private int lineNumber;
+  private int linesRead;
+
+  public IcsReader(Reader reader) {
+    this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+  }
+
+  public IcsProperty next() throws IOException {
+    while (true) {
+      String first = take();
+      if (first == null) {
+        return null;
+      }
+      int line = lineNumber;
+      String next = peek();
+      if (next != null && isContinuation(next)) {
+        StringBuilder unfolded = new StringBuilder(first);
+        while (next != null && isContinuation(next)) {
+          unfolded.append(next, 1, next.length());
+          take();
+          next = peek();
+        }
+        first = unfolded.toString();
+      }
+      IcsProperty property = parse(first, line);
+      if (property != null) {
+        return property;
+      }
+    }
+  }
+
+  private String take() throws IOException {
+    if (peeked != null) {
+      String line = peeked;
+      lineNumber = peekedLine;
+      peeked = null;
+      return line;
+    }
+    String line = reader.readLine();
+    if (line != null) {
+      lineNumber = ++linesRead;
+    }
+    return line;
+  }
+
+  private String peek() throws IOException {
+    if (peeked == null) {
+      peeked = reader.readLine();
+      if (peeked != null) {
+        peekedLine = ++linesRead;
+      }
+    }
+    return peeked;
+  }
+
+  private static boolean isContinuation(String line) {
+    return !line.isEmpty() && (line.charAt(0) == ' ' || line.charAt(0) == '\t');
+  }
+
+  private static IcsProperty parse(String line, int lineNumber) {
+    int length = line.length();
+    int i = 0;
+    while (i < length && line.charAt(i) != ';' && line.charAt(i) != ':') {
+      i++;
+    }
+    if (i == 0 || i == length) {
+      return null;
+    }
+    String name = line.substring(0, i)
+            .toUpperCase();
+    Map<String, String> parameters = Map.of();
+    while (i < length && line.charAt(i) == ';') {
+      int keyStart = ++i;
+      while (i < length && line.charAt(i) != '=' && line.charAt(i) != ':' && line.charAt(i) != ';') {
+        i++;
+      }
+      String key = line.substring(keyStart, i)
+              .toUpperCase();
+      String value = "";
+      if (i < length && line.charAt(i) == '=') {
+        int valueStart = ++i;
+        boolean quoted = false;
+        while (i < length && (quoted || (line.charAt(i) != ';' && line.charAt(i) != ':'))) {
+          if (line.charAt(i) == '"') {
+            quoted = !quoted;
+          }
+          i++;
+        }
+        value = stripQuotes(line.substring(valueStart, i));
+      }
+      if (parameters.isEmpty()) {
+        parameters = new HashMap<>();
+      }
+      parameters.put(key, value);
+    }
+    if (i >= length || line.charAt(i) != ':') {
+      return null;
+    }
+    return new IcsProperty(name, parameters, line.substring(i + 1), lineNumber);
+  }
+
+  private static String stripQuotes(String value) {
+    return value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")
+            ? value.substring(1, value.length() - 1)
+            : value;
+  }
+}
@@ -0,0 +1,152 @@
+package com.event_calendar.service.ical;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneOffsetTransitionRule;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * The VTIMEZONE component for a zone, built from its {@link ZoneRules}: one observance per offset change since 1970,
+ * then a yearly RRULE per rule still in force. A rule whose transition day cannot be put as a seven-day window of
+ * one month gets explicit RDATEs instead, up to {@link #LAST_RDATE_YEAR}.
+ */
+final class IcsTimeZone {
+
+  static final int LAST_RDATE_YEAR = 2100;
+
+  private static final LocalDateTime FIRST = LocalDateTime.of(1970, 1, 1, 0, 0);
+  private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+  private static final int WEEK = 7;
+
+  private IcsTimeZone() {
+  }
+
+  /**
+   * The component's content lines, unfolded.
+   */
+  static List<String> lines(ZoneId zone) {
+    ZoneRules rules = zone.getRules();
+    Instant first = FIRST.toInstant(ZoneOffset.UTC);
+    List<String> lines = new ArrayList<>();
+    lines.add("BEGIN:VTIMEZONE");
+    lines.add("TZID:" + zone.getId());
+    // The offset in force at the start, so every later time is covered by some observance.
+    ZoneOffset initial = rules.getOffset(first);
+    observance(lines, rules.isDaylightSavings(first), FIRST, initial, initial, null);
+
+    int firstRuleYear = FIRST.getYear();
+    for (ZoneOffsetTransition transition : rules.getTransitions()) {
+      if (transition.getInstant()
+              .isAfter(first)) {
+        observance(lines, rules.isDaylightSavings(transition.getInstant()), transition.getDateTimeBefore(),
+                transition.getOffsetBefore(), transition.getOffsetAfter(), null);
+        firstRuleYear = transition.getDateTimeAfter()
+                .getYear() + 1;
+      }
+    }
+    for (ZoneOffsetTransitionRule rule : rules.getTransitionRules()) {
+      ZoneOffsetTransition transition = rule.createTransition(firstRuleYear);
+      String recurrence = yearlyRule(rule, transition);
+      if (recurrence == null) {
+        StringJoiner dates = new StringJoiner(",", "RDATE:", "");
+        for (int year = firstRuleYear + 1; year <= LAST_RDATE_YEAR; year++) {
+          dates.add(local(rule.createTransition(year)
+                  .getDateTimeBefore()));
+        }
+        recurrence = dates.toString();
+      } else {
+        recurrence = "RRULE:" + recurrence;
+      }
+      observance(lines, !rule.getOffsetAfter()
+              .equals(rule.getStandardOffset()), transition.getDateTimeBefore(), rule.getOffsetBefore(),
+              rule.getOffsetAfter(), recurrence);
+    }
+    lines.add("END:VTIMEZONE");
+    return lines;
+  }
+
+  // RFC 5545 takes DTSTART in the local time before the change, so the day the rule names may shift by one once its
+  // time is moved onto the wall clock; the window of seven candidate days shifts with it. Windows that are a whole week
+  // of the month are written as an ordinal weekday, the form every client understands.
+  private static String yearlyRule(ZoneOffsetTransitionRule rule, ZoneOffsetTransition transition) {
+    LocalDate date = transition.getDateTimeBefore()
+            .toLocalDate();
+    Month month = rule.getMonth();
+    if (date.getMonth() != month) {
+      return null;
+    }
+    String yearly = "FREQ=YEARLY;BYMONTH=" + month.getValue();
+    if (rule.getDayOfWeek() == null) {
+      if (rule.isMidnightEndOfDay() || rule.getDayOfMonthIndicator() < 0) {
+        return null;
+      }
+      return yearly + ";BYMONTHDAY=" + date.getDayOfMonth();
+    }
+    int shift = Math.floorMod(date.getDayOfWeek()
+            .getValue() - rule.getDayOfWeek()
+            .getValue() + 1, WEEK) - 1;
+    int indicator = rule.getDayOfMonthIndicator();
+    int firstDay = (indicator > 0 ? indicator : indicator - WEEK + 1) + shift;
+    int lastDay = firstDay + WEEK - 1;
+    boolean fixedLength = month.minLength() == month.maxLength();
+    if (firstDay < 0 && fixedLength) {
+      firstDay += month.length(false) + 1;
+      lastDay += month.length(false) + 1;
+    }
+    String weekday = weekday(date.getDayOfWeek());
+    if (firstDay > 0 && (firstDay - 1) % WEEK == 0 && lastDay <= month.minLength()) {
+      return yearly + ";BYDAY=" + ((firstDay - 1) / WEEK + 1) + weekday;
+    }
+    if (firstDay == -WEEK || fixedLength && lastDay == month.length(false)) {
+      return yearly + ";BYDAY=-1" + weekday;
+    }
+    if (firstDay > 0 ? lastDay > month.minLength() : firstDay < -month.minLength() || lastDay > -1) {
+      return null;
+    }
+    StringJoiner days = new StringJoiner(",");
+    for (int day = firstDay; day <= lastDay; day++) {
+      days.add(Integer.toString(day));
+    }
+    return yearly + ";BYDAY=" + weekday + ";BYMONTHDAY=" + days;
+  }
+
+  private static void observance(List<String> lines, boolean daylight, LocalDateTime start, ZoneOffset before,
+          ZoneOffset after, String recurrence) {
+    String type = daylight ? "DAYLIGHT" : "STANDARD";
+    lines.add("BEGIN:" + type);
+    lines.add("DTSTART:" + local(start));
+    if (recurrence != null) {
+      lines.add(recurrence);
+    }
+    lines.add("TZOFFSETFROM:" + offset(before));
+    lines.add("TZOFFSETTO:" + offset(after));
+    lines.add("END:" + type);
+  }
+
+  private static String weekday(DayOfWeek day) {
+    return day.name()
+            .substring(0, 2);
+  }
+
+  private static String local(LocalDateTime dateTime) {
+    return LOCAL_DATE_TIME.format(dateTime);
+  }
+
+  // +HHMM, or +HHMMSS for the historical offsets that have seconds.
+  static String offset(ZoneOffset offset) {
+    int seconds = offset.getTotalSeconds();
+    int abs = Math.abs(seconds);
+    String value = String.format("%s%02d%02d", seconds < 0 ? "-" : "+", abs / 3_600, abs / 60 % 60);
+    return abs % 60 == 0 ? value : value + String.format("%02d", abs % 60);
+  }
+}
@@ -0,0 +1,167 @@
+package com.event_calendar.service.ical;
+
+import com.event_calendar.repository.projection.EventDetails;
+import com.event_calendar.service.recurrence.RecurrenceRule;
+import com.event_calendar.service.recurrence.RecurrenceSeries;
+import com.event_calendar.util.DateUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Writes events as an iCalendar stream, one VEVENT at a time. Single events are written in UTC; recurring series are
+ * written in their own zone with a TZID so that clients expand them across DST changes the way we do. Each zone's
+ * VTIMEZONE is written once, ahead of the first series that refers to it.
+ */
+public class IcsWriter {
+
+  static final String PRODUCT_ID = "-//Event Calendar//Event Calendar//EN";
+
+  private static final int MAX_LINE_OCTETS = 75;
+  private static final String CRLF = "\r\n";
+  private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+          .withZone(ZoneOffset.UTC);
+  private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+  private final Writer writer;
+  private final Set<ZoneId> zonesWritten = new HashSet<>();
+
+  public IcsWriter(Writer writer) {
+    this.writer = writer;
+  }
+
+  public void begin() throws IOException {
+    line("BEGIN:VCALENDAR");
+    line("VERSION:2.0");
+    line("PRODID:" + PRODUCT_ID);
+    line("CALSCALE:GREGORIAN");
+  }
+
+  public void write(EventDetails event) throws IOException {
+    Instant lastModified = event.getUpdatedAt() != null ? event.getUpdatedAt() : event.getCreatedAt();
+    ZoneId zone = event.getRecurrenceRule() == null ? null : DateUtils.parseZone(event.getTimeZone());
+    if (zone != null && zonesWritten.add(zone)) {
+      for (String content : IcsTimeZone.lines(zone)) {
+        line(content);
+      }
+    }
+    line("BEGIN:VEVENT");
+    line("UID:" + event.getId() + "@event-calendar");
+    line("DTSTAMP:" + utc(lastModified != null ? lastModified : Instant.now()));
+    if (event.getRecurrenceRule() == null) {
+      line("DTSTART:" + utc(event.getStartDateTime()));
+      line("DTEND:" + utc(event.getEndDateTime()));
+    } else {
+      writeSeries(event, zone);
+    }
+    line("SUMMARY:" + escape(event.getTitle()));
+    if (event.getDescription() != null) {
+      line("DESCRIPTION:" + escape(event.getDescription()));
+    }
+    if (event.getLocation() != null) {
+      line("LOCATION:" + escape(event.getLocation()));
+    }
+    if (lastModified != null) {
+      line("LAST-MODIFIED:" + utc(lastModified));
+    }
+    line("END:VEVENT");
+  }
+
+  public void end() throws IOException {
+    line("END:VCALENDAR");
+    writer.flush();
+  }
+
+  private void writeSeries(EventDetails event, ZoneId zone) throws IOException {
+    // Offset ids such as +02:00 contain a colon, which only a quoted parameter value may hold.
+    String tzid = ";TZID=" + (zone.getId()
+            .contains(":") ? "\"" + zone.getId() + "\"" : zone.getId()) + ":";
+    line("DTSTART" + tzid + local(event.getStartDateTime(), zone));
+    line("DTEND" + tzid + local(event.getEndDateTime(), zone));
+    line("RRULE:" + utcRule(RecurrenceRule.parse(event.getRecurrenceRule()), zone));
+    long[] exceptions = RecurrenceSeries.parseExceptions(event.getRecurrenceExceptions());
+    if (exceptions.length > 0) {
+      StringBuilder exdate = new StringBuilder("EXDATE").append(tzid);
+      for (int i = 0; i < exceptions.length; i++) {
+        exdate.append(i == 0 ? "" : ",")
+                .append(local(Instant.ofEpochMilli(exceptions[i]), zone));
+      }
+      line(exdate.toString());
+    }
+  }
+
+  // RFC 5545 wants UNTIL in UTC once DTSTART carries a TZID; we also accept floating and date-only values.
+  private static String utcRule(RecurrenceRule rule, ZoneId zone) {
+    String until = rule.getUntil();
+    if (until == null || until.endsWith("Z")) {
+      return rule.toString();
+    }
+    return rule.toString()
+            .replace("UNTIL=" + until, "UNTIL=" + utc(rule.resolveUntil(zone)));
+  }
+
+  private void line(String content) throws IOException {
+    byte[] octets = content.getBytes(StandardCharsets.UTF_8);
+    if (octets.length <= MAX_LINE_OCTETS) {
+      writer.write(content);
+      writer.write(CRLF);
+      return;
+    }
+    // Fold on character boundaries, counting octets; continuation lines lose one octet to the leading space.
+    int limit = MAX_LINE_OCTETS;
+    int lineOctets = 0;
+    for (int i = 0; i < content.length(); ) {
+      int codePoint = content.codePointAt(i);
+      int size = utf8Length(codePoint);
+      if (lineOctets + size > limit) {
+        writer.write(CRLF);
+        writer.write(' ');
+        limit = MAX_LINE_OCTETS - 1;
+        lineOctets = 0;
+      }
+      writer.write(content, i, Character.charCount(codePoint));
+      lineOctets += size;
+      i += Character.charCount(codePoint);
+    }
+    writer.write(CRLF);
+  }
+
+  private static int utf8Length(int codePoint) {
+    return codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+  }
+
+  static String escape(String text) {
+    StringBuilder escaped = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      switch (c) {
+        case '\\', ';', ',' -> escaped.append('\\')
+                .append(c);
+        case '\n' -> escaped.append("\\n");
+        case '\r' -> {
+          if (i + 1 >= text.length() || text.charAt(i + 1) != '\n') {
+            escaped.append("\\n");
+          }
+        }
+        default -> escaped.append(c);
+      }
+    }
+    return escaped.toString();
+  }
+
+  private static String utc(Instant instant) {
+    return UTC_DATE_TIME.format(instant.truncatedTo(ChronoUnit.SECONDS));
+  }
+
+  private static String local(Instant instant, ZoneId zone) {
+    return LOCAL_DATE_TIME.format(instant.atZone(zone));
+  }
+}
@@ -1,69 +1,514 @@
 package com.event_calendar.service.impl;
 
+import com.event_calendar.dto.EventBatchRequestDTO;
+import com.event_calendar.dto.EventBatchResultDTO;
+import com.event_calendar.dto.EventBusyIntervalDTO;
+import com.event_calendar.dto.EventConflictDTO;
 import com.event_calendar.dto.EventDTO;
+import com.event_calendar.dto.EventFreeSlotDTO;
+import com.event_calendar.dto.EventImportResultDTO;
+import com.event_calendar.dto.EventPageDTO;
+import com.event_calendar.dto.EventSyncDTO;
+import com.event_calendar.entity.ArchivedEventEntity;
 import com.event_calendar.entity.EventEntity;
+import com.event_calendar.entity.EventTombstoneEntity;
 import com.event_calendar.exception.EventNotFoundException;
+import com.event_calendar.exception.EventVersionMismatchException;
+import com.event_calendar.exception.InvalidTimeRangeException;
+import com.event_calendar.exception.InvalidWorkingHoursException;
 import com.event_calendar.mapper.EventMapper;
+import com.event_calendar.repository.EventArchiveRepository;
 import com.event_calendar.repository.EventRepository;
+import com.event_calendar.repository.EventTombstoneRepository;
+import com.event_calendar.repository.projection.EventCollectionVersion;
+import com.event_calendar.repository.projection.EventDetails;
+import com.event_calendar.repository.projection.EventVersion;
+import com.event_calendar.repository.projection.EventView;
+import com.event_calendar.service.EventChange;
 import com.event_calendar.service.EventService;
+import com.event_calendar.service.archive.EventArchive;
+import com.event_calendar.service.batch.EventBatchProcessor;
+import com.event_calendar.service.cache.EventCache;
+import com.event_calendar.service.conflict.EventConflictDetector;
+import com.event_calendar.service.freebusy.BusySweep;
+import com.event_calendar.service.freebusy.FreeSlotSearch;
+import com.event_calendar.service.freebusy.WorkingHours;
+import com.event_calendar.service.ical.IcsImporter;
+import com.event_calendar.service.ical.IcsWriter;
+import com.event_calendar.service.index.EventIntervalIndex;
+import com.event_calendar.service.range.TimeRangeLimit;
+import com.event_calendar.service.recurrence.OccurrenceCursor;
+import com.event_calendar.service.recurrence.RecurrenceSeries;
+import com.event_calendar.service.sync.ChangeSequence;
+import com.event_calendar.util.DateUtils;
+import com.event_calendar.util.EventCursor;
+import com.event_calendar.util.SyncToken;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class EventServiceImpl implements EventService {
 
+  static final int MAX_PAGE_SIZE = 500;
+  static final int MAX_FREE_SLOTS = 100;
+
+  private static final Comparator<EventDTO> OCCURRENCE_ORDER = Comparator.comparing(EventDTO::getStartDateTime)
+          .thenComparing(EventDTO::getId);
+  private static final Comparator<EventView> PAGE_ORDER = Comparator.comparing(EventView::getStartDateTime)
+          .thenComparing(EventView::getId);
+  private static final Comparator<EventView> CHANGE_ORDER = Comparator.comparingLong(EventView::getChangeSeq);
+
   private final EventRepository eventRepository;
   private final EventMapper eventMapper;
+  private final EntityManager entityManager;
+  private final EventIntervalIndex eventIntervalIndex;
+  private final EventConflictDetector eventConflictDetector;
+  private final EventCache eventCache;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ChangeSequence changeSequence;
+  private final EventTombstoneRepository eventTombstoneRepository;
+  private final EventBatchProcessor eventBatchProcessor;
+  private final IcsImporter icsImporter;
+  private final EventArchive eventArchive;
+  private final EventArchiveRepository eventArchiveRepository;
+  private final TimeRangeLimit timeRangeLimit;
 
   @Autowired
-  public EventServiceImpl(EventRepository eventRepository, EventMapper eventMapper) {
+  public EventServiceImpl(EventRepository eventRepository, EventMapper eventMapper, EntityManager entityManager,
+          EventIntervalIndex eventIntervalIndex, EventConflictDetector eventConflictDetector, EventCache eventCache,
+          ApplicationEventPublisher eventPublisher, ChangeSequence changeSequence,
+          EventTombstoneRepository eventTombstoneRepository, EventBatchProcessor eventBatchProcessor,
+          IcsImporter icsImporter, EventArchive eventArchive, EventArchiveRepository eventArchiveRepository,
+          TimeRangeLimit timeRangeLimit) {
     this.eventRepository = eventRepository;
     this.eventMapper = eventMapper;
+    this.entityManager = entityManager;
+    this.eventIntervalIndex = eventIntervalIndex;
+    this.eventConflictDetector = eventConflictDetector;
+    this.eventCache = eventCache;
+    this.eventPublisher = eventPublisher;
+    this.changeSequence = changeSequence;
+    this.eventTombstoneRepository = eventTombstoneRepository;
+    this.eventBatchProcessor = eventBatchProcessor;
+    this.icsImporter = icsImporter;
+    this.eventArchive = eventArchive;
+    this.eventArchiveRepository = eventArchiveRepository;
+    this.timeRangeLimit = timeRangeLimit;
   }
 
   @Transactional
   @Override
   public EventDTO createEvent(EventDTO event, ZoneId zoneId) {
-    EventEntity save = eventRepository.save(eventMapper.toEntity(event, zoneId));
-    return eventMapper.toResponseDTO(save, zoneId);
+    EventEntity entity = eventMapper.toEntity(event, zoneId);
+    List<Long> conflicts = eventConflictDetector.check(null, entity);
+    entity.setChangeSeq(changeSequence.next());
+    EventEntity save = eventRepository.save(entity);
+    eventPublisher.publishEvent(EventChange.saved(save));
+    return withConflicts(eventMapper.toResponseDTO(save, zoneId), conflicts);
   }
 
   @Transactional
   @Override
+  public EventBatchResultDTO applyBatch(EventBatchRequestDTO batch, ZoneId zoneId) {
+    return eventBatchProcessor.apply(batch, zoneId);
+  }
+
+  // Not transactional: the importer commits each chunk separately so a large file never becomes one transaction.
+  @Override
+  public EventImportResultDTO importEvents(Reader reader, ZoneId zoneId) {
+    return icsImporter.importEvents(reader, zoneId);
+  }
+
+  @Transactional(readOnly = true)
+  @Override
   public List<EventDTO> getAllEvents(ZoneId zoneId) {
-    return eventRepository.findAll()
-            .stream()
+    List<EventView> events = eventRepository.findAllViews();
+    if (!eventArchive.isEmpty()) {
+      events = concat(events, eventArchiveRepository.findAllViews());
+    }
+    return events.stream()
             .map(event -> eventMapper.toResponseDTO(event, zoneId))
             .toList();
   }
 
-  @Transactional
+  @Transactional(readOnly = true)
+  @Override
+  public List<EventDTO> getEventsInRange(LocalDateTime from, LocalDateTime to, ZoneId zoneId) {
+    Instant fromInstant = DateUtils.toInstant(from, zoneId);
+    Instant toInstant = DateUtils.toInstant(to, zoneId);
+    timeRangeLimit.validate(fromInstant, toInstant);
+    List<EventDTO> events = new ArrayList<>();
+    for (EventView event : eventRepository.findOverlapping(fromInstant, toInstant)) {
+      events.add(eventMapper.toResponseDTO(event, zoneId));
+    }
+    boolean archived = eventArchive.reaches(fromInstant);
+    if (archived) {
+      for (EventView event : eventArchiveRepository.findOverlapping(fromInstant, toInstant)) {
+        events.add(eventMapper.toResponseDTO(event, zoneId));
+      }
+    }
+    List<EventView> series = eventRepository.findRecurringOverlapping(fromInstant, toInstant);
+    if (series.isEmpty() && !archived) {
+      return events;
+    }
+    for (EventView event : series) {
+      addOccurrences(event, fromInstant, toInstant, zoneId, events);
+    }
+    events.sort(OCCURRENCE_ORDER);
+    return events;
+  }
+
+  @Transactional(readOnly = true)
+  @Override
+  public EventCollectionVersion getEventsVersion(LocalDateTime from, LocalDateTime to, ZoneId zoneId) {
+    if (from == null || to == null) {
+      EventCollectionVersion version = eventRepository.findCollectionVersion();
+      return eventArchive.isEmpty() ? version : combine(version, eventArchiveRepository.findCollectionVersion());
+    }
+    Instant fromInstant = DateUtils.toInstant(from, zoneId);
+    Instant toInstant = DateUtils.toInstant(to, zoneId);
+    TimeRangeLimit.validateOrder(fromInstant, toInstant);
+    EventCollectionVersion version = eventRepository.findCollectionVersion(fromInstant, toInstant);
+    return eventArchive.reaches(fromInstant)
+            ? combine(version, eventArchiveRepository.findCollectionVersion(fromInstant, toInstant))
+            : version;
+  }
+
+  @Transactional(readOnly = true)
+  @Override
+  public EventPageDTO getEventsPage(String cursor, int limit, ZoneId zoneId) {
+    int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    Limit fetchLimit = Limit.of(pageSize + 1);
+    List<EventView> rows;
+    if (cursor == null || cursor.isBlank()) {
+      rows = eventRepository.findFirstPage(fetchLimit);
+      if (!eventArchive.isEmpty()) {
+        rows = merge(rows, eventArchiveRepository.findFirstPage(fetchLimit), PAGE_ORDER, fetchLimit);
+      }
+    } else {
+      EventCursor after = EventCursor.decode(cursor);
+      rows = eventRepository.findPageAfter(after.getStartDateTime(), after.getId(), fetchLimit);
+      // Archived events start before they end, so once the cursor is past the archive there is nothing left there.
+      if (eventArchive.reaches(after.getStartDateTime())) {
+        rows = merge(rows, eventArchiveRepository.findPageAfter(after.getStartDateTime(), after.getId(), fetchLimit),
+                PAGE_ORDER, fetchLimit);
+      }
+    }
+
+    List<EventView> page = rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+    String nextCursor = null;
+    if (rows.size() > pageSize) {
+      EventView last = page.get(page.size() - 1);
+      nextCursor = new EventCursor(last.getStartDateTime(), last.getId()).encode();
+    }
+    List<EventDTO> items = page.stream()
+            .map(event -> eventMapper.toResponseDTO(event, zoneId))
+            .toList();
+    return new EventPageDTO(items, nextCursor);
+  }
+
+  @Transactional(readOnly = true)
+  @Override
+  public EventSyncDTO syncEvents(String token, int limit, ZoneId zoneId) {
+    int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    long since = token == null || token.isBlank() ? 0 : SyncToken.decode(token);
+    Limit fetchLimit = Limit.of(pageSize + 1);
+    List<EventView> events = eventRepository.findByChangeSeqGreaterThanOrderByChangeSeq(since, fetchLimit);
+    // Archiving does not change an event, so archived events keep their place in the change order.
+    if (!eventArchive.isEmpty()) {
+      events = merge(events, eventArchiveRepository.findByChangeSeqGreaterThanOrderByChangeSeq(since, fetchLimit),
+              CHANGE_ORDER, fetchLimit);
+    }
+    // A client without a token holds nothing yet, so there is nothing for it to delete.
+    List<EventTombstoneEntity> tombstones = since == 0
+            ? List.of()
+            : eventTombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeq(since, fetchLimit);
+
+    List<EventDTO> changed = new ArrayList<>();
+    List<Long> deleted = new ArrayList<>();
+    long last = since;
+    int e = 0;
+    int t = 0;
+    while (changed.size() + deleted.size() < pageSize && (e < events.size() || t < tombstones.size())) {
+      if (t == tombstones.size()
+              || (e < events.size() && events.get(e).getChangeSeq() < tombstones.get(t).getChangeSeq())) {
+        EventView event = events.get(e++);
+        changed.add(eventMapper.toResponseDTO(event, zoneId));
+        last = event.getChangeSeq();
+      } else {
+        EventTombstoneEntity tombstone = tombstones.get(t++);
+        deleted.add(tombstone.getEventId());
+        last = tombstone.getChangeSeq();
+      }
+    }
+    boolean hasMore = e < events.size() || t < tombstones.size();
+    return new EventSyncDTO(changed, deleted, SyncToken.encode(last), hasMore);
+  }
+
+  @Transactional(readOnly = true)
+  @Override
+  public List<EventDTO> getEventsAt(LocalDateTime at, ZoneId zoneId) {
+    Instant atInstant = DateUtils.toInstant(at, zoneId);
+    List<Long> ids = eventIntervalIndex.findContaining(atInstant);
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    List<EventView> views = eventRepository.findViewsById(ids);
+    if (views.size() < ids.size() && eventArchive.reaches(atInstant)) {
+      Set<Long> archived = new HashSet<>(ids);
+      views.forEach(event -> archived.remove(event.getId()));
+      views = concat(views, eventArchiveRepository.findViewsById(archived));
+    }
+    List<EventDTO> events = new ArrayList<>();
+    for (EventView event : views) {
+      if (event.getRecurrenceRule() == null) {
+        events.add(eventMapper.toResponseDTO(event, zoneId));
+      } else {
+        addOccurrences(event, atInstant, atInstant.plusMillis(1), zoneId, events);
+      }
+    }
+    events.sort(OCCURRENCE_ORDER);
+    return events;
+  }
+
+  @Override
+  public List<EventConflictDTO> getConflicts(LocalDateTime from, LocalDateTime to, ZoneId zoneId) {
+    Instant fromInstant = DateUtils.toInstant(from, zoneId);
+    Instant toInstant = DateUtils.toInstant(to, zoneId);
+    timeRangeLimit.validate(fromInstant, toInstant);
+    return eventConflictDetector.findOverlaps(fromInstant, toInstant)
+            .stream()
+            .map(overlap -> new EventConflictDTO(overlap.getFirstEventId(), overlap.getSecondEventId(),
+                    toLocalDateTime(overlap.getOverlapStart(), zoneId), toLocalDateTime(overlap.getOverlapEnd(), zoneId)))
+            .toList();
+  }
+
+  @Override
+  public List<EventBusyIntervalDTO> getFreeBusy(LocalDateTime from, LocalDateTime to, ZoneId zoneId) {
+    Instant fromInstant = DateUtils.toInstant(from, zoneId);
+    Instant toInstant = DateUtils.toInstant(to, zoneId);
+    timeRangeLimit.validate(fromInstant, toInstant);
+    BusySweep sweep = new BusySweep(fromInstant.toEpochMilli(), toInstant.toEpochMilli());
+    eventIntervalIndex.forEachOverlapping(fromInstant, toInstant, sweep);
+    return sweep.getBlocks()
+            .stream()
+            .map(block -> new EventBusyIntervalDTO(toLocalDateTime(block.getStart(), zoneId),
+                    toLocalDateTime(block.getEnd(), zoneId)))
+            .toList();
+  }
+
+  @Override
+  public List<EventFreeSlotDTO> findFreeSlots(LocalDateTime from, LocalDateTime to, Duration duration,
+          WorkingHours workingHours, int limit, ZoneId zoneId) {
+    Instant fromInstant = DateUtils.toInstant(from, zoneId);
+    Instant toInstant = DateUtils.toInstant(to, zoneId);
+    timeRangeLimit.validate(fromInstant, toInstant);
+    if (duration.isNegative() || duration.isZero()) {
+      throw new InvalidTimeRangeException("Duration " + duration + " must be positive");
+    }
+    // Otherwise no period could ever hold it and the search would walk every working day of the window.
+    if (duration.compareTo(workingHours.longestPeriod()) > 0) {
+      throw new InvalidWorkingHoursException("Duration " + duration + " is longer than any working period");
+    }
+    FreeSlotSearch search = new FreeSlotSearch(fromInstant.toEpochMilli(), toInstant.toEpochMilli(),
+            duration.toMillis(), Math.max(1, Math.min(limit, MAX_FREE_SLOTS)), workingHours, zoneId);
+    eventIntervalIndex.visitOverlapping(fromInstant, toInstant, search);
+    return search.getSlots()
+            .stream()
+            .map(slot -> new EventFreeSlotDTO(toLocalDateTime(slot.getStart(), zoneId), toLocalDateTime(slot.getEnd(),
+                    zoneId)))
+            .toList();
+  }
+
+  @Transactional(readOnly = true)
+  @Override
+  public void exportEvents(ZoneId zoneId, Consumer<EventDTO> consumer) {
+    try (Stream<EventEntity> events = eventRepository.streamAll()) {
+      events.forEach(event -> {
+        consumer.accept(eventMapper.toResponseDTO(event, zoneId));
+        entityManager.detach(event);
+      });
+    }
+    if (eventArchive.isEmpty()) {
+      return;
+    }
+    try (Stream<ArchivedEventEntity> events = eventArchiveRepository.streamAll()) {
+      events.forEach(event -> {
+        consumer.accept(eventMapper.toResponseDTO(event, zoneId));
+        entityManager.detach(event);
+      });
+    }
+  }
+
+  @Transactional(readOnly = true)
+  @Override
+  public void exportCalendar(LocalDateTime from, LocalDateTime to, ZoneId zoneId, Writer writer) {
+    Instant fromInstant = null;
+    Instant toInstant = null;
+    if (from != null && to != null) {
+      fromInstant = DateUtils.toInstant(from, zoneId);
+      toInstant = DateUtils.toInstant(to, zoneId);
+      TimeRangeLimit.validateOrder(fromInstant, toInstant);
+    }
+    IcsWriter ics = new IcsWriter(writer);
+    try {
+      ics.begin();
+      writeAll(fromInstant == null ? eventRepository.streamAll()
+              : eventRepository.streamOverlapping(fromInstant, toInstant), ics);
+      if (fromInstant == null ? !eventArchive.isEmpty() : eventArchive.reaches(fromInstant)) {
+        writeAll(fromInstant == null ? eventArchiveRepository.streamAll()
+                : eventArchiveRepository.streamOverlapping(fromInstant, toInstant), ics);
+      }
+      ics.end();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void writeAll(Stream<? extends EventDetails> events, IcsWriter ics) throws IOException {
+    try (events) {
+      for (Iterator<? extends EventDetails> iterator = events.iterator(); iterator.hasNext(); ) {
+        EventDetails event = iterator.next();
+        ics.write(event);
+        entityManager.detach(event);
+      }
+    }
+  }
+
+  @Transactional(readOnly = true)
   @Override
   public EventDTO getEventById(Long id, ZoneId zoneId) {
-    EventEntity eventEntity = eventRepository.findById(id)
+    return getEventById(id, getEventVersion(id).getVersion(), zoneId);
+  }
+
+  @Transactional(readOnly = true)
+  @Override
+  public EventDTO getEventById(Long id, long version, ZoneId zoneId) {
+    EventView event = eventCache.get(id, version, () -> eventRepository.findViewById(id)
+                    .or(() -> eventArchiveRepository.findViewById(id)))
             .orElseThrow(() -> new EventNotFoundException(id));
-    return eventMapper.toResponseDTO(eventEntity, zoneId);
+    return eventMapper.toResponseDTO(event, zoneId);
   }
 
-  @Transactional
+  // Always from the table: writes on other instances do not evict this instance's cache.
+  @Transactional(readOnly = true)
   @Override
-  public EventDTO updateEvent(Long id, EventDTO eventDetails, ZoneId zoneId) {
-    EventEntity existingEvent = eventRepository.findById(id)
+  public EventVersion getEventVersion(Long id) {
+    return eventRepository.findVersionById(id)
+            .or(() -> eventArchiveRepository.findVersionById(id))
             .orElseThrow(() -> new EventNotFoundException(id));
-    eventMapper.updateEntityFromDto(eventDetails, zoneId, existingEvent);
-    EventEntity updatedEvent = eventRepository.save(existingEvent);
-    return eventMapper.toResponseDTO(updatedEvent, zoneId);
   }
 
+  /**
+   * Writes the new fields with a single update instead of loading the row first. As on create, the conflict check runs
+   * before the change sequence is taken, so every writer takes its locks in the same order. An archived event is moved
+   * back to the event table first.
+   */
   @Transactional
   @Override
-  public void deleteEvent(Long id) {
-    EventEntity eventEntity = this.eventRepository.findById(id)
-            .orElseThrow(() -> new EventNotFoundException(id));
-    eventRepository.delete(eventEntity);
+  public EventDTO updateEvent(Long id, EventDTO eventDetails, Long expectedVersion, ZoneId zoneId) {
+    EventEntity event = eventMapper.toEntity(eventDetails, zoneId);
+    event.setId(id);
+    List<Long> conflicts = eventConflictDetector.check(id, event);
+    event.setChangeSeq(changeSequence.next());
+    event.setUpdatedAt(Instant.now());
+    if (eventRepository.updateIfVersion(event, expectedVersion) == 0
+            && (eventArchive.restore(List.of(id)) == 0 || eventRepository.updateIfVersion(event, expectedVersion) == 0)) {
+      throw missingOrModified(id, expectedVersion);
+    }
+    eventPublisher.publishEvent(EventChange.saved(event));
+    return withConflicts(eventMapper.toResponseDTO(event, zoneId), conflicts);
+  }
+
+  @Transactional
+  @Override
+  public void deleteEvent(Long id, Long expectedVersion) {
+    if (eventRepository.deleteIfVersion(id, expectedVersion) == 0
+            && eventArchiveRepository.deleteIfVersion(id, expectedVersion) == 0) {
+      throw missingOrModified(id, expectedVersion);
+    }
+    eventTombstoneRepository.save(new EventTombstoneEntity(id, changeSequence.next()));
+    eventPublisher.publishEvent(EventChange.deleted(id));
+  }
+
+  private void addOccurrences(EventView event, Instant from, Instant to, ZoneId zoneId, List<EventDTO> events) {
+    OccurrenceCursor occurrences = RecurrenceSeries.of(event)
+            .occurrences(from, to);
+    while (occurrences.next()) {
+      events.add(eventMapper.toOccurrenceDTO(event, occurrences.getStartInstant(), occurrences.getEndInstant(), zoneId));
+    }
+  }
+
+  // Only costs a query when the write matched nothing.
+  private RuntimeException missingOrModified(Long id, Long expectedVersion) {
+    if (expectedVersion != null && (eventRepository.existsById(id) || eventArchiveRepository.existsById(id))) {
+      return new EventVersionMismatchException(id);
+    }
+    return new EventNotFoundException(id);
+  }
+
+  private static EventCollectionVersion combine(EventCollectionVersion events, EventCollectionVersion archived) {
+    Instant lastModified = events.getLastModified();
+    if (lastModified == null || (archived.getLastModified() != null && archived.getLastModified()
+            .isAfter(lastModified))) {
+      lastModified = archived.getLastModified();
+    }
+    return new EventCollectionVersion(events.getCount() + archived.getCount(), lastModified);
+  }
+
+  private static List<EventView> concat(List<EventView> events, List<EventView> archived) {
+    if (archived.isEmpty()) {
+      return events;
+    }
+    List<EventView> all = new ArrayList<>(events.size() + archived.size());
+    all.addAll(events);
+    all.addAll(archived);
+    return all;
+  }
+
+  /**
+   * The first {@code limit} rows of two lists that are each sorted by {@code order}.
+   */
+  private static List<EventView> merge(List<EventView> events, List<EventView> archived, Comparator<EventView> order,
+          Limit limit) {
+    if (archived.isEmpty()) {
+      return events;
+    }
+    return Stream.concat(events.stream(), archived.stream())
+            .sorted(order)
+            .limit(limit.max())
+            .toList();
+  }
+
+  private EventDTO withConflicts(EventDTO dto, List<Long> conflicts) {
+    if (dto != null && !conflicts.isEmpty()) {
+      dto.setConflictingEventIds(conflicts);
+    }
+    return dto;
+  }
+
+  private static LocalDateTime toLocalDateTime(long epochMilli, ZoneId zoneId) {
+    return DateUtils.toLocalDateTime(Instant.ofEpochMilli(epochMilli), zoneId);
   }
 }
@@ -0,0 +1,395 @@
+package com.event_calendar.service.index;
+
+import com.event_calendar.entity.ChangeSequenceEntity;
+import com.event_calendar.entity.EventTombstoneEntity;
+import com.event_calendar.repository.ChangeSequenceRepository;
+import com.event_calendar.repository.EventArchiveRepository;
+import com.event_calendar.repository.EventRepository;
+import com.event_calendar.repository.EventTombstoneRepository;
+import com.event_calendar.repository.projection.EventInterval;
+import com.event_calendar.repository.projection.EventView;
+import com.event_calendar.service.EventChange;
+import com.event_calendar.service.recurrence.OccurrenceCursor;
+import com.event_calendar.service.recurrence.RecurrenceSeries;
+import com.event_calendar.service.sync.ChangeSequence;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * In-memory copy of every event's time interval, kept in sync with committed writes, so overlap and
+ * point-in-time lookups can be answered without a database round trip. Recurring series are kept beside the tree and
+ * expanded per lookup, since their occurrences cannot all be stored. Archived events are included: archiving moves
+ * an event without changing it.
+ * <p>
+ * Writes made by this instance arrive through {@link #onEventChange(EventChange)} as they commit. Writes made by other
+ * instances are picked up by {@link #catchUp()}, which reads every row and tombstone with a change sequence number
+ * above the last one applied, so a second instance lags by at most {@code events.index.catch-up-interval}.
+ */
+@Slf4j
+@Component
+public class EventIntervalIndex implements SmartInitializingSingleton {
+
+  static final int CATCH_UP_BATCH_SIZE = 1_000;
+
+  private final EventRepository eventRepository;
+  private final EventArchiveRepository eventArchiveRepository;
+  private final EventTombstoneRepository eventTombstoneRepository;
+  private final ChangeSequenceRepository changeSequenceRepository;
+  private final TransactionTemplate readOnlyTransaction;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  // Keeps a rebuild and a catch-up from interleaving; neither holds the read-write lock while it queries.
+  private final Lock refreshLock = new ReentrantLock();
+  // Every change up to this sequence number is in the index; guarded by refreshLock.
+  private long appliedSeq;
+  private final IntervalTree tree = new IntervalTree();
+  private final Map<Long, long[]> intervalsById = new HashMap<>();
+  private final Map<Long, RecurrenceSeries> seriesById = new HashMap<>();
+  // Each series' whole span, up to the end of its last occurrence, so lookups only expand series that can reach them.
+  private final IntervalTree seriesSpans = new IntervalTree();
+
+  @Autowired
+  public EventIntervalIndex(EventRepository eventRepository, EventArchiveRepository eventArchiveRepository,
+          EventTombstoneRepository eventTombstoneRepository, ChangeSequenceRepository changeSequenceRepository,
+          PlatformTransactionManager transactionManager) {
+    this.eventRepository = eventRepository;
+    this.eventArchiveRepository = eventArchiveRepository;
+    this.eventTombstoneRepository = eventTombstoneRepository;
+    this.changeSequenceRepository = changeSequenceRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    rebuild();
+  }
+
+  public void rebuild() {
+    long started = System.nanoTime();
+    refreshLock.lock();
+    try {
+      lock.writeLock()
+              .lock();
+      try {
+        tree.clear();
+        intervalsById.clear();
+        seriesById.clear();
+        seriesSpans.clear();
+        readOnlyTransaction.executeWithoutResult(status -> {
+          // Read before the rows: every change below the counter has committed with it, and anything that commits
+          // while the rows are read is read again by the next catch-up.
+          appliedSeq = changeSequenceRepository.findById(ChangeSequence.EVENT_SEQUENCE)
+                  .map(ChangeSequenceEntity::getNextValue)
+                  .orElse(1L) - 1;
+          forEachInterval(interval -> put(interval.getId(), interval.getStartDateTime(), interval.getEndDateTime(),
+                  interval.isRecurring() ? interval.toSeries() : null));
+        });
+      } finally {
+        lock.writeLock()
+                .unlock();
+      }
+    } finally {
+      refreshLock.unlock();
+    }
+    log.info("Loaded {} event intervals in {} ms", size(), (System.nanoTime() - started) / 1_000_000);
+  }
+
+  /**
+   * Applies the changes committed since the last rebuild or catch-up, including those of this instance, which were
+   * already applied as they committed and are applied again unchanged.
+   */
+  @Scheduled(initialDelayString = "${events.index.catch-up-interval:PT5S}",
+          fixedDelayString = "${events.index.catch-up-interval:PT5S}")
+  public void catchUp() {
+    refreshLock.lock();
+    try {
+      boolean more;
+      do {
+        more = Boolean.TRUE.equals(readOnlyTransaction.execute(status -> catchUpBatch()));
+      } while (more);
+    } finally {
+      refreshLock.unlock();
+    }
+  }
+
+  @TransactionalEventListener
+  public void onEventChange(EventChange change) {
+    lock.writeLock()
+            .lock();
+    try {
+      remove(change.getId());
+      if (!change.isDeleted()) {
+        put(change.getId(), change.getStartDateTime(), change.getEndDateTime(), change.getSeries());
+      }
+    } finally {
+      lock.writeLock()
+              .unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock()
+            .lock();
+    try {
+      return tree.size() + seriesById.size();
+    } finally {
+      lock.readLock()
+              .unlock();
+    }
+  }
+
+  public List<Long> findOverlapping(Instant from, Instant to) {
+    long fromMillis = from.toEpochMilli();
+    long toMillis = to.toEpochMilli();
+    List<Long> ids = new ArrayList<>();
+    lock.readLock()
+            .lock();
+    try {
+      tree.forEachOverlapping(fromMillis, toMillis, (id, start, end) -> ids.add(id));
+      addOverlappingSeries(fromMillis, toMillis, ids);
+    } finally {
+      lock.readLock()
+              .unlock();
+    }
+    return ids;
+  }
+
+  public List<Long> findContaining(Instant at) {
+    long atMillis = at.toEpochMilli();
+    List<Long> ids = new ArrayList<>();
+    lock.readLock()
+            .lock();
+    try {
+      tree.forEachContaining(atMillis, (id, start, end) -> ids.add(id));
+      addOverlappingSeries(atMillis, atMillis + 1, ids);
+    } finally {
+      lock.readLock()
+              .unlock();
+    }
+    return ids;
+  }
+
+  /**
+   * Visits the intervals overlapping {@code [from, to)} in start order while holding the read lock; the consumer
+   * must not call back into the index for writes.
+   */
+  public void forEachOverlapping(Instant from, Instant to, IntervalConsumer consumer) {
+    visitOverlapping(from, to, (id, start, end) -> {
+      consumer.accept(id, start, end);
+      return true;
+    });
+  }
+
+  /**
+   * Like {@link #forEachOverlapping(Instant, Instant, IntervalConsumer)}, but stops as soon as the visitor returns
+   * {@code false}, so a caller that only needs the start of the window does not pay for the rest of it.
+   */
+  public void visitOverlapping(Instant from, Instant to, IntervalVisitor visitor) {
+    lock.readLock()
+            .lock();
+    try {
+      if (seriesById.isEmpty()) {
+        tree.visitOverlapping(from.toEpochMilli(), to.toEpochMilli(), visitor);
+      } else {
+        visitOverlappingWithSeries(from.toEpochMilli(), to.toEpochMilli(), visitor);
+      }
+    } finally {
+      lock.readLock()
+              .unlock();
+    }
+  }
+
+  /**
+   * Compares the index against a full scan of the repository. Meant for operators, it reads the whole table and the
+   * archive.
+   */
+  public Map<String, Object> checkConsistency() {
+    Map<Long, long[]> snapshot;
+    lock.readLock()
+            .lock();
+    try {
+      snapshot = new HashMap<>(intervalsById);
+    } finally {
+      lock.readLock()
+              .unlock();
+    }
+
+    long[] counts = new long[3];
+    readOnlyTransaction.executeWithoutResult(status -> forEachInterval(interval -> {
+      long[] indexed = snapshot.remove(interval.getId());
+      counts[0]++;
+      if (indexed == null) {
+        counts[1]++;
+      } else if (indexed[0] != interval.getStartDateTime()
+              .toEpochMilli() || indexed[1] != interval.getEndDateTime()
+              .toEpochMilli()) {
+        counts[2]++;
+      }
+    }));
+
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("consistent", counts[1] == 0 && counts[2] == 0 && snapshot.isEmpty());
+    report.put("repositoryCount", counts[0]);
+    report.put("indexCount", size());
+    report.put("missing", counts[1]);
+    report.put("mismatched", counts[2]);
+    report.put("stale", snapshot.size());
+    return report;
+  }
+
+  private boolean catchUpBatch() {
+    Limit limit = Limit.of(CATCH_UP_BATCH_SIZE);
+    List<EventView> events = eventRepository.findByChangeSeqGreaterThanOrderByChangeSeq(appliedSeq, limit);
+    List<EventView> archived = eventArchiveRepository.findByChangeSeqGreaterThanOrderByChangeSeq(appliedSeq, limit);
+    List<EventTombstoneEntity> tombstones = eventTombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeq(
+            appliedSeq, limit);
+    // A full batch may stop before changes the other two already returned, so only apply up to where all three reach.
+    long upTo = reached(tombstones, EventTombstoneEntity::getChangeSeq, reached(archived, EventView::getChangeSeq,
+            reached(events, EventView::getChangeSeq, Long.MAX_VALUE)));
+    long applied = appliedSeq;
+    lock.writeLock()
+            .lock();
+    try {
+      for (List<EventView> views : List.of(events, archived)) {
+        for (EventView view : views) {
+          if (view.getChangeSeq() <= upTo) {
+            remove(view.getId());
+            put(view.getId(), view.getStartDateTime(), view.getEndDateTime(), view.getRecurrenceRule() == null
+                    ? null
+                    : RecurrenceSeries.of(view));
+            applied = Math.max(applied, view.getChangeSeq());
+          }
+        }
+      }
+      for (EventTombstoneEntity tombstone : tombstones) {
+        if (tombstone.getChangeSeq() <= upTo) {
+          remove(tombstone.getEventId());
+          applied = Math.max(applied, tombstone.getChangeSeq());
+        }
+      }
+    } finally {
+      lock.writeLock()
+              .unlock();
+    }
+    appliedSeq = applied;
+    return upTo != Long.MAX_VALUE;
+  }
+
+  private static <T> long reached(List<T> batch, ToLongFunction<T> changeSeq, long upTo) {
+    if (batch.size() < CATCH_UP_BATCH_SIZE) {
+      return upTo;
+    }
+    return Math.min(upTo, changeSeq.applyAsLong(batch.get(batch.size() - 1)));
+  }
+
+  // One table after the other, so only one cursor is open at a time.
+  private void forEachInterval(Consumer<EventInterval> action) {
+    try (Stream<EventInterval> intervals = eventRepository.streamIntervals()) {
+      intervals.forEach(action);
+    }
+    try (Stream<EventInterval> intervals = eventArchiveRepository.streamIntervals()) {
+      intervals.forEach(action);
+    }
+  }
+
+  private void addOverlappingSeries(long from, long to, List<Long> ids) {
+    seriesSpans.forEachOverlapping(from, to, (id, start, end) -> {
+      if (seriesById.get(id)
+              .overlaps(from, to)) {
+        ids.add(id);
+      }
+    });
+  }
+
+  // Occurrences are merged into the tree's start order as the tree is walked. Only the current occurrence of each
+  // series is held, so memory does not grow with the window.
+  private void visitOverlappingWithSeries(long from, long to, IntervalVisitor visitor) {
+    PriorityQueue<SeriesCursor> pending = new PriorityQueue<>(Comparator.comparingLong(cursor -> cursor.occurrences
+            .getStart()));
+    seriesSpans.forEachOverlapping(from, to, (id, start, end) -> {
+      OccurrenceCursor occurrences = seriesById.get(id)
+              .occurrences(from, to);
+      if (occurrences.next()) {
+        pending.add(new SeriesCursor(id, occurrences));
+      }
+    });
+    boolean completed = tree.visitOverlapping(from, to, (id, start, end) -> visitOccurrencesBefore(start, pending,
+            visitor) && visitor.visit(id, start, end));
+    if (completed) {
+      visitOccurrencesBefore(Long.MAX_VALUE, pending, visitor);
+    }
+  }
+
+  private static boolean visitOccurrencesBefore(long start, PriorityQueue<SeriesCursor> pending,
+          IntervalVisitor visitor) {
+    while (!pending.isEmpty() && pending.peek().occurrences.getStart() < start) {
+      SeriesCursor cursor = pending.poll();
+      if (!visitor.visit(cursor.id, cursor.occurrences.getStart(), cursor.occurrences.getEnd())) {
+        return false;
+      }
+      if (cursor.occurrences.next()) {
+        pending.add(cursor);
+      }
+    }
+    return true;
+  }
+
+  private void put(Long id, Instant startDateTime, Instant endDateTime, RecurrenceSeries series) {
+    long start = startDateTime.toEpochMilli();
+    long end = endDateTime.toEpochMilli();
+    if (series != null) {
+      seriesById.put(id, series);
+      seriesSpans.insert(id, start, series.getEnd() != null ? series.getEnd()
+              .toEpochMilli() : Long.MAX_VALUE);
+    } else {
+      tree.insert(id, start, end);
+    }
+    intervalsById.put(id, new long[]{start, end});
+  }
+
+  private void remove(Long id) {
+    long[] existing = intervalsById.remove(id);
+    if (existing == null) {
+      return;
+    }
+    if (seriesById.remove(id) != null) {
+      seriesSpans.remove(id, existing[0]);
+    } else {
+      tree.remove(id, existing[0]);
+    }
+  }
+
+  private static final class SeriesCursor {
+
+    private final long id;
+    private final OccurrenceCursor occurrences;
+
+    private SeriesCursor(long id, OccurrenceCursor occurrences) {
+      this.id = id;
+      this.occurrences = occurrences;
+    }
+  }
+}
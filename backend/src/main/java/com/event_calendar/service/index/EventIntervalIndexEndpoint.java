@@ -0,0 +1,29 @@
+package com.event_calendar.service.index;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Reports whether the interval index matches the tables. Each call reads every event, so it is not exposed over HTTP
+ * by default; the index repairs itself through its catch-up, and a restart rebuilds it.
+ */
+@Component
+@Endpoint(id = "eventindex")
+public class EventIntervalIndexEndpoint {
+
+  private final EventIntervalIndex eventIntervalIndex;
+
+  @Autowired
+  public EventIntervalIndexEndpoint(EventIntervalIndex eventIntervalIndex) {
+    this.eventIntervalIndex = eventIntervalIndex;
+  }
+
+  @ReadOperation
+  public Map<String, Object> consistency() {
+    return eventIntervalIndex.checkConsistency();
+  }
+}
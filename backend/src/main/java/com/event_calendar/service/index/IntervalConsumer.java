@@ -0,0 +1,7 @@
+package com.event_calendar.service.index;
+
+@FunctionalInterface
+public interface IntervalConsumer {
+
+  void accept(long id, long start, long end);
+}
@@ -0,0 +1,186 @@
+package com.event_calendar.service.index;
+
+/**
+ * AVL tree of half-open intervals {@code [start, end)} ordered by {@code (start, id)}. Every node also tracks the
+ * largest end in its subtree, which lets overlap queries skip subtrees that finish before the query window.
+ * Not thread-safe.
+ */
+public class IntervalTree {
+
+  private Node root;
+  private int size;
+
+  public int size() {
+    return size;
+  }
+
+  public void clear() {
+    root = null;
+    size = 0;
+  }
+
+  public void insert(long id, long start, long end) {
+    root = insert(root, id, start, end);
+    size++;
+  }
+
+  public boolean remove(long id, long start) {
+    int before = size;
+    root = remove(root, id, start);
+    return size < before;
+  }
+
+  /**
+   * Visits every interval overlapping {@code [from, to)} in {@code (start, id)} order.
+   */
+  public void forEachOverlapping(long from, long to, IntervalConsumer consumer) {
+    visitOverlapping(root, from, to, (id, start, end) -> {
+      consumer.accept(id, start, end);
+      return true;
+    });
+  }
+
+  /**
+   * Visits the intervals overlapping {@code [from, to)} in {@code (start, id)} order until the visitor returns
+   * {@code false}. Returns whether the walk ran to the end.
+   */
+  public boolean visitOverlapping(long from, long to, IntervalVisitor visitor) {
+    return visitOverlapping(root, from, to, visitor);
+  }
+
+  public void forEachContaining(long point, IntervalConsumer consumer) {
+    forEachOverlapping(point, point + 1, consumer);
+  }
+
+  private static boolean visitOverlapping(Node node, long from, long to, IntervalVisitor visitor) {
+    if (node == null || node.maxEnd <= from) {
+      return true;
+    }
+    if (!visitOverlapping(node.left, from, to, visitor)) {
+      return false;
+    }
+    if (node.start >= to) {
+      return true;
+    }
+    if (node.end > from && !visitor.visit(node.id, node.start, node.end)) {
+      return false;
+    }
+    return visitOverlapping(node.right, from, to, visitor);
+  }
+
+  private static Node insert(Node node, long id, long start, long end) {
+    if (node == null) {
+      return new Node(id, start, end);
+    }
+    if (compare(start, id, node) < 0) {
+      node.left = insert(node.left, id, start, end);
+    } else {
+      node.right = insert(node.right, id, start, end);
+    }
+    return rebalance(node);
+  }
+
+  private Node remove(Node node, long id, long start) {
+    if (node == null) {
+      return null;
+    }
+    int cmp = compare(start, id, node);
+    if (cmp < 0) {
+      node.left = remove(node.left, id, start);
+    } else if (cmp > 0) {
+      node.right = remove(node.right, id, start);
+    } else {
+      size--;
+      if (node.left == null) {
+        return node.right;
+      }
+      if (node.right == null) {
+        return node.left;
+      }
+      Node successor = node.right;
+      while (successor.left != null) {
+        successor = successor.left;
+      }
+      node.id = successor.id;
+      node.start = successor.start;
+      node.end = successor.end;
+      size++;
+      node.right = remove(node.right, successor.id, successor.start);
+    }
+    return rebalance(node);
+  }
+
+  private static int compare(long start, long id, Node node) {
+    int cmp = Long.compare(start, node.start);
+    return cmp != 0 ? cmp : Long.compare(id, node.id);
+  }
+
+  private static Node rebalance(Node node) {
+    update(node);
+    int balance = height(node.left) - height(node.right);
+    if (balance > 1) {
+      if (height(node.left.left) < height(node.left.right)) {
+        node.left = rotateLeft(node.left);
+      }
+      return rotateRight(node);
+    }
+    if (balance < -1) {
+      if (height(node.right.right) < height(node.right.left)) {
+        node.right = rotateRight(node.right);
+      }
+      return rotateLeft(node);
+    }
+    return node;
+  }
+
+  private static Node rotateLeft(Node node) {
+    Node pivot = node.right;
+    node.right = pivot.left;
+    pivot.left = node;
+    update(node);
+    update(pivot);
+    return pivot;
+  }
+
+  private static Node rotateRight(Node node) {
+    Node pivot = node.left;
+    node.left = pivot.right;
+    pivot.right = node;
+    update(node);
+    update(pivot);
+    return pivot;
+  }
+
+  private static void update(Node node) {
+    node.height = 1 + Math.max(height(node.left), height(node.right));
+    long maxEnd = node.end;
+    if (node.left != null) {
+      maxEnd = Math.max(maxEnd, node.left.maxEnd);
+    }
+    if (node.right != null) {
+      maxEnd = Math.max(maxEnd, node.right.maxEnd);
+    }
+    node.maxEnd = maxEnd;
+  }
+
+  private static int height(Node node) {
+    return node == null ? 0 : node.height;
+  }
+
+  private static final class Node {
+    private long id;
+    private long start;
+    private long end;
+    private long maxEnd;
+    private int height = 1;
+    private Node left;
+    private Node right;
+
+    private Node(long id, long start, long end) {
+      this.id = id;
+      this.start = start;
+      this.end = end;
+      this.maxEnd = end;
+    }
+  }
+}
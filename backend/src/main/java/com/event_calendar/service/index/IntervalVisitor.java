@@ -0,0 +1,10 @@
+package com.event_calendar.service.index;
+
+/**
+ * Like {@link IntervalConsumer}, but can end the walk early: returning {@code false} stops it.
+ */
+@FunctionalInterface
+public interface IntervalVisitor {
+
+  boolean visit(long id, long start, long end);
+}
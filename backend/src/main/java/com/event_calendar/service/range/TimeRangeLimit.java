@@ -0,0 +1,39 @@
+package com.event_calendar.service.range;
+
+import com.event_calendar.exception.InvalidTimeRangeException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Caps the window of reads that expand recurring series or sweep the interval index, since their work and the size
+ * of their response grow with its width rather than with the number of stored events.
+ */
+@Component
+public class TimeRangeLimit {
+
+  private final Duration maxWindow;
+
+  @Autowired
+  public TimeRangeLimit(@Value("${events.range.max-window:P366D}") Duration maxWindow) {
+    this.maxWindow = maxWindow;
+  }
+
+  public void validate(Instant from, Instant to) {
+    validateOrder(from, to);
+    if (Duration.between(from, to)
+            .compareTo(maxWindow) > 0) {
+      throw new InvalidTimeRangeException("Range from " + from + " to " + to + " is longer than the limit of "
+              + maxWindow.toDays() + " days");
+    }
+  }
+
+  public static void validateOrder(Instant from, Instant to) {
+    if (!from.isBefore(to)) {
+      throw new InvalidTimeRangeException("Range start " + from + " must be before range end " + to);
+    }
+  }
+}
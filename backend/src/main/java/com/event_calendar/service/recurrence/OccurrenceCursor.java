@@ -0,0 +1,64 @@
+package com.event_calendar.service.recurrence;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Walks the occurrences of a {@link RecurrenceSeries} inside a window. It keeps only the current occurrence as
+ * primitives, so expanding a long series into a short window costs a handful of steps and no per-occurrence objects
+ * beyond what {@code java.time} needs to compute each start.
+ */
+public class OccurrenceCursor {
+
+  private final RecurrenceSeries series;
+  private final long from;
+  private final long to;
+  private long index;
+  private long start;
+  private long end;
+  private boolean done;
+
+  OccurrenceCursor(RecurrenceSeries series, long firstIndex, long from, long to) {
+    this.series = series;
+    this.index = firstIndex;
+    this.from = from;
+    this.to = to;
+  }
+
+  public boolean next() {
+    while (!done) {
+      LocalDateTime local = series.localStart(index++);
+      if (local == null) {
+        continue;
+      }
+      long candidate = series.toMillis(local);
+      if (candidate > series.getLastStart() || candidate >= to) {
+        done = true;
+        break;
+      }
+      long candidateEnd = candidate + series.getDurationMillis();
+      if (candidateEnd > from && !series.isException(candidate)) {
+        start = candidate;
+        end = candidateEnd;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public long getStart() {
+    return start;
+  }
+
+  public long getEnd() {
+    return end;
+  }
+
+  public Instant getStartInstant() {
+    return Instant.ofEpochMilli(start);
+  }
+
+  public Instant getEndInstant() {
+    return Instant.ofEpochMilli(end);
+  }
+}
@@ -0,0 +1,145 @@
+package com.event_calendar.service.recurrence;
+
+import com.event_calendar.exception.InvalidRecurrenceRuleException;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * The supported subset of an RFC 5545 RRULE: {@code FREQ} of DAILY, WEEKLY or MONTHLY, {@code INTERVAL}, and at most
+ * one of {@code COUNT} and {@code UNTIL}. Any other part is rejected rather than silently ignored. {@code COUNT} and
+ * {@code INTERVAL} are capped so a series always ends within the range of {@link LocalDateTime}.
+ */
+@Getter
+public class RecurrenceRule {
+
+  public enum Frequency {
+    DAILY, WEEKLY, MONTHLY
+  }
+
+  public static final int MAX_COUNT = 10_000;
+  public static final int MAX_INTERVAL = 1_000;
+
+  private static final String PREFIX = "RRULE:";
+  private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+  private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+  private final Frequency frequency;
+  private final int interval;
+  private final Integer count;
+  private final String until;
+
+  private RecurrenceRule(Frequency frequency, int interval, Integer count, String until) {
+    this.frequency = frequency;
+    this.interval = interval;
+    this.count = count;
+    this.until = until;
+  }
+
+  public static RecurrenceRule parse(String rule) {
+    String body = rule.startsWith(PREFIX) ? rule.substring(PREFIX.length()) : rule;
+    Frequency frequency = null;
+    int interval = 1;
+    Integer count = null;
+    String until = null;
+    for (String part : body.split(";")) {
+      int equals = part.indexOf('=');
+      if (equals <= 0) {
+        throw new InvalidRecurrenceRuleException(rule, "malformed part " + part);
+      }
+      String name = part.substring(0, equals)
+              .toUpperCase();
+      String value = part.substring(equals + 1);
+      switch (name) {
+        case "FREQ" -> frequency = parseFrequency(rule, value);
+        case "INTERVAL" -> interval = parsePositive(rule, name, value, MAX_INTERVAL);
+        case "COUNT" -> count = parsePositive(rule, name, value, MAX_COUNT);
+        case "UNTIL" -> {
+          until = value.toUpperCase();
+          parseUntil(rule, until, ZoneOffset.UTC);
+        }
+        default -> throw new InvalidRecurrenceRuleException(rule, name + " is not supported");
+      }
+    }
+    if (frequency == null) {
+      throw new InvalidRecurrenceRuleException(rule, "FREQ is required");
+    }
+    if (count != null && until != null) {
+      throw new InvalidRecurrenceRuleException(rule, "COUNT and UNTIL are mutually exclusive");
+    }
+    return new RecurrenceRule(frequency, interval, count, until);
+  }
+
+  /**
+   * Resolves {@code UNTIL} to an instant. A UTC date-time is absolute, a floating date-time is read in the series'
+   * zone, and a bare date includes the whole day.
+   */
+  public Instant resolveUntil(ZoneId zone) {
+    return until == null ? null : parseUntil(until, until, zone);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder rule = new StringBuilder("FREQ=").append(frequency);
+    if (interval != 1) {
+      rule.append(";INTERVAL=")
+              .append(interval);
+    }
+    if (count != null) {
+      rule.append(";COUNT=")
+              .append(count);
+    }
+    if (until != null) {
+      rule.append(";UNTIL=")
+              .append(until);
+    }
+    return rule.toString();
+  }
+
+  private static Frequency parseFrequency(String rule, String value) {
+    try {
+      return Frequency.valueOf(value.toUpperCase());
+    } catch (IllegalArgumentException e) {
+      throw new InvalidRecurrenceRuleException(rule, "FREQ=" + value + " is not supported");
+    }
+  }
+
+  private static int parsePositive(String rule, String name, String value, int max) {
+    try {
+      int parsed = Integer.parseInt(value);
+      if (parsed > 0 && parsed <= max) {
+        return parsed;
+      }
+    } catch (NumberFormatException e) {
+      // reported below
+    }
+    throw new InvalidRecurrenceRuleException(rule, name + " must be an integer from 1 to " + max);
+  }
+
+  private static Instant parseUntil(String rule, String until, ZoneId zone) {
+    try {
+      if (until.length() == 8) {
+        return LocalDate.parse(until, DATE)
+                .atTime(LocalTime.MAX)
+                .atZone(zone)
+                .toInstant();
+      }
+      if (until.endsWith("Z")) {
+        return LocalDateTime.parse(until.substring(0, until.length() - 1), DATE_TIME)
+                .toInstant(ZoneOffset.UTC);
+      }
+      return LocalDateTime.parse(until, DATE_TIME)
+              .atZone(zone)
+              .toInstant();
+    } catch (DateTimeParseException e) {
+      throw new InvalidRecurrenceRuleException(rule, "UNTIL=" + until + " is not a date or date-time");
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package com.event_calendar.service.recurrence;
+
+import com.event_calendar.repository.projection.EventDetails;
+import com.event_calendar.util.DateUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * A recurring event stored as a single row and expanded on demand. Occurrence {@code k} starts {@code k * INTERVAL}
+ * periods after the first one, computed in the series' own zone so its wall-clock time holds across DST changes.
+ * Because any occurrence can be computed directly from its index, a window is located by arithmetic rather than by
+ * walking the series from its start.
+ */
+public class RecurrenceSeries {
+
+  private static final String EXCEPTION_SEPARATOR = ",";
+
+  private final LocalDateTime localStart;
+  private final ZoneId zone;
+  private final long startMillis;
+  private final long durationMillis;
+  private final RecurrenceRule rule;
+  private final long[] exceptions;
+  private final long lastStart;
+
+  public RecurrenceSeries(Instant start, Instant end, RecurrenceRule rule, ZoneId zone, long[] exceptions,
+          Instant recurrenceEnd) {
+    this.localStart = DateUtils.toLocalDateTime(start, zone);
+    this.zone = zone;
+    this.startMillis = start.toEpochMilli();
+    this.durationMillis = end.toEpochMilli() - startMillis;
+    this.rule = rule;
+    this.exceptions = exceptions;
+    this.lastStart = recurrenceEnd != null ? recurrenceEnd.toEpochMilli() - durationMillis : computeLastStart();
+  }
+
+  public static RecurrenceSeries of(EventDetails event) {
+    return of(event.getStartDateTime(), event.getEndDateTime(), event.getRecurrenceRule(), event.getTimeZone(),
+            event.getRecurrenceExceptions(), event.getRecurrenceEnd());
+  }
+
+  public static RecurrenceSeries of(Instant start, Instant end, String rule, String timeZone, String exceptions,
+          Instant recurrenceEnd) {
+    return new RecurrenceSeries(start, end, RecurrenceRule.parse(rule), DateUtils.parseZone(timeZone),
+            parseExceptions(exceptions), recurrenceEnd);
+  }
+
+  public static String formatExceptions(Collection<Instant> exceptions) {
+    if (exceptions == null || exceptions.isEmpty()) {
+      return null;
+    }
+    return exceptions.stream()
+            .sorted()
+            .distinct()
+            .map(Instant::toString)
+            .collect(Collectors.joining(EXCEPTION_SEPARATOR));
+  }
+
+  public static long[] parseExceptions(String exceptions) {
+    if (exceptions == null || exceptions.isBlank()) {
+      return new long[0];
+    }
+    return Arrays.stream(exceptions.split(EXCEPTION_SEPARATOR))
+            .mapToLong(exception -> Instant.parse(exception.trim())
+                    .toEpochMilli())
+            .sorted()
+            .toArray();
+  }
+
+  /**
+   * Occurrences overlapping {@code [from, to)}, in start order.
+   */
+  public OccurrenceCursor occurrences(Instant from, Instant to) {
+    return occurrences(from.toEpochMilli(), to.toEpochMilli());
+  }
+
+  public OccurrenceCursor occurrences(long from, long to) {
+    // Step back one period so DST offsets and long occurrences that began before the window are not missed.
+    long first = Math.max(0, periodsUntil(from - durationMillis) - 1);
+    return new OccurrenceCursor(this, first, from, to);
+  }
+
+  public boolean overlaps(long from, long to) {
+    return occurrences(from, to).next();
+  }
+
+  /**
+   * End of the last occurrence, or {@code null} when the series never ends.
+   */
+  public Instant getEnd() {
+    return lastStart == Long.MAX_VALUE ? null : Instant.ofEpochMilli(lastStart + durationMillis);
+  }
+
+  public long getStartMillis() {
+    return startMillis;
+  }
+
+  public long getDurationMillis() {
+    return durationMillis;
+  }
+
+  long getLastStart() {
+    return lastStart;
+  }
+
+  /**
+   * Local start of occurrence {@code index}, or {@code null} when a monthly rule lands on a day the month does not
+   * have; RFC 5545 skips such occurrences instead of moving them.
+   */
+  LocalDateTime localStart(long index) {
+    long periods = index * rule.getInterval();
+    return switch (rule.getFrequency()) {
+      case DAILY -> localStart.plusDays(periods);
+      case WEEKLY -> localStart.plusWeeks(periods);
+      case MONTHLY -> {
+        YearMonth month = YearMonth.from(localStart)
+                .plusMonths(periods);
+        yield month.isValidDay(localStart.getDayOfMonth())
+                ? month.atDay(localStart.getDayOfMonth())
+                .atTime(localStart.toLocalTime())
+                : null;
+      }
+    };
+  }
+
+  long toMillis(LocalDateTime local) {
+    return DateUtils.toInstant(local, zone)
+            .toEpochMilli();
+  }
+
+  boolean isException(long start) {
+    return exceptions.length > 0 && Arrays.binarySearch(exceptions, start) >= 0;
+  }
+
+  private long periodsUntil(long millis) {
+    LocalDateTime local = DateUtils.toLocalDateTime(Instant.ofEpochMilli(millis), zone);
+    long units = switch (rule.getFrequency()) {
+      case DAILY -> ChronoUnit.DAYS.between(localStart.toLocalDate(), local.toLocalDate());
+      case WEEKLY -> Math.floorDiv(ChronoUnit.DAYS.between(localStart.toLocalDate(), local.toLocalDate()), 7);
+      case MONTHLY -> ChronoUnit.MONTHS.between(YearMonth.from(localStart), YearMonth.from(local));
+    };
+    return Math.floorDiv(units, rule.getInterval());
+  }
+
+  private long computeLastStart() {
+    if (rule.getCount() != null && rule.getFrequency() != RecurrenceRule.Frequency.MONTHLY) {
+      return toMillis(localStart(rule.getCount() - 1));
+    }
+    if (rule.getCount() != null) {
+      // Months without the start day are skipped, so walk the series; the cap on COUNT keeps the walk short.
+      long last = startMillis;
+      int seen = 0;
+      for (long index = 0; seen < rule.getCount(); index++) {
+        LocalDateTime local = localStart(index);
+        if (local != null) {
+          last = toMillis(local);
+          seen++;
+        }
+      }
+      return last;
+    }
+    Instant until = rule.resolveUntil(zone);
+    if (until == null) {
+      return Long.MAX_VALUE;
+    }
+    long untilMillis = until.toEpochMilli();
+    for (long index = periodsUntil(untilMillis) + 1; index > 0; index--) {
+      LocalDateTime local = localStart(index);
+      if (local != null && toMillis(local) <= untilMillis) {
+        return toMillis(local);
+      }
+    }
+    // DTSTART always counts as the first occurrence, even when UNTIL precedes it.
+    return startMillis;
+  }
+}
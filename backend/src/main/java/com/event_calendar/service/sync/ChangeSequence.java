@@ -0,0 +1,51 @@
+package com.event_calendar.service.sync;
+
+import com.event_calendar.entity.ChangeSequenceEntity;
+import com.event_calendar.repository.ChangeSequenceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Hands out change sequence numbers for event writes. The counter row stays locked until the calling transaction
+ * ends, which orders commits by sequence: a reader that has seen sequence n can never later see a smaller one.
+ */
+@Component
+public class ChangeSequence {
+
+  public static final String EVENT_SEQUENCE = "event";
+
+  private final ChangeSequenceRepository changeSequenceRepository;
+
+  @Autowired
+  public ChangeSequence(ChangeSequenceRepository changeSequenceRepository) {
+    this.changeSequenceRepository = changeSequenceRepository;
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public long next() {
+    return reserve(1);
+  }
+
+  /**
+   * Takes the counter row lock without reserving a value, for writes that move events between tables without changing
+   * them; they queue with event writes all the same.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void lock() {
+    reserve(0);
+  }
+
+  /**
+   * Reserves {@code count} consecutive values and returns the first one.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public long reserve(int count) {
+    ChangeSequenceEntity sequence = changeSequenceRepository.findForUpdate(EVENT_SEQUENCE)
+            .orElseThrow(() -> new IllegalStateException("Change sequence " + EVENT_SEQUENCE + " is missing"));
+    long first = sequence.getNextValue();
+    sequence.setNextValue(first + count);
+    return first;
+  }
+}
@@ -1,17 +1,51 @@
 package com.event_calendar.util;
 
+import com.event_calendar.exception.InvalidTimezoneException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 
 public class DateUtils {
 
+  /**
+   * Bounded, since any client can send any header value; there are only about 600 region IDs in use.
+   */
+  private static final Cache<String, ZoneId> ZONES = Caffeine.newBuilder()
+          .maximumSize(1_000)
+          .build();
+
+  private static final Cache<ZoneId, ZoneOffsetTable> OFFSET_TABLES = Caffeine.newBuilder()
+          .maximumSize(1_000)
+          .build();
+
   private DateUtils() {
   }
 
+  /**
+   * Resolves an {@code X-Timezone} header. Only valid zones are cached.
+   */
+  public static ZoneId parseZone(String timezone) {
+    try {
+      return ZONES.get(timezone, ZoneId::of);
+    } catch (DateTimeException e) {
+      throw new InvalidTimezoneException(timezone);
+    }
+  }
+
   public static Instant toInstant(LocalDateTime dateTime, ZoneId zoneId) {
-    return dateTime.atZone(zoneId)
-            .toInstant();
+    return offsetTable(zoneId).toInstant(dateTime);
+  }
+
+  public static LocalDateTime toLocalDateTime(Instant instant, ZoneId zoneId) {
+    return offsetTable(zoneId).toLocalDateTime(instant);
+  }
+
+  private static ZoneOffsetTable offsetTable(ZoneId zoneId) {
+    return OFFSET_TABLES.get(zoneId, ZoneOffsetTable::of);
   }
 
 }
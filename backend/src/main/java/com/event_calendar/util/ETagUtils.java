@@ -0,0 +1,66 @@
+package com.event_calendar.util;
+
+import com.event_calendar.exception.EventVersionMismatchException;
+import com.event_calendar.repository.projection.EventCollectionVersion;
+
+import java.time.Instant;
+import java.time.ZoneId;
+
+public class ETagUtils {
+
+  private ETagUtils() {
+  }
+
+  // Representations are rendered in the caller's zone, so the zone is part of every tag.
+  public static String forEvent(Long id, long version, ZoneId zoneId) {
+    return quote(eventPrefix(id) + version + "-" + zoneTag(zoneId));
+  }
+
+  /**
+   * The version an If-Match header on an event write asks for, or null when the write is unconditional (no header, or
+   * {@code *}). A tag that is not one of this event's strong tags can never match, so it fails the precondition.
+   */
+  public static Long parseEventVersion(Long id, String ifMatch) {
+    if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim()
+            .equals("*")) {
+      return null;
+    }
+    String tag = ifMatch.trim();
+    String prefix = "\"" + eventPrefix(id);
+    int end = tag.indexOf('-', prefix.length());
+    if (tag.startsWith(prefix) && end > prefix.length()) {
+      try {
+        return Long.parseLong(tag, prefix.length(), end, 10);
+      } catch (NumberFormatException ignored) {
+        // falls through to the mismatch
+      }
+    }
+    throw new EventVersionMismatchException(id);
+  }
+
+  public static String forCollection(EventCollectionVersion version, ZoneId zoneId) {
+    return quote("c" + version.getCount() + "-" + toMicros(version.getLastModified()) + "-" + zoneTag(zoneId));
+  }
+
+  // The feed is written in UTC and series zones, so the zone only matters for how the requested range was read.
+  public static String forCalendar(EventCollectionVersion version, ZoneId zoneId) {
+    return quote("ics" + version.getCount() + "-" + toMicros(version.getLastModified()) + "-" + zoneTag(zoneId));
+  }
+
+  private static String eventPrefix(Long id) {
+    return "e" + id + "-v";
+  }
+
+  private static long toMicros(Instant instant) {
+    return instant == null ? 0 : instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+  }
+
+  // The id itself, so two zones never share a tag. Zone ids only use characters an entity-tag allows.
+  private static String zoneTag(ZoneId zoneId) {
+    return zoneId.getId();
+  }
+
+  private static String quote(String value) {
+    return "\"" + value + "\"";
+  }
+}
@@ -0,0 +1,44 @@
+package com.event_calendar.util;
+
+import com.event_calendar.exception.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+@Getter
+@AllArgsConstructor
+public class EventCursor {
+
+  private static final char SEPARATOR = ':';
+
+  private final Instant startDateTime;
+  private final Long id;
+
+  public String encode() {
+    String raw = startDateTime.getEpochSecond() + "." + startDateTime.getNano() + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  public static EventCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder()
+              .decode(cursor), StandardCharsets.US_ASCII);
+      int separator = raw.indexOf(SEPARATOR);
+      int dot = raw.indexOf('.');
+      if (separator < 0 || dot < 0 || dot > separator) {
+        throw new InvalidCursorException(cursor);
+      }
+      Instant start = Instant.ofEpochSecond(Long.parseLong(raw.substring(0, dot)),
+              Long.parseLong(raw.substring(dot + 1, separator)));
+      return new EventCursor(start, Long.parseLong(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException | DateTimeException e) {
+      throw new InvalidCursorException(cursor);
+    }
+  }
+}
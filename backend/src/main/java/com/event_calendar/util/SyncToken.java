@@ -0,0 +1,33 @@
+package com.event_calendar.util;
+
+import com.event_calendar.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class SyncToken {
+
+  private static final String PREFIX = "seq:";
+
+  private SyncToken() {
+  }
+
+  public static String encode(long changeSeq) {
+    return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString((PREFIX + changeSeq).getBytes(StandardCharsets.US_ASCII));
+  }
+
+  public static long decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder()
+              .decode(token), StandardCharsets.US_ASCII);
+      if (!raw.startsWith(PREFIX)) {
+        throw new InvalidCursorException(token);
+      }
+      return Long.parseLong(raw.substring(PREFIX.length()));
+    } catch (IllegalArgumentException e) {
+      throw new InvalidCursorException(token);
+    }
+  }
+}
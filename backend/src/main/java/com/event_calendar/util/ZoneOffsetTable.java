@@ -0,0 +1,107 @@
+package com.event_calendar.util;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The offset transitions of one zone between 1970 and 2100, flattened into sorted arrays. Converting in either
+ * direction is a binary search that allocates only the result, where {@link ZoneRules} builds a {@code ZonedDateTime}
+ * and walks the transition rules of the year each time. Values outside that span fall back to {@code java.time}.
+ */
+final class ZoneOffsetTable {
+
+  private static final long SPAN_START = LocalDateTime.of(1970, 1, 1, 0, 0)
+          .toEpochSecond(ZoneOffset.UTC);
+  private static final long SPAN_END = LocalDateTime.of(2100, 1, 1, 0, 0)
+          .toEpochSecond(ZoneOffset.UTC);
+
+  /**
+   * Local values this close to the span's edges may map to instants outside it, so they take the fallback.
+   */
+  private static final long MAX_OFFSET_SECONDS = 18 * 60 * 60;
+
+  private final ZoneId zone;
+
+  /**
+   * Instants at which the offset changes.
+   */
+  private final long[] transitions;
+
+  /**
+   * Local times from which the offset after each transition applies. Local times in a gap or overlap resolve to the
+   * offset before the transition, which is what {@link LocalDateTime#atZone} does.
+   */
+  private final long[] localTransitions;
+
+  /**
+   * {@code offsets[i]} applies before transition {@code i}, the last one after all of them.
+   */
+  private final ZoneOffset[] offsets;
+
+  private ZoneOffsetTable(ZoneId zone, long[] transitions, long[] localTransitions, ZoneOffset[] offsets) {
+    this.zone = zone;
+    this.transitions = transitions;
+    this.localTransitions = localTransitions;
+    this.offsets = offsets;
+  }
+
+  static ZoneOffsetTable of(ZoneId zone) {
+    ZoneRules rules = zone.getRules();
+    Instant start = Instant.ofEpochSecond(SPAN_START);
+    List<ZoneOffsetTransition> changes = new ArrayList<>();
+    if (!rules.isFixedOffset()) {
+      ZoneOffsetTransition transition = rules.nextTransition(start);
+      while (transition != null && transition.toEpochSecond() < SPAN_END) {
+        changes.add(transition);
+        transition = rules.nextTransition(transition.getInstant());
+      }
+    }
+
+    long[] transitions = new long[changes.size()];
+    long[] localTransitions = new long[changes.size()];
+    ZoneOffset[] offsets = new ZoneOffset[changes.size() + 1];
+    offsets[0] = rules.getOffset(start);
+    for (int i = 0; i < changes.size(); i++) {
+      ZoneOffsetTransition change = changes.get(i);
+      transitions[i] = change.toEpochSecond();
+      localTransitions[i] = change.toEpochSecond() + Math.max(change.getOffsetBefore()
+              .getTotalSeconds(), change.getOffsetAfter()
+              .getTotalSeconds());
+      offsets[i + 1] = change.getOffsetAfter();
+    }
+    return new ZoneOffsetTable(zone, transitions, localTransitions, offsets);
+  }
+
+  LocalDateTime toLocalDateTime(Instant instant) {
+    long epochSecond = instant.getEpochSecond();
+    if (epochSecond < SPAN_START || epochSecond >= SPAN_END) {
+      return LocalDateTime.ofInstant(instant, zone);
+    }
+    return LocalDateTime.ofEpochSecond(epochSecond, instant.getNano(), offsets[indexOf(transitions, epochSecond)]);
+  }
+
+  Instant toInstant(LocalDateTime dateTime) {
+    long localSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+    if (localSecond < SPAN_START + MAX_OFFSET_SECONDS || localSecond >= SPAN_END - MAX_OFFSET_SECONDS) {
+      return dateTime.atZone(zone)
+              .toInstant();
+    }
+    ZoneOffset offset = offsets[indexOf(localTransitions, localSecond)];
+    return Instant.ofEpochSecond(localSecond - offset.getTotalSeconds(), dateTime.getNano());
+  }
+
+  /**
+   * The number of transitions at or before {@code second}, which is the index of the offset in effect.
+   */
+  private static int indexOf(long[] transitions, long second) {
+    int index = Arrays.binarySearch(transitions, second);
+    return index >= 0 ? index + 1 : -index - 1;
+  }
+}
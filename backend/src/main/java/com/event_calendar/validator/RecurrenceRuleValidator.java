@@ -0,0 +1,22 @@
+package com.event_calendar.validator;
+
+import com.event_calendar.exception.InvalidRecurrenceRuleException;
+import com.event_calendar.service.recurrence.RecurrenceRule;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class RecurrenceRuleValidator implements ConstraintValidator<ValidRecurrenceRule, String> {
+
+  @Override
+  public boolean isValid(String rule, ConstraintValidatorContext context) {
+    if (rule == null || rule.isBlank()) {
+      return true;
+    }
+    try {
+      RecurrenceRule.parse(rule.trim());
+      return true;
+    } catch (InvalidRecurrenceRuleException e) {
+      return false;
+    }
+  }
+}
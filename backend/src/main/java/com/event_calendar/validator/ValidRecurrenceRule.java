@@ -0,0 +1,19 @@
+package com.event_calendar.validator;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.*;
+
+@Target({ ElementType.FIELD })
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = RecurrenceRuleValidator.class)
+@Documented
+public @interface ValidRecurrenceRule {
+
+  String message() default "Recurrence rule must be FREQ=DAILY, WEEKLY or MONTHLY with optional INTERVAL and COUNT or UNTIL";
+
+  Class<?>[] groups() default {};
+
+  Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,25 @@
+-- Single events that ended before the archive horizon are moved here in batches, so event and its indexes only hold
+-- recent and upcoming events. Same columns as event; rows keep their id, change_seq and version when they move.
+CREATE TABLE event_archive
+(
+    id                    BIGINT PRIMARY KEY,
+    title                 VARCHAR(255) NOT NULL,
+    description           TEXT,
+    start_date_time       TIMESTAMP    NOT NULL,
+    end_date_time         TIMESTAMP    NOT NULL,
+    location              TEXT,
+    created_at            TIMESTAMP,
+    updated_at            TIMESTAMP(6),
+    change_seq            BIGINT       NOT NULL,
+    recurrence_rule       VARCHAR(255),
+    recurrence_exceptions TEXT,
+    time_zone             VARCHAR(64),
+    recurrence_end        DATETIME(6),
+    version               BIGINT       NOT NULL DEFAULT 0
+);
+
+CREATE INDEX idx_event_archive_start_end ON event_archive (start_date_time, end_date_time);
+CREATE INDEX idx_event_archive_end_start ON event_archive (end_date_time, start_date_time);
+CREATE INDEX idx_event_archive_start_id ON event_archive (start_date_time, id);
+CREATE INDEX idx_event_archive_updated_at ON event_archive (updated_at);
+CREATE UNIQUE INDEX idx_event_archive_change_seq ON event_archive (change_seq);
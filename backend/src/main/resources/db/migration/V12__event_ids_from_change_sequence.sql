@@ -0,0 +1,18 @@
+-- Event ids now come from the change sequence row that every writer already holds locked, inside the writer's own
+-- transaction. The id_generator table was read on a second pooled connection while that lock was held, so a pool full
+-- of queued writers could leave the lock holder waiting for a connection.
+ALTER TABLE event_change_sequence ADD COLUMN next_event_id BIGINT NOT NULL DEFAULT 1;
+
+-- Past every id in use or handed out before, including those of archived and deleted events.
+UPDATE event_change_sequence
+SET next_event_id = (SELECT MAX(id) + 1
+                     FROM (SELECT MAX(id) AS id FROM event
+                           UNION ALL
+                           SELECT MAX(id) FROM event_archive
+                           UNION ALL
+                           SELECT MAX(event_id) FROM event_tombstone
+                           UNION ALL
+                           SELECT next_value FROM id_generator WHERE name = 'event') ids)
+WHERE name = 'event';
+
+DROP TABLE id_generator;
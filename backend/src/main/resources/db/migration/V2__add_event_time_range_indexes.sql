@@ -0,0 +1,4 @@
+-- Overlap lookups (start_date_time < :to AND end_date_time > :from) can be served from either side:
+-- recent windows are cheaper to reach through end_date_time, historical ones through start_date_time.
+CREATE INDEX idx_event_start_end ON event (start_date_time, end_date_time);
+CREATE INDEX idx_event_end_start ON event (end_date_time, start_date_time);
@@ -0,0 +1 @@
+CREATE INDEX idx_event_start_id ON event (start_date_time, id);
@@ -0,0 +1,3 @@
+-- Second precision would give two edits within the same second the same ETag.
+ALTER TABLE event MODIFY updated_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+CREATE INDEX idx_event_updated_at ON event (updated_at);
@@ -0,0 +1,23 @@
+-- Every write takes the next value of this counter under a row lock that is held until commit, so change
+-- sequences become visible in increasing order and a sync token never skips a change.
+CREATE TABLE event_change_sequence
+(
+    name       VARCHAR(64) PRIMARY KEY,
+    next_value BIGINT NOT NULL
+);
+
+ALTER TABLE event ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+UPDATE event SET change_seq = id;
+CREATE UNIQUE INDEX idx_event_change_seq ON event (change_seq);
+
+INSERT INTO event_change_sequence (name, next_value)
+SELECT 'event', COALESCE(MAX(id), 0) + 1
+FROM event;
+
+CREATE TABLE event_tombstone
+(
+    event_id   BIGINT PRIMARY KEY,
+    change_seq BIGINT    NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE UNIQUE INDEX idx_event_tombstone_change_seq ON event_tombstone (change_seq);
@@ -0,0 +1,14 @@
+-- Event ids are handed out by Hibernate in blocks of 50 from this table. An AUTO_INCREMENT key has to be read back
+-- after every single INSERT, which stops Hibernate from sending inserts as JDBC batches.
+CREATE TABLE id_generator
+(
+    name       VARCHAR(64) PRIMARY KEY,
+    next_value BIGINT NOT NULL
+);
+
+-- The pooled optimizer treats the stored value as the last id of the next block, so start one block above max(id).
+INSERT INTO id_generator (name, next_value)
+SELECT 'event', COALESCE(MAX(id), 0) + 50
+FROM event;
+
+ALTER TABLE event MODIFY id BIGINT NOT NULL;
@@ -0,0 +1,8 @@
+-- A recurring event is one row holding its rule; occurrences are expanded on read. time_zone is the zone the rule is
+-- evaluated in, and recurrence_end is the end of the last occurrence, or NULL when the series never ends.
+ALTER TABLE event ADD COLUMN recurrence_rule VARCHAR(255);
+ALTER TABLE event ADD COLUMN recurrence_exceptions TEXT;
+ALTER TABLE event ADD COLUMN time_zone VARCHAR(64);
+ALTER TABLE event ADD COLUMN recurrence_end DATETIME(6);
+
+CREATE INDEX idx_event_recurrence_rule ON event (recurrence_rule);
@@ -0,0 +1,3 @@
+-- Bumped by every update, so a client can make a write conditional on the version it last read (If-Match) and a
+-- concurrent writer is detected without reading the row first.
+ALTER TABLE event ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,168 @@
+package com.event_calendar.service.impl;
+
+import com.event_calendar.dto.EventDTO;
+import com.event_calendar.exception.EventNotFoundException;
+import com.event_calendar.exception.InvalidTimeRangeException;
+import com.event_calendar.mapper.EventMapper;
+import com.event_calendar.repository.ReactiveEventRepository;
+import com.event_calendar.service.archive.EventArchive;
+import com.event_calendar.service.range.TimeRangeLimit;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs against an in-memory H2 database through r2dbc-h2. TEXT columns are declared as VARCHAR, which is what the
+ * MySQL driver hands back for them anyway.
+ */
+class ReactiveEventServiceImplTest {
+
+  private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+
+  private DatabaseClient databaseClient;
+  private EventArchive eventArchive;
+  private ReactiveEventServiceImpl reactiveEventService;
+
+  @BeforeEach
+  void setUp() {
+    databaseClient = DatabaseClient.create(
+            ConnectionFactories.get("r2dbc:h2:mem:///reactive-events?options=DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"));
+    for (String table : new String[]{"event", "event_archive"}) {
+      Flux.concat(databaseClient.sql("drop table if exists " + table)
+                      .then(), databaseClient.sql("create table " + table + " (id bigint primary key, "
+                              + "title varchar(255) not null, description varchar(4000), start_date_time timestamp not null, "
+                              + "end_date_time timestamp not null, location varchar(4000), change_seq bigint not null default 0, "
+                              + "recurrence_rule varchar(255), recurrence_exceptions varchar(4000), time_zone varchar(64), "
+                              + "recurrence_end timestamp(6), created_at timestamp, updated_at timestamp(6))")
+                      .then())
+              .blockLast();
+    }
+    eventArchive = mock(EventArchive.class);
+    reactiveEventService = new ReactiveEventServiceImpl(new ReactiveEventRepository(databaseClient), new EventMapper(),
+            eventArchive, new TimeRangeLimit(Duration.ofDays(366)));
+  }
+
+  @Test
+  void getEventsInRange_MergesSingleEventsAndOccurrencesInStartOrder() {
+    insert(1, "Planning", "2025-03-31 07:30:00", "2025-03-31 08:30:00", null, null, null);
+    insert(2, "Review", "2025-04-01 12:00:00", "2025-04-01 13:00:00", null, null, null);
+    // Daily at 09:00 Berlin; 08:00 UTC before the DST change on March 30, 07:00 UTC after it.
+    insert(3, "Standup", "2025-03-28 08:00:00", "2025-03-28 08:15:00", "FREQ=DAILY", "Europe/Berlin",
+            "2025-04-01T07:00:00Z");
+
+    StepVerifier.create(reactiveEventService.getEventsInRange(LocalDateTime.of(2025, 3, 31, 0, 0),
+                    LocalDateTime.of(2025, 4, 2, 0, 0), BERLIN))
+            .assertNext(event -> assertEvent(event, 3L, LocalDateTime.of(2025, 3, 31, 9, 0)))
+            .assertNext(event -> assertEvent(event, 1L, LocalDateTime.of(2025, 3, 31, 9, 30)))
+            .assertNext(event -> assertEvent(event, 2L, LocalDateTime.of(2025, 4, 1, 14, 0)))
+            .verifyComplete();
+  }
+
+  @Test
+  void getEventsInRange_WindowBeforeHorizon_MergesArchivedEvents() {
+    insert("event", 1, "Planning", "2025-03-31 07:30:00", "2025-03-31 08:30:00", null, null, null);
+    insert("event_archive", 2, "Retro", "2025-03-31 06:00:00", "2025-03-31 07:00:00", null, null, null);
+    when(eventArchive.reaches(any())).thenReturn(true);
+
+    StepVerifier.create(reactiveEventService.getEventsInRange(LocalDateTime.of(2025, 3, 31, 0, 0),
+                    LocalDateTime.of(2025, 4, 2, 0, 0), BERLIN))
+            .assertNext(event -> assertEvent(event, 2L, LocalDateTime.of(2025, 3, 31, 8, 0)))
+            .assertNext(event -> assertEvent(event, 1L, LocalDateTime.of(2025, 3, 31, 9, 30)))
+            .verifyComplete();
+  }
+
+  @Test
+  void getEventById_FallsBackToArchive() {
+    insert("event_archive", 6, "Offsite", "2020-07-01 10:00:00", "2020-07-01 11:00:00", null, null, null);
+    // Archived by another instance since this one last looked.
+    when(eventArchive.isEmpty()).thenReturn(true);
+
+    StepVerifier.create(reactiveEventService.getEventById(6L, BERLIN))
+            .assertNext(event -> assertEquals("Offsite", event.getTitle()))
+            .verifyComplete();
+  }
+
+  @Test
+  void getEventsInRange_InvalidRange_Throws() {
+    assertThrows(InvalidTimeRangeException.class, () -> reactiveEventService.getEventsInRange(
+            LocalDateTime.of(2025, 4, 2, 0, 0), LocalDateTime.of(2025, 4, 1, 0, 0), BERLIN));
+  }
+
+  @Test
+  void getEventsInRange_WindowLongerThanTheLimit_Throws() {
+    insert(1, "Standup", "2000-01-03 08:00:00", "2000-01-03 08:15:00", "FREQ=DAILY", "UTC", null);
+
+    assertThrows(InvalidTimeRangeException.class, () -> reactiveEventService.getEventsInRange(
+            LocalDateTime.of(2000, 1, 1, 0, 0), LocalDateTime.of(9999, 1, 1, 0, 0), BERLIN));
+  }
+
+  @Test
+  void getEventById_ReadsTimestampsAsUtc() {
+    insert(5, "Lunch", "2025-07-01 10:00:00", "2025-07-01 11:00:00", null, null, null);
+
+    StepVerifier.create(reactiveEventService.getEventById(5L, BERLIN))
+            .assertNext(event -> {
+              assertEquals("Lunch", event.getTitle());
+              assertEquals(LocalDateTime.of(2025, 7, 1, 12, 0), event.getStartDateTime());
+              assertEquals(LocalDateTime.of(2025, 7, 1, 13, 0), event.getEndDateTime());
+            })
+            .verifyComplete();
+  }
+
+  @Test
+  void getEventById_Missing_Fails() {
+    StepVerifier.create(reactiveEventService.getEventById(404L, BERLIN))
+            .expectError(EventNotFoundException.class)
+            .verify();
+  }
+
+  @Test
+  void getAllEvents_StreamsWithBackpressure() {
+    for (int i = 1; i <= 5; i++) {
+      insert(i, "Event " + i, "2025-07-0" + i + " 10:00:00", "2025-07-0" + i + " 11:00:00", null, null, null);
+    }
+
+    StepVerifier.create(reactiveEventService.getAllEvents(BERLIN), 2)
+            .expectNextCount(2)
+            .thenRequest(3)
+            .expectNextCount(3)
+            .verifyComplete();
+  }
+
+  private void insert(long id, String title, String start, String end, String rule, String timeZone,
+          String exceptions) {
+    insert("event", id, title, start, end, rule, timeZone, exceptions);
+  }
+
+  private void insert(String table, long id, String title, String start, String end, String rule, String timeZone,
+          String exceptions) {
+    DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("insert into " + table + " (id, title, start_date_time, "
+                    + "end_date_time, recurrence_rule, time_zone, recurrence_exceptions) values (:id, :title, :start, :end, "
+                    + ":rule, :timeZone, :exceptions)")
+            .bind("id", id)
+            .bind("title", title)
+            .bind("start", LocalDateTime.parse(start.replace(' ', 'T')))
+            .bind("end", LocalDateTime.parse(end.replace(' ', 'T')));
+    spec = rule == null ? spec.bindNull("rule", String.class) : spec.bind("rule", rule);
+    spec = timeZone == null ? spec.bindNull("timeZone", String.class) : spec.bind("timeZone", timeZone);
+    spec = exceptions == null ? spec.bindNull("exceptions", String.class) : spec.bind("exceptions", exceptions);
+    spec.then()
+            .block();
+  }
+
+  private static void assertEvent(EventDTO event, Long id, LocalDateTime start) {
+    assertEquals(id, event.getId());
+    assertEquals(start, event.getStartDateTime());
+  }
+}
@@ -0,0 +1,59 @@
+package com.event_calendar.controller;
+
+import com.event_calendar.dto.EventDTO;
+import com.event_calendar.exception.InvalidTimeRangeException;
+import com.event_calendar.service.ReactiveEventService;
+import com.event_calendar.util.DateUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Replaces {@link EventReadController} when {@code events.read-stack=r2dbc}. The request thread is handed back to
+ * Tomcat while the query runs. {@code application/x-ndjson} streams events as the database produces them, at the
+ * pace the client reads; {@code application/json} collects them into one array first. Responses carry no validators,
+ * since computing them would take a blocking JPA query.
+ */
+@RestController
+@RequestMapping("/events")
+@ConditionalOnProperty(name = "events.read-stack", havingValue = "r2dbc")
+public class ReactiveEventReadController {
+
+  private final ReactiveEventService reactiveEventService;
+
+  @Autowired
+  public ReactiveEventReadController(ReactiveEventService reactiveEventService) {
+    this.reactiveEventService = reactiveEventService;
+  }
+
+  @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public Flux<EventDTO> getAllEvents(
+          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+          @RequestHeader(value = "X-Timezone") String timezoneHeader) {
+    ZoneId zoneId = DateUtils.parseZone(timezoneHeader);
+    if ((from == null) != (to == null)) {
+      throw new InvalidTimeRangeException("Both 'from' and 'to' must be provided");
+    }
+    return from == null ? reactiveEventService.getAllEvents(zoneId)
+            : reactiveEventService.getEventsInRange(from, to, zoneId);
+  }
+
+  @GetMapping("/{id}")
+  public Mono<EventDTO> getEventById(@PathVariable Long id, @RequestHeader(value = "X-Timezone") String timezoneHeader) {
+    ZoneId zoneId = DateUtils.parseZone(timezoneHeader);
+    return reactiveEventService.getEventById(id, zoneId);
+  }
+}
@@ -0,0 +1,122 @@
+package com.event_calendar.repository;
+
+import com.event_calendar.entity.EventEntity;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Non-blocking reads of the event table and its archive for the reactive read stack; writes stay with
+ * {@link EventRepository}. Rows are mapped onto detached {@link EventEntity} instances so the mapper and recurrence
+ * code can be shared. Timestamps are stored in UTC (see {@code hibernate.jdbc.time_zone}) and read back the same way.
+ */
+@Repository
+@ConditionalOnProperty(name = "events.read-stack", havingValue = "r2dbc")
+public class ReactiveEventRepository {
+
+  private static final String COLUMNS = "id, title, description, start_date_time, end_date_time, location, "
+          + "recurrence_rule, recurrence_exceptions, time_zone, recurrence_end, created_at, updated_at";
+  private static final String SELECT_EVENT = "select " + COLUMNS + " from event";
+  private static final String SELECT_ARCHIVED = "select " + COLUMNS + " from event_archive";
+  private static final String OVERLAPPING = " where start_date_time < :to and end_date_time > :from";
+
+  private final DatabaseClient databaseClient;
+
+  @Autowired
+  public ReactiveEventRepository(DatabaseClient databaseClient) {
+    this.databaseClient = databaseClient;
+  }
+
+  public Flux<EventEntity> findAll() {
+    return databaseClient.sql(SELECT_EVENT + " order by id")
+            .map(ReactiveEventRepository::toEntity)
+            .all();
+  }
+
+  public Flux<EventEntity> findAllArchived() {
+    return databaseClient.sql(SELECT_ARCHIVED + " order by id")
+            .map(ReactiveEventRepository::toEntity)
+            .all();
+  }
+
+  public Mono<EventEntity> findById(Long id) {
+    return databaseClient.sql(SELECT_EVENT + " where id = :id")
+            .bind("id", id)
+            .map(ReactiveEventRepository::toEntity)
+            .one();
+  }
+
+  public Mono<EventEntity> findArchivedById(Long id) {
+    return databaseClient.sql(SELECT_ARCHIVED + " where id = :id")
+            .bind("id", id)
+            .map(ReactiveEventRepository::toEntity)
+            .one();
+  }
+
+  /**
+   * Same rows as {@link EventRepository#findOverlapping(Instant, Instant)}.
+   */
+  public Flux<EventEntity> findOverlapping(Instant from, Instant to) {
+    return databaseClient.sql(SELECT_EVENT + OVERLAPPING + " and recurrence_rule is null order by start_date_time, id")
+            .bind("from", toUtc(from))
+            .bind("to", toUtc(to))
+            .map(ReactiveEventRepository::toEntity)
+            .all();
+  }
+
+  /**
+   * Same rows as {@link EventArchiveRepository#findOverlapping(Instant, Instant)}.
+   */
+  public Flux<EventEntity> findArchivedOverlapping(Instant from, Instant to) {
+    return databaseClient.sql(SELECT_ARCHIVED + OVERLAPPING + " order by start_date_time, id")
+            .bind("from", toUtc(from))
+            .bind("to", toUtc(to))
+            .map(ReactiveEventRepository::toEntity)
+            .all();
+  }
+
+  /**
+   * Same rows as {@link EventRepository#findRecurringOverlapping(Instant, Instant)}.
+   */
+  public Flux<EventEntity> findRecurringOverlapping(Instant from, Instant to) {
+    return databaseClient.sql(SELECT_EVENT + " where recurrence_rule is not null and start_date_time < :to "
+                    + "and (recurrence_end is null or recurrence_end > :from)")
+            .bind("from", toUtc(from))
+            .bind("to", toUtc(to))
+            .map(ReactiveEventRepository::toEntity)
+            .all();
+  }
+
+  private static EventEntity toEntity(Readable row) {
+    EventEntity event = new EventEntity();
+    event.setId(row.get("id", Long.class));
+    event.setTitle(row.get("title", String.class));
+    event.setDescription(row.get("description", String.class));
+    event.setStartDateTime(toInstant(row.get("start_date_time", LocalDateTime.class)));
+    event.setEndDateTime(toInstant(row.get("end_date_time", LocalDateTime.class)));
+    event.setLocation(row.get("location", String.class));
+    event.setRecurrenceRule(row.get("recurrence_rule", String.class));
+    event.setRecurrenceExceptions(row.get("recurrence_exceptions", String.class));
+    event.setTimeZone(row.get("time_zone", String.class));
+    event.setRecurrenceEnd(toInstant(row.get("recurrence_end", LocalDateTime.class)));
+    event.setCreatedAt(toInstant(row.get("created_at", LocalDateTime.class)));
+    event.setUpdatedAt(toInstant(row.get("updated_at", LocalDateTime.class)));
+    return event;
+  }
+
+  private static LocalDateTime toUtc(Instant instant) {
+    return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+  }
+
+  private static Instant toInstant(LocalDateTime utc) {
+    return utc == null ? null : utc.toInstant(ZoneOffset.UTC);
+  }
+}
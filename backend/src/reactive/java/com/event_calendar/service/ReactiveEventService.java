@@ -0,0 +1,20 @@
+package com.event_calendar.service;
+
+import com.event_calendar.dto.EventDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Reactive counterpart of the plain reads of {@link EventService}, returning the same events.
+ */
+public interface ReactiveEventService {
+
+  Flux<EventDTO> getAllEvents(ZoneId zoneId);
+
+  Flux<EventDTO> getEventsInRange(LocalDateTime from, LocalDateTime to, ZoneId zoneId);
+
+  Mono<EventDTO> getEventById(Long id, ZoneId zoneId);
+}
@@ -0,0 +1,98 @@
+package com.event_calendar.service.impl;
+
+import com.event_calendar.dto.EventDTO;
+import com.event_calendar.entity.EventEntity;
+import com.event_calendar.exception.EventNotFoundException;
+import com.event_calendar.mapper.EventMapper;
+import com.event_calendar.repository.ReactiveEventRepository;
+import com.event_calendar.service.ReactiveEventService;
+import com.event_calendar.service.archive.EventArchive;
+import com.event_calendar.service.range.TimeRangeLimit;
+import com.event_calendar.service.recurrence.OccurrenceCursor;
+import com.event_calendar.service.recurrence.RecurrenceSeries;
+import com.event_calendar.util.DateUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+@ConditionalOnProperty(name = "events.read-stack", havingValue = "r2dbc")
+public class ReactiveEventServiceImpl implements ReactiveEventService {
+
+  private static final Comparator<EventDTO> OCCURRENCE_ORDER = Comparator.comparing(EventDTO::getStartDateTime)
+          .thenComparing(EventDTO::getId);
+  private static final Comparator<EventEntity> SINGLE_ORDER = Comparator.comparing(EventEntity::getStartDateTime)
+          .thenComparing(EventEntity::getId);
+
+  private final ReactiveEventRepository reactiveEventRepository;
+  private final EventMapper eventMapper;
+  private final EventArchive eventArchive;
+  private final TimeRangeLimit timeRangeLimit;
+
+  @Autowired
+  public ReactiveEventServiceImpl(ReactiveEventRepository reactiveEventRepository, EventMapper eventMapper,
+          EventArchive eventArchive, TimeRangeLimit timeRangeLimit) {
+    this.reactiveEventRepository = reactiveEventRepository;
+    this.eventMapper = eventMapper;
+    this.eventArchive = eventArchive;
+    this.timeRangeLimit = timeRangeLimit;
+  }
+
+  @Override
+  public Flux<EventDTO> getAllEvents(ZoneId zoneId) {
+    Flux<EventEntity> events = reactiveEventRepository.findAll();
+    if (!eventArchive.isEmpty()) {
+      events = events.concatWith(Flux.defer(reactiveEventRepository::findAllArchived));
+    }
+    return events.map(event -> eventMapper.toResponseDTO(event, zoneId));
+  }
+
+  /**
+   * Single events stream from the database in start order, merged with archived ones when the window reaches back that
+   * far. Occurrences of recurring series are expanded and sorted on their own and merged in, so only the occurrences
+   * are held in memory.
+   */
+  @Override
+  public Flux<EventDTO> getEventsInRange(LocalDateTime from, LocalDateTime to, ZoneId zoneId) {
+    Instant fromInstant = DateUtils.toInstant(from, zoneId);
+    Instant toInstant = DateUtils.toInstant(to, zoneId);
+    timeRangeLimit.validate(fromInstant, toInstant);
+    Flux<EventEntity> singles = reactiveEventRepository.findOverlapping(fromInstant, toInstant);
+    if (eventArchive.reaches(fromInstant)) {
+      singles = Flux.mergeComparing(SINGLE_ORDER, singles, reactiveEventRepository.findArchivedOverlapping(fromInstant,
+              toInstant));
+    }
+    Flux<EventDTO> events = singles.map(event -> eventMapper.toResponseDTO(event, zoneId));
+    Flux<EventDTO> occurrences = reactiveEventRepository.findRecurringOverlapping(fromInstant, toInstant)
+            .concatMapIterable(series -> occurrences(series, fromInstant, toInstant, zoneId))
+            .sort(OCCURRENCE_ORDER);
+    return Flux.mergeComparing(OCCURRENCE_ORDER, events, occurrences);
+  }
+
+  @Override
+  public Mono<EventDTO> getEventById(Long id, ZoneId zoneId) {
+    return reactiveEventRepository.findById(id)
+            .switchIfEmpty(Mono.defer(() -> reactiveEventRepository.findArchivedById(id)))
+            .map(event -> eventMapper.toResponseDTO(event, zoneId))
+            .switchIfEmpty(Mono.defer(() -> Mono.error(new EventNotFoundException(id))));
+  }
+
+  private List<EventDTO> occurrences(EventEntity series, Instant from, Instant to, ZoneId zoneId) {
+    List<EventDTO> occurrences = new ArrayList<>();
+    OccurrenceCursor cursor = RecurrenceSeries.of(series)
+            .occurrences(from, to);
+    while (cursor.next()) {
+      occurrences.add(eventMapper.toOccurrenceDTO(series, cursor.getStartInstant(), cursor.getEndInstant(), zoneId));
+    }
+    return occurrences;
+  }
+}
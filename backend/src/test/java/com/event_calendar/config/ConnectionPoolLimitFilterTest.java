@@ -0,0 +1,82 @@
+package com.event_calendar.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolLimitFilterTest {
+
+  private ConnectionPoolLimitFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    filter = new ConnectionPoolLimitFilter(1, Duration.ofMillis(50), new ObjectMapper().registerModule(new JavaTimeModule()));
+  }
+
+  @Test
+  void doFilter_ReleasesPermitAfterRequest() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(new MockHttpServletRequest("GET", "/events"), response, new MockFilterChain());
+
+    assertEquals(200, response.getStatus());
+    assertEquals(1, filter.availablePermits());
+  }
+
+  @Test
+  void doFilter_WhenNoPermitFreesUp_Answers503() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    FilterChain nested = (request, ignored) -> filter.doFilter(new MockHttpServletRequest("GET", "/events"), response,
+            new MockFilterChain());
+
+    filter.doFilter(new MockHttpServletRequest("GET", "/events"), new MockHttpServletResponse(), nested);
+
+    assertEquals(503, response.getStatus());
+    assertEquals("1", response.getHeader("Retry-After"));
+    assertTrue(response.getContentAsString()
+            .contains("Too many concurrent requests"));
+    assertEquals(1, filter.availablePermits());
+  }
+
+  @Test
+  void doFilter_AsyncRequest_HoldsPermitUntilComplete() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/events/export");
+    request.setAsyncSupported(true);
+    FilterChain startsAsync = (req, res) -> req.startAsync();
+
+    filter.doFilter(request, new MockHttpServletResponse(), startsAsync);
+
+    assertEquals(0, filter.availablePermits());
+    AsyncContext asyncContext = request.getAsyncContext();
+    ((MockAsyncContext) asyncContext).complete();
+    assertEquals(1, filter.availablePermits());
+  }
+
+  @Test
+  void doFilter_ActuatorRequests_BypassLimit() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    FilterChain nested = (request, ignored) -> filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"),
+            response, new MockFilterChain());
+
+    filter.doFilter(new MockHttpServletRequest("GET", "/events"), new MockHttpServletResponse(), nested);
+
+    assertEquals(200, response.getStatus());
+  }
+
+  @Test
+  void maxInFlight_LeavesReservedConnectionsFree() {
+    assertEquals(8, ConnectionPoolLimitFilter.maxInFlight(10, 2));
+    assertEquals(1, ConnectionPoolLimitFilter.maxInFlight(2, 2));
+  }
+}
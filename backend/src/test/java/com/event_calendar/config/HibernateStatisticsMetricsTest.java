@@ -0,0 +1,63 @@
+package com.event_calendar.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HibernateStatisticsMetricsTest {
+
+  @Mock
+  private Statistics statistics;
+
+  private SimpleMeterRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    new HibernateStatisticsMetrics(statistics).bindTo(registry);
+  }
+
+  @Test
+  void bindTo_CountersFollowStatistics() {
+    when(statistics.getQueryExecutionCount()).thenReturn(3L, 7L);
+    when(statistics.getEntityLoadCount()).thenReturn(120L);
+    when(statistics.getFlushCount()).thenReturn(2L);
+
+    assertEquals(3, registry.get("hibernate.query.executions")
+            .functionCounter()
+            .count());
+    assertEquals(7, registry.get("hibernate.query.executions")
+            .functionCounter()
+            .count());
+    assertEquals(120, registry.get("hibernate.entities.loads")
+            .functionCounter()
+            .count());
+    assertEquals(2, registry.get("hibernate.flushes")
+            .functionCounter()
+            .count());
+  }
+
+  @Test
+  void bindTo_GaugesFollowStatistics() {
+    when(statistics.getSessionOpenCount()).thenReturn(10L);
+    when(statistics.getSessionCloseCount()).thenReturn(8L);
+    when(statistics.getQueryExecutionMaxTime()).thenReturn(250L);
+
+    assertEquals(2, registry.get("hibernate.sessions.active")
+            .gauge()
+            .value());
+    assertEquals(0.25, registry.get("hibernate.query.executions.max")
+            .timeGauge()
+            .value(TimeUnit.SECONDS));
+  }
+}
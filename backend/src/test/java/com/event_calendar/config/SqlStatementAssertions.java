@@ -0,0 +1,29 @@
+package com.event_calendar.config;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Asserts how many SQL statements an action sends, so an extra read before a write or an N+1 query fails the test.
+ * The action has to run on the calling thread.
+ */
+public final class SqlStatementAssertions {
+
+  private SqlStatementAssertions() {
+  }
+
+  public static <T> T assertStatementCount(int expected, Supplier<T> action) {
+    SqlStatementCounter.reset();
+    T result = action.get();
+    assertEquals(expected, SqlStatementCounter.get(), "SQL statements sent");
+    return result;
+  }
+
+  public static void assertStatementCount(int expected, Runnable action) {
+    assertStatementCount(expected, () -> {
+      action.run();
+      return null;
+    });
+  }
+}
@@ -0,0 +1,53 @@
+package com.event_calendar.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementCountFilterTest {
+
+  private SimpleMeterRegistry registry;
+  private SqlStatementCountFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    filter = new SqlStatementCountFilter(registry, 20);
+  }
+
+  @Test
+  void doFilter_RecordsStatementsPerEndpoint() throws Exception {
+    SqlStatementCounter.increment();
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/events/7");
+
+    filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+      req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/events/{id}");
+      SqlStatementCounter.increment();
+      SqlStatementCounter.increment();
+    });
+
+    DistributionSummary summary = registry.get(SqlStatementCountFilter.METRIC_NAME)
+            .tag("method", "GET")
+            .tag("uri", "/events/{id}")
+            .summary();
+    assertEquals(1, summary.count());
+    assertEquals(2, summary.totalAmount());
+  }
+
+  @Test
+  void doFilter_UnmatchedRequest_RecordedAsUnknown() throws Exception {
+    filter.doFilter(new MockHttpServletRequest("GET", "/missing"), new MockHttpServletResponse(), (req, res) -> {
+    });
+
+    assertEquals(0, registry.get(SqlStatementCountFilter.METRIC_NAME)
+            .tag("uri", "UNKNOWN")
+            .summary()
+            .totalAmount());
+  }
+}
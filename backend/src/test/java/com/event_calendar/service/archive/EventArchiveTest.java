@@ -0,0 +1,97 @@
+package com.event_calendar.service.archive;
+
+import com.event_calendar.repository.EventArchiveRepository;
+import com.event_calendar.repository.EventRepository;
+import com.event_calendar.service.sync.ChangeSequence;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EventArchiveTest {
+
+  private static final Duration HORIZON = Duration.ofDays(365);
+
+  private final EventArchiveRepository eventArchiveRepository = mock(EventArchiveRepository.class);
+  private final ChangeSequence changeSequence = mock(ChangeSequence.class);
+
+  @Test
+  void reaches_OnlyWindowsStartingBeforeTheHorizon() {
+    EventArchive archive = archive(true, null);
+
+    assertFalse(archive.isEmpty());
+    assertTrue(archive.reaches(Instant.now()
+            .minus(HORIZON)
+            .minusSeconds(60)));
+    assertFalse(archive.reaches(Instant.now()
+            .minus(HORIZON)
+            .plusSeconds(60)));
+  }
+
+  @Test
+  void reaches_EventsArchivedUnderALongerHorizon() {
+    Instant latestEnd = Instant.now()
+            .minus(Duration.ofDays(30));
+    EventArchive archive = archive(true, latestEnd);
+
+    assertEquals(latestEnd, archive.archivedBefore());
+    assertTrue(archive.reaches(latestEnd.minusSeconds(1)));
+    assertFalse(archive.reaches(latestEnd));
+  }
+
+  @Test
+  void isEmpty_WhenOffAndNothingWasArchived() {
+    EventArchive archive = archive(false, null);
+
+    assertTrue(archive.isEmpty());
+    assertFalse(archive.reaches(Instant.EPOCH));
+  }
+
+  @Test
+  void refresh_SeesEventsArchivedByAnotherInstance() {
+    EventArchive archive = archive(false, null);
+    Instant latestEnd = Instant.parse("2020-01-01T00:00:00Z");
+    when(eventArchiveRepository.findLatestEnd()).thenReturn(Optional.of(latestEnd));
+
+    archive.refresh();
+
+    assertFalse(archive.isEmpty());
+    assertTrue(archive.reaches(Instant.EPOCH));
+  }
+
+  @Test
+  void restore_AsksTheArchiveEvenWhenItLooksEmpty() {
+    EventArchive archive = archive(false, null);
+    when(eventArchiveRepository.copyToEvents(List.of(1L))).thenReturn(1);
+    when(eventArchiveRepository.findIdsByIdIn(List.of(2L))).thenReturn(List.of(2L));
+
+    assertEquals(1, archive.restore(List.of(1L)));
+    assertEquals(Set.of(2L), archive.findArchived(List.of(2L)));
+    verify(changeSequence).lock();
+  }
+
+  @Test
+  void isEmpty_NotWhenOffButEventsWereArchived() {
+    Instant latestEnd = Instant.parse("2020-01-01T00:00:00Z");
+    EventArchive archive = archive(false, latestEnd);
+
+    assertFalse(archive.isEmpty());
+    assertTrue(archive.reaches(Instant.EPOCH));
+    assertFalse(archive.reaches(latestEnd));
+  }
+
+  private EventArchive archive(boolean enabled, Instant latestEnd) {
+    when(eventArchiveRepository.findLatestEnd()).thenReturn(Optional.ofNullable(latestEnd));
+    EventArchive archive = new EventArchive(mock(EventRepository.class), eventArchiveRepository, changeSequence,
+            mock(PlatformTransactionManager.class), enabled, HORIZON);
+    archive.afterSingletonsInstantiated();
+    return archive;
+  }
+}
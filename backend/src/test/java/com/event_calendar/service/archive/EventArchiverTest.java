@@ -0,0 +1,176 @@
+package com.event_calendar.service.archive;
+
+import com.event_calendar.dto.EventBatchRequestDTO;
+import com.event_calendar.dto.EventDTO;
+import com.event_calendar.dto.EventSyncDTO;
+import com.event_calendar.exception.EventVersionMismatchException;
+import com.event_calendar.service.EventService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Archives events from 2001, far past the default horizon, and reads and writes them through the service.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("h2")
+class EventArchiverTest {
+
+  private static final ZoneId ZONE = ZoneId.of("UTC");
+  private static final AtomicLong NEXT_DAY = new AtomicLong();
+
+  @Autowired
+  private EventService eventService;
+
+  @Autowired
+  private EventArchive eventArchive;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void archive_MovesEventsInBatchesAndKeepsThemReadable() {
+    List<EventDTO> events = seed(5);
+    EventDTO recent = eventService.createEvent(event(LocalDateTime.of(2031, 6, 1, 10, 0)), ZONE);
+
+    assertTrue(archiver(2).archive() >= 5);
+
+    for (EventDTO event : events) {
+      assertTrue(isArchived(event.getId()));
+      assertEquals(event.getTitle(), eventService.getEventById(event.getId(), ZONE)
+              .getTitle());
+    }
+    assertFalse(isArchived(recent.getId()));
+    EventDTO first = events.get(0);
+    List<Long> inRange = eventService.getEventsInRange(first.getStartDateTime()
+                    .minusMinutes(1), events.get(4)
+                    .getEndDateTime(), ZONE)
+            .stream()
+            .map(EventDTO::getId)
+            .toList();
+    assertEquals(events.stream()
+            .map(EventDTO::getId)
+            .toList(), inRange);
+    assertEquals(List.of(first.getId()), eventService.getEventsAt(first.getStartDateTime()
+                    .plusMinutes(10), ZONE)
+            .stream()
+            .map(EventDTO::getId)
+            .toList());
+  }
+
+  @Test
+  void archive_KeepsRecurringSeries() {
+    // A year after the single events, so its occurrences stay out of the other tests' windows.
+    EventDTO series = event(LocalDateTime.of(2002, 1, 7, 10, 0));
+    series.setRecurrenceRule("FREQ=DAILY;COUNT=3");
+    series = eventService.createEvent(series, ZONE);
+
+    archiver(100).archive();
+
+    assertFalse(isArchived(series.getId()));
+  }
+
+  @Test
+  void updateEvent_RestoresArchivedEvent() {
+    EventDTO event = seed(1).get(0);
+    archiver(100).archive();
+    long version = eventService.getEventVersion(event.getId())
+            .getVersion();
+    event.setTitle("Renamed");
+
+    assertThrows(EventVersionMismatchException.class, () -> eventService.updateEvent(event.getId(), event,
+            version + 1, ZONE));
+    eventService.updateEvent(event.getId(), event, version, ZONE);
+
+    assertFalse(isArchived(event.getId()));
+    assertEquals("Renamed", eventService.getEventById(event.getId(), ZONE)
+            .getTitle());
+    assertEquals(version + 1, eventService.getEventVersion(event.getId())
+            .getVersion());
+  }
+
+  @Test
+  void applyBatch_RestoresArchivedEvents() {
+    List<EventDTO> events = seed(2);
+    archiver(100).archive();
+    EventDTO renamed = events.get(0);
+    renamed.setTitle("Renamed");
+
+    assertEquals(2, eventService.applyBatch(new EventBatchRequestDTO(null, List.of(renamed), List.of(events.get(1)
+                    .getId())), ZONE)
+            .getApplied());
+
+    assertEquals("Renamed", eventService.getEventById(renamed.getId(), ZONE)
+            .getTitle());
+    assertEquals(0, count("event_archive", events.get(1)
+            .getId()));
+    assertEquals(0, count("event", events.get(1)
+            .getId()));
+  }
+
+  @Test
+  void deleteEvent_DeletesArchivedEventAndReportsItToSync() {
+    EventDTO event = seed(1).get(0);
+    EventSyncDTO before = eventService.syncEvents(null, 500, ZONE);
+    while (before.isHasMore()) {
+      before = eventService.syncEvents(before.getNextToken(), 500, ZONE);
+    }
+    archiver(100).archive();
+
+    eventService.deleteEvent(event.getId(), null);
+
+    assertEquals(0, count("event_archive", event.getId()));
+    EventSyncDTO after = eventService.syncEvents(before.getNextToken(), 500, ZONE);
+    assertEquals(List.of(event.getId()), after.getDeleted());
+    assertTrue(after.getChanged()
+            .isEmpty());
+  }
+
+  private EventArchiver archiver(int batchSize) {
+    return new EventArchiver(eventArchive, transactionManager, batchSize, Duration.ZERO);
+  }
+
+  private boolean isArchived(Long id) {
+    return count("event_archive", id) == 1 && count("event", id) == 0;
+  }
+
+  private long count(String table, Long id) {
+    return jdbcTemplate.queryForObject("select count(*) from " + table + " where id = ?", Long.class, id);
+  }
+
+  private List<EventDTO> seed(int count) {
+    return IntStream.range(0, count)
+            .mapToObj(i -> eventService.createEvent(event(nextDay()), ZONE))
+            .toList();
+  }
+
+  // Each event gets its own day in 2001, so no test sees conflicts another test created.
+  private static LocalDateTime nextDay() {
+    return LocalDateTime.of(2001, 1, 1, 10, 0)
+            .plusDays(NEXT_DAY.incrementAndGet());
+  }
+
+  private static EventDTO event(LocalDateTime start) {
+    EventDTO event = new EventDTO();
+    event.setTitle("Archived " + start);
+    event.setStartDateTime(start);
+    event.setEndDateTime(start.plusHours(1));
+    event.setLocation("Room 1");
+    return event;
+  }
+}
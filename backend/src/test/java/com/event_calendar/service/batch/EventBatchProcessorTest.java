@@ -0,0 +1,272 @@
+package com.event_calendar.service.batch;
+
+import com.event_calendar.dto.EventBatchItemDTO;
+import com.event_calendar.dto.EventBatchRequestDTO;
+import com.event_calendar.dto.EventBatchResultDTO;
+import com.event_calendar.dto.EventDTO;
+import com.event_calendar.entity.EventEntity;
+import com.event_calendar.entity.EventTombstoneEntity;
+import com.event_calendar.exception.BatchTooLargeException;
+import com.event_calendar.exception.EventConflictException;
+import com.event_calendar.mapper.EventMapper;
+import com.event_calendar.repository.EventArchiveRepository;
+import com.event_calendar.repository.EventRepository;
+import com.event_calendar.repository.EventTombstoneRepository;
+import com.event_calendar.service.archive.EventArchive;
+import com.event_calendar.service.conflict.ConflictPolicy;
+import com.event_calendar.service.conflict.EventConflictDetector;
+import com.event_calendar.service.index.EventIntervalIndex;
+import com.event_calendar.service.sync.ChangeSequence;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventBatchProcessorTest {
+
+  @Mock
+  private EventRepository eventRepository;
+
+  @Mock
+  private EventTombstoneRepository eventTombstoneRepository;
+
+  @Mock
+  private EventConflictDetector eventConflictDetector;
+
+  @Mock
+  private ChangeSequence changeSequence;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private EventArchive eventArchive;
+
+  private EventBatchProcessor processor;
+  private ZoneId zoneId;
+
+  @BeforeEach
+  void setUp() {
+    processor = new EventBatchProcessor(eventRepository, eventTombstoneRepository, new EventMapper(),
+            eventConflictDetector, changeSequence, eventPublisher,
+            Validation.buildDefaultValidatorFactory()
+                    .getValidator(), eventArchive);
+    zoneId = ZoneId.of("UTC");
+  }
+
+  @Test
+  void apply_SkipsInvalidItemsAndWritesTheRest() {
+    when(changeSequence.reserve(1)).thenReturn(100L);
+    EventDTO valid = event(null, "Valid");
+    EventDTO invalid = event(null, " ");
+
+    EventBatchResultDTO result = processor.apply(new EventBatchRequestDTO(List.of(valid, invalid), null, null), zoneId);
+
+    assertEquals(1, result.getApplied());
+    assertEquals(1, result.getRejected());
+    assertEquals(EventBatchItemDTO.Status.CREATED, result.getResults()
+            .get(0)
+            .getStatus());
+    EventBatchItemDTO rejected = result.getResults()
+            .get(1);
+    assertEquals(EventBatchItemDTO.Status.INVALID, rejected.getStatus());
+    assertTrue(rejected.getErrors()
+            .containsKey("title"));
+    ArgumentCaptor<EventEntity> saved = ArgumentCaptor.forClass(EventEntity.class);
+    verify(eventRepository).save(saved.capture());
+    assertEquals("Valid", saved.getValue()
+            .getTitle());
+    assertEquals(100L, saved.getValue()
+            .getChangeSeq());
+  }
+
+  @Test
+  void apply_ReportsMissingAndDuplicateDeletesAsNotFound() {
+    EventEntity existing = new EventEntity();
+    existing.setId(1L);
+    when(eventRepository.findAllById(any())).thenReturn(List.of(existing));
+    when(changeSequence.reserve(1)).thenReturn(7L);
+
+    EventBatchResultDTO result = processor.apply(new EventBatchRequestDTO(null, null, List.of(1L, 1L, 2L)), zoneId);
+
+    assertEquals(List.of(EventBatchItemDTO.Status.DELETED, EventBatchItemDTO.Status.NOT_FOUND,
+            EventBatchItemDTO.Status.NOT_FOUND), result.getResults()
+            .stream()
+            .map(EventBatchItemDTO::getStatus)
+            .toList());
+    verify(eventRepository).delete(existing);
+    ArgumentCaptor<EventTombstoneEntity> tombstone = ArgumentCaptor.forClass(EventTombstoneEntity.class);
+    verify(eventTombstoneRepository).save(tombstone.capture());
+    assertEquals(7L, tombstone.getValue()
+            .getChangeSeq());
+  }
+
+  @Test
+  void apply_WithRejectedConflict_LeavesEventUntouched() {
+    EventEntity existing = new EventEntity();
+    existing.setId(1L);
+    existing.setTitle("Before");
+    when(eventRepository.findAllById(any())).thenReturn(List.of(existing));
+    when(eventConflictDetector.check(eq(1L), any(EventEntity.class))).thenThrow(new EventConflictException(List.of(9L)));
+
+    EventBatchResultDTO result = processor.apply(new EventBatchRequestDTO(null, List.of(event(1L, "After")), null),
+            zoneId);
+
+    EventBatchItemDTO item = result.getResults()
+            .get(0);
+    assertEquals(EventBatchItemDTO.Status.CONFLICT, item.getStatus());
+    assertEquals(List.of(9L), item.getConflictingEventIds());
+    assertEquals("Before", existing.getTitle());
+    verifyNoInteractions(changeSequence);
+  }
+
+  @Test
+  void apply_RestoresOnlyArchivedEventsThatAreWrittenAfterTheConflictChecks() {
+    when(eventRepository.findAllById(any())).thenReturn(List.of());
+    when(eventArchive.findArchived(Set.of(5L, 6L, 7L))).thenReturn(Set.of(5L, 6L, 7L));
+    when(eventConflictDetector.check(eq(6L), any(EventEntity.class))).thenThrow(new EventConflictException(List.of(9L)));
+    when(changeSequence.reserve(1)).thenReturn(40L);
+    EventEntity restored = new EventEntity();
+    restored.setId(7L);
+    when(eventRepository.findAllById(Set.of(7L))).thenReturn(List.of(restored));
+
+    EventBatchResultDTO result = processor.apply(new EventBatchRequestDTO(null, List.of(event(5L, " "), event(6L,
+            "Conflicting")), List.of(7L)), zoneId);
+
+    assertEquals(List.of(EventBatchItemDTO.Status.INVALID, EventBatchItemDTO.Status.CONFLICT,
+            EventBatchItemDTO.Status.DELETED), result.getResults()
+            .stream()
+            .map(EventBatchItemDTO::getStatus)
+            .toList());
+    InOrder order = inOrder(eventConflictDetector, changeSequence, eventArchive);
+    order.verify(eventConflictDetector)
+            .check(eq(6L), any(EventEntity.class));
+    order.verify(changeSequence)
+            .reserve(1);
+    order.verify(eventArchive)
+            .restore(Set.of(7L));
+    verify(eventRepository).delete(restored);
+  }
+
+  @Test
+  void apply_UnderReject_RejectsItemsOverlappingEarlierItems() {
+    EventBatchProcessor processor = processor(ConflictPolicy.REJECT);
+    when(changeSequence.reserve(2)).thenReturn(1L);
+    savesWithIds(10L);
+    EventDTO first = event(null, "First");
+    EventDTO overlapping = event(null, "Overlapping");
+    overlapping.setStartDateTime(first.getStartDateTime()
+            .plusMinutes(30));
+    overlapping.setEndDateTime(first.getEndDateTime()
+            .plusMinutes(30));
+    EventDTO after = event(null, "After");
+    after.setStartDateTime(first.getEndDateTime());
+    after.setEndDateTime(first.getEndDateTime()
+            .plusHours(1));
+
+    EventBatchResultDTO result = processor.apply(new EventBatchRequestDTO(List.of(first, overlapping, after), null,
+            null), zoneId);
+
+    assertEquals(List.of(EventBatchItemDTO.Status.CREATED, EventBatchItemDTO.Status.CONFLICT,
+            EventBatchItemDTO.Status.CREATED), result.getResults()
+            .stream()
+            .map(EventBatchItemDTO::getStatus)
+            .toList());
+    assertEquals(List.of(10L), result.getResults()
+            .get(1)
+            .getConflictingEventIds());
+    assertNull(result.getResults()
+            .get(0)
+            .getConflictingEventIds());
+    verify(eventRepository, times(2)).save(any(EventEntity.class));
+  }
+
+  @Test
+  void apply_UnderFlag_WritesOverlappingItemsAndNamesEachOther() {
+    EventBatchProcessor processor = processor(ConflictPolicy.FLAG);
+    when(changeSequence.reserve(2)).thenReturn(1L);
+    savesWithIds(10L);
+    EventDTO series = event(null, "Daily");
+    series.setRecurrenceRule("FREQ=DAILY;COUNT=5");
+    EventDTO fourthDay = event(null, "Fourth day");
+    fourthDay.setStartDateTime(series.getStartDateTime()
+            .plusDays(3));
+    fourthDay.setEndDateTime(series.getEndDateTime()
+            .plusDays(3));
+
+    EventBatchResultDTO result = processor.apply(new EventBatchRequestDTO(List.of(series, fourthDay), null, null),
+            zoneId);
+
+    assertEquals(2, result.getApplied());
+    assertEquals(List.of(11L), result.getResults()
+            .get(0)
+            .getConflictingEventIds());
+    assertEquals(List.of(10L), result.getResults()
+            .get(1)
+            .getConflictingEventIds());
+  }
+
+  @Test
+  void apply_WithUpdateWithoutId_RejectsItem() {
+    EventBatchResultDTO result = processor.apply(new EventBatchRequestDTO(null, List.of(event(null, "No id")), null),
+            zoneId);
+
+    assertEquals(EventBatchItemDTO.Status.INVALID, result.getResults()
+            .get(0)
+            .getStatus());
+    verify(eventRepository, never()).findAllById(any());
+  }
+
+  @Test
+  void apply_WithTooManyItems_ThrowsBatchTooLargeException() {
+    List<Long> deletes = Collections.nCopies(EventBatchProcessor.MAX_BATCH_SIZE + 1, 1L);
+
+    assertThrows(BatchTooLargeException.class,
+            () -> processor.apply(new EventBatchRequestDTO(null, null, deletes), zoneId));
+  }
+
+  // Runs the batch against a real detector over an empty schedule, so only the items themselves can overlap.
+  private EventBatchProcessor processor(ConflictPolicy policy) {
+    EventConflictDetector detector = new EventConflictDetector(mock(EventIntervalIndex.class), eventRepository,
+            mock(EventArchiveRepository.class), eventArchive, changeSequence, policy);
+    return new EventBatchProcessor(eventRepository, eventTombstoneRepository, new EventMapper(), detector,
+            changeSequence, eventPublisher, Validation.buildDefaultValidatorFactory()
+            .getValidator(), eventArchive);
+  }
+
+  private void savesWithIds(long firstId) {
+    AtomicLong nextId = new AtomicLong(firstId);
+    when(eventRepository.save(any(EventEntity.class))).thenAnswer(invocation -> {
+      EventEntity event = invocation.getArgument(0);
+      event.setId(nextId.getAndIncrement());
+      return event;
+    });
+  }
+
+  private static EventDTO event(Long id, String title) {
+    EventDTO event = new EventDTO();
+    event.setId(id);
+    event.setTitle(title);
+    event.setStartDateTime(LocalDateTime.of(2025, 1, 1, 10, 0));
+    event.setEndDateTime(LocalDateTime.of(2025, 1, 1, 11, 0));
+    return event;
+  }
+}
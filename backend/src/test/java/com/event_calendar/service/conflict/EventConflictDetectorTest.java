@@ -0,0 +1,144 @@
+package com.event_calendar.service.conflict;
+
+import com.event_calendar.entity.EventEntity;
+import com.event_calendar.exception.EventConflictException;
+import com.event_calendar.repository.EventArchiveRepository;
+import com.event_calendar.repository.EventRepository;
+import com.event_calendar.repository.projection.EventInterval;
+import com.event_calendar.service.archive.EventArchive;
+import com.event_calendar.service.index.EventIntervalIndex;
+import com.event_calendar.service.sync.ChangeSequence;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventConflictDetectorTest {
+
+  private static final Instant START = Instant.parse("2030-03-04T10:00:00Z");
+
+  @Mock
+  private EventIntervalIndex eventIntervalIndex;
+
+  @Mock
+  private EventRepository eventRepository;
+
+  @Mock
+  private EventArchiveRepository eventArchiveRepository;
+
+  @Mock
+  private EventArchive eventArchive;
+
+  @Mock
+  private ChangeSequence changeSequence;
+
+  @Test
+  void check_FlagReadsTheIndexWithoutLocking() {
+    when(eventIntervalIndex.findOverlapping(START, START.plusSeconds(3600))).thenReturn(List.of(1L, 7L));
+
+    assertEquals(List.of(7L), detector(ConflictPolicy.FLAG).check(1L, event(START, 60)));
+
+    verifyNoInteractions(changeSequence, eventRepository);
+  }
+
+  @Test
+  void check_RejectLocksBeforeReadingTheDatabase() {
+    when(eventRepository.findIntervalsOverlapping(START, START.plusSeconds(3600))).thenReturn(List.of(
+            interval(1L, START, 60), interval(7L, START.plusSeconds(1800), 60)));
+
+    EventConflictException e = assertThrows(EventConflictException.class, () -> detector(ConflictPolicy.REJECT)
+            .check(1L, event(START, 60)));
+
+    assertEquals(List.of(7L), e.getConflictingEventIds());
+    InOrder order = inOrder(changeSequence, eventRepository);
+    order.verify(changeSequence)
+            .lock();
+    order.verify(eventRepository)
+            .findIntervalsOverlapping(any(), any());
+    verifyNoInteractions(eventIntervalIndex);
+  }
+
+  @Test
+  void check_RejectPassesWhenOnlyTouching() {
+    when(eventRepository.findIntervalsOverlapping(START, START.plusSeconds(3600))).thenReturn(List.of(
+            interval(7L, START.plusSeconds(3600), 60)));
+
+    assertEquals(List.of(), detector(ConflictPolicy.REJECT).check(null, event(START, 60)));
+  }
+
+  @Test
+  void check_RejectExpandsStoredSeries() {
+    // A weekly series that started a week earlier, so only its second occurrence meets the new event.
+    EventInterval series = new EventInterval(5L, START.minusSeconds(7 * 86400), START.minusSeconds(7 * 86400 - 1800),
+            "FREQ=WEEKLY", "UTC", null, null);
+    when(eventRepository.findIntervalsOverlapping(any(), any())).thenReturn(List.of(series));
+
+    EventConflictException e = assertThrows(EventConflictException.class, () -> detector(ConflictPolicy.REJECT)
+            .check(null, event(START.plusSeconds(900), 60)));
+
+    assertEquals(List.of(5L), e.getConflictingEventIds());
+  }
+
+  @Test
+  void check_RejectChecksNewSeriesInOneRead() {
+    EventEntity series = event(START, 60);
+    series.setRecurrenceRule("FREQ=DAILY;COUNT=5");
+    series.setTimeZone("UTC");
+    when(eventRepository.findIntervalsOverlapping(START, START.plusSeconds(4 * 86400 + 3600))).thenReturn(List.of(
+            interval(9L, START.plusSeconds(3 * 86400), 30)));
+
+    EventConflictException e = assertThrows(EventConflictException.class, () -> detector(ConflictPolicy.REJECT)
+            .check(null, series));
+
+    assertEquals(List.of(9L), e.getConflictingEventIds());
+    verify(eventRepository).findIntervalsOverlapping(any(), any());
+  }
+
+  @Test
+  void check_RejectReadsTheArchiveOnlyWhenTheWindowReachesIt() {
+    when(eventArchive.reaches(START)).thenReturn(false);
+    detector(ConflictPolicy.REJECT).check(null, event(START, 60));
+    verifyNoInteractions(eventArchiveRepository);
+
+    Instant old = Instant.parse("2001-05-01T10:00:00Z");
+    when(eventArchive.reaches(old)).thenReturn(true);
+    when(eventArchiveRepository.findIntervalsOverlapping(old, old.plusSeconds(3600))).thenReturn(List.of(
+            interval(3L, old, 60)));
+    EventConflictException e = assertThrows(EventConflictException.class, () -> detector(ConflictPolicy.REJECT)
+            .check(null, event(old, 60)));
+    assertEquals(List.of(3L), e.getConflictingEventIds());
+  }
+
+  @Test
+  void check_AllowDoesNothing() {
+    assertEquals(List.of(), detector(ConflictPolicy.ALLOW).check(null, event(START, 60)));
+
+    verifyNoInteractions(eventIntervalIndex, eventRepository, changeSequence);
+  }
+
+  private EventConflictDetector detector(ConflictPolicy policy) {
+    return new EventConflictDetector(eventIntervalIndex, eventRepository, eventArchiveRepository, eventArchive,
+            changeSequence, policy);
+  }
+
+  private static EventEntity event(Instant start, long minutes) {
+    EventEntity event = new EventEntity();
+    event.setTitle("Event");
+    event.setStartDateTime(start);
+    event.setEndDateTime(start.plusSeconds(minutes * 60));
+    return event;
+  }
+
+  private static EventInterval interval(Long id, Instant start, long minutes) {
+    return new EventInterval(id, start, start.plusSeconds(minutes * 60), null, null, null, null);
+  }
+}
@@ -0,0 +1,133 @@
+package com.event_calendar.service.conflict;
+
+import com.event_calendar.dto.EventDTO;
+import com.event_calendar.exception.EventConflictException;
+import com.event_calendar.service.EventService;
+import com.event_calendar.service.index.EventIntervalIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the REJECT policy against the database. Each test gets its own day in 2045, so no test sees events another
+ * one created.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "events.conflicts.policy=REJECT")
+@ActiveProfiles("h2")
+class EventConflictRejectTest {
+
+  private static final ZoneId ZONE = ZoneId.of("UTC");
+  private static final AtomicLong NEXT_DAY = new AtomicLong();
+
+  @Autowired
+  private EventService eventService;
+
+  @Autowired
+  private EventIntervalIndex eventIntervalIndex;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void createEvent_RejectsOverlapCommittedByAnotherInstance() {
+    LocalDateTime start = nextDay();
+    // Written straight to the table, as another backend would: this instance's index never hears of it.
+    long id = 9_000_000 + NEXT_DAY.get();
+    jdbcTemplate.update("insert into event (id, title, start_date_time, end_date_time, change_seq, version) "
+            + "values (?, 'Elsewhere', ?, ?, ?, 0)", id, timestamp(start), timestamp(start.plusHours(1)), -id);
+    assertTrue(eventIntervalIndex.findOverlapping(start.toInstant(ZoneOffset.UTC), start.plusHours(1)
+                    .toInstant(ZoneOffset.UTC))
+            .isEmpty());
+
+    EventConflictException e = assertThrows(EventConflictException.class, () -> eventService.createEvent(
+            event(start.plusMinutes(30)), ZONE));
+
+    assertTrue(e.getConflictingEventIds()
+            .contains(id));
+  }
+
+  @Test
+  void createEvent_AcceptsAdjacentEvents() {
+    LocalDateTime start = nextDay();
+    eventService.createEvent(event(start), ZONE);
+
+    EventDTO next = eventService.createEvent(event(start.plusHours(1)), ZONE);
+
+    assertNull(next.getConflictingEventIds());
+  }
+
+  @Test
+  void concurrentCreateAndUpdate_OneWinsAndNeitherWaitsForever() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      for (int round = 0; round < 20; round++) {
+        LocalDateTime start = nextDay();
+        EventDTO moved = eventService.createEvent(event(start), ZONE);
+        moved.setStartDateTime(start.plusHours(2)
+                .plusMinutes(30));
+        moved.setEndDateTime(start.plusHours(3)
+                .plusMinutes(30));
+        CountDownLatch ready = new CountDownLatch(2);
+        Future<EventDTO> create = executor.submit(() -> {
+          ready.countDown();
+          ready.await();
+          return eventService.createEvent(event(start.plusHours(2)), ZONE);
+        });
+        Future<EventDTO> update = executor.submit(() -> {
+          ready.countDown();
+          ready.await();
+          return eventService.updateEvent(moved.getId(), moved, null, ZONE);
+        });
+
+        int succeeded = succeeded(create) + succeeded(update);
+
+        assertEquals(1, succeeded, "round " + round);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static int succeeded(Future<EventDTO> write) throws Exception {
+    try {
+      write.get(30, TimeUnit.SECONDS);
+      return 1;
+    } catch (ExecutionException e) {
+      assertInstanceOf(EventConflictException.class, e.getCause());
+      return 0;
+    }
+  }
+
+  private static Timestamp timestamp(LocalDateTime time) {
+    return Timestamp.from(time.toInstant(ZoneOffset.UTC));
+  }
+
+  private static LocalDateTime nextDay() {
+    return LocalDateTime.of(2045, 1, 1, 10, 0)
+            .plusDays(NEXT_DAY.incrementAndGet());
+  }
+
+  private static EventDTO event(LocalDateTime start) {
+    EventDTO event = new EventDTO();
+    event.setTitle("Meeting " + start);
+    event.setStartDateTime(start);
+    event.setEndDateTime(start.plusHours(1));
+    return event;
+  }
+}
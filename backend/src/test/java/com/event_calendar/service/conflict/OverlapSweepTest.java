@@ -0,0 +1,76 @@
+package com.event_calendar.service.conflict;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OverlapSweepTest {
+
+  @Test
+  void accept_ReportsOverlapBoundsOfEachPair() {
+    OverlapSweep sweep = new OverlapSweep();
+    sweep.accept(1L, 0, 100);
+    sweep.accept(2L, 50, 60);
+    sweep.accept(3L, 100, 200);
+
+    List<EventOverlap> overlaps = sweep.getOverlaps();
+
+    assertEquals(1, overlaps.size());
+    assertEquals(1L, overlaps.get(0)
+            .getFirstEventId());
+    assertEquals(2L, overlaps.get(0)
+            .getSecondEventId());
+    assertEquals(50, overlaps.get(0)
+            .getOverlapStart());
+    assertEquals(60, overlaps.get(0)
+            .getOverlapEnd());
+  }
+
+  @Test
+  void accept_WithUnsortedInput_Throws() {
+    OverlapSweep sweep = new OverlapSweep();
+    sweep.accept(1L, 10, 20);
+
+    assertThrows(IllegalStateException.class, () -> sweep.accept(2L, 5, 20));
+  }
+
+  @Test
+  void randomIntervals_MatchPairwiseComparison() {
+    Random random = new Random(7);
+    List<long[]> intervals = new ArrayList<>();
+    for (long id = 1; id <= 400; id++) {
+      long start = random.nextInt(20_000);
+      intervals.add(new long[]{id, start, start + 1 + random.nextInt(300)});
+    }
+    intervals.sort(Comparator.<long[]>comparingLong(interval -> interval[1])
+            .thenComparingLong(interval -> interval[0]));
+
+    OverlapSweep sweep = new OverlapSweep();
+    intervals.forEach(interval -> sweep.accept(interval[0], interval[1], interval[2]));
+
+    Set<String> expected = new HashSet<>();
+    for (int i = 0; i < intervals.size(); i++) {
+      for (int j = i + 1; j < intervals.size(); j++) {
+        long[] a = intervals.get(i);
+        long[] b = intervals.get(j);
+        if (a[1] < b[2] && b[1] < a[2]) {
+          expected.add(a[0] + "-" + b[0]);
+        }
+      }
+    }
+    Set<String> actual = new HashSet<>();
+    sweep.getOverlaps()
+            .forEach(overlap -> actual.add(overlap.getFirstEventId() + "-" + overlap.getSecondEventId()));
+
+    assertEquals(expected, actual);
+    assertEquals(expected.size(), sweep.getOverlaps()
+            .size());
+  }
+}
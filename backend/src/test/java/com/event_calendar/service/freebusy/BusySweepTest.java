@@ -0,0 +1,89 @@
+package com.event_calendar.service.freebusy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusySweepTest {
+
+  @Test
+  void accept_MergesOverlappingAndTouchingIntervals() {
+    BusySweep sweep = new BusySweep(0, 1_000);
+    sweep.accept(1L, 0, 100);
+    sweep.accept(2L, 50, 60);
+    sweep.accept(3L, 100, 200);
+    sweep.accept(4L, 300, 400);
+
+    List<BusyBlock> blocks = sweep.getBlocks();
+
+    assertEquals(2, blocks.size());
+    assertEquals(0, blocks.get(0)
+            .getStart());
+    assertEquals(200, blocks.get(0)
+            .getEnd());
+    assertEquals(300, blocks.get(1)
+            .getStart());
+    assertEquals(400, blocks.get(1)
+            .getEnd());
+  }
+
+  @Test
+  void accept_ClipsBlocksToWindow() {
+    BusySweep sweep = new BusySweep(100, 200);
+    sweep.accept(1L, 0, 150);
+    sweep.accept(2L, 180, 500);
+    sweep.accept(3L, 200, 300);
+
+    List<BusyBlock> blocks = sweep.getBlocks();
+
+    assertEquals(2, blocks.size());
+    assertEquals(100, blocks.get(0)
+            .getStart());
+    assertEquals(150, blocks.get(0)
+            .getEnd());
+    assertEquals(180, blocks.get(1)
+            .getStart());
+    assertEquals(200, blocks.get(1)
+            .getEnd());
+  }
+
+  @Test
+  void accept_WithUnsortedInput_Throws() {
+    BusySweep sweep = new BusySweep(0, 100);
+    sweep.accept(1L, 10, 20);
+
+    assertThrows(IllegalStateException.class, () -> sweep.accept(2L, 5, 20));
+  }
+
+  @Test
+  void randomIntervals_MatchCoveredUnits() {
+    Random random = new Random(11);
+    List<long[]> intervals = new ArrayList<>();
+    for (long id = 1; id <= 400; id++) {
+      long start = random.nextInt(20_000);
+      intervals.add(new long[]{id, start, start + 1 + random.nextInt(100)});
+    }
+    intervals.sort(Comparator.comparingLong(interval -> interval[1]));
+
+    BusySweep sweep = new BusySweep(5_000, 15_000);
+    intervals.forEach(interval -> sweep.accept(interval[0], interval[1], interval[2]));
+
+    BitSet expected = new BitSet();
+    intervals.forEach(interval -> expected.set((int) Math.max(interval[1], 5_000), (int) Math.max(Math.min(
+            interval[2], 15_000), Math.max(interval[1], 5_000))));
+    BitSet actual = new BitSet();
+    long previousEnd = Long.MIN_VALUE;
+    for (BusyBlock block : sweep.getBlocks()) {
+      assertTrue(block.getStart() > previousEnd, "blocks must be disjoint and not touch");
+      actual.set((int) block.getStart(), (int) block.getEnd());
+      previousEnd = block.getEnd();
+    }
+    assertEquals(expected, actual);
+  }
+}
@@ -0,0 +1,91 @@
+package com.event_calendar.service.freebusy;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FreeSlotSearchTest {
+
+  private static final ZoneId UTC = ZoneId.of("UTC");
+  private static final long MINUTE = 60_000;
+  private static final long HOUR = 60 * MINUTE;
+  private static final long DAY = 24 * HOUR;
+  // A Monday.
+  private static final long MONDAY = Instant.parse("2025-01-06T00:00:00Z")
+          .toEpochMilli();
+
+  @Test
+  void visit_ReturnsGapsLongEnoughBetweenBusyIntervals() {
+    FreeSlotSearch search = new FreeSlotSearch(MONDAY, MONDAY + DAY, 45 * MINUTE, 10, WorkingHours.ALWAYS, UTC);
+    search.visit(1L, MONDAY, MONDAY + 9 * HOUR);
+    search.visit(2L, MONDAY + 9 * HOUR + 30 * MINUTE, MONDAY + 10 * HOUR);
+    search.visit(3L, MONDAY + 9 * HOUR + 45 * MINUTE, MONDAY + 11 * HOUR);
+    search.visit(4L, MONDAY + 12 * HOUR, MONDAY + 13 * HOUR);
+
+    List<FreeSlot> slots = search.getSlots();
+
+    // The 30 minutes at 09:00 are too short; 11:00-12:00 and the rest of the day fit.
+    assertEquals(2, slots.size());
+    assertSlot(MONDAY + 11 * HOUR, MONDAY + 12 * HOUR, slots.get(0));
+    assertSlot(MONDAY + 13 * HOUR, MONDAY + DAY, slots.get(1));
+  }
+
+  @Test
+  void visit_StopsOnceLimitIsReached() {
+    FreeSlotSearch search = new FreeSlotSearch(MONDAY, MONDAY + 7 * DAY, HOUR, 2, WorkingHours.ALWAYS, UTC);
+
+    assertTrue(search.visit(1L, MONDAY + HOUR, MONDAY + 2 * HOUR));
+    assertFalse(search.visit(2L, MONDAY + 3 * HOUR, MONDAY + 4 * HOUR));
+
+    List<FreeSlot> slots = search.getSlots();
+    assertEquals(2, slots.size());
+    assertSlot(MONDAY + 2 * HOUR, MONDAY + 3 * HOUR, slots.get(1));
+  }
+
+  @Test
+  void getSlots_CutsFreeTimeToWorkingHours() {
+    WorkingHours hours = WorkingHours.parse("09:00-17:00", "MON-FRI");
+    // From Friday noon over the weekend.
+    long friday = MONDAY + 4 * DAY;
+    FreeSlotSearch search = new FreeSlotSearch(friday + 12 * HOUR, friday + 4 * DAY + 12 * HOUR, HOUR, 10, hours,
+            UTC);
+    search.visit(1L, friday + 13 * HOUR, friday + 16 * HOUR + 30 * MINUTE);
+
+    List<FreeSlot> slots = search.getSlots();
+
+    // Friday 16:30-17:00 is too short, the weekend is off, and the window ends Tuesday at noon.
+    assertEquals(3, slots.size());
+    assertSlot(friday + 12 * HOUR, friday + 13 * HOUR, slots.get(0));
+    assertSlot(friday + 3 * DAY + 9 * HOUR, friday + 3 * DAY + 17 * HOUR, slots.get(1));
+    assertSlot(friday + 4 * DAY + 9 * HOUR, friday + 4 * DAY + 12 * HOUR, slots.get(2));
+  }
+
+  @Test
+  void getSlots_JoinsConsecutiveWholeWorkingDays() {
+    WorkingHours weekend = WorkingHours.parse(null, "SAT-SUN");
+    FreeSlotSearch search = new FreeSlotSearch(MONDAY, MONDAY + 14 * DAY, HOUR, 10, weekend, UTC);
+
+    List<FreeSlot> slots = search.getSlots();
+
+    assertEquals(2, slots.size());
+    assertSlot(MONDAY + 5 * DAY, MONDAY + 7 * DAY, slots.get(0));
+    assertSlot(MONDAY + 12 * DAY, MONDAY + 14 * DAY, slots.get(1));
+  }
+
+  @Test
+  void visit_WithUnsortedInput_Throws() {
+    FreeSlotSearch search = new FreeSlotSearch(MONDAY, MONDAY + DAY, HOUR, 10, WorkingHours.ALWAYS, UTC);
+    search.visit(1L, MONDAY + 2 * HOUR, MONDAY + 3 * HOUR);
+
+    assertThrows(IllegalStateException.class, () -> search.visit(2L, MONDAY + HOUR, MONDAY + 3 * HOUR));
+  }
+
+  private static void assertSlot(long start, long end, FreeSlot slot) {
+    assertEquals(Instant.ofEpochMilli(start), Instant.ofEpochMilli(slot.getStart()));
+    assertEquals(Instant.ofEpochMilli(end), Instant.ofEpochMilli(slot.getEnd()));
+  }
+}
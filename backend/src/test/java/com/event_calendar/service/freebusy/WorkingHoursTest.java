@@ -0,0 +1,103 @@
+package com.event_calendar.service.freebusy;
+
+import com.event_calendar.exception.InvalidWorkingHoursException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkingHoursTest {
+
+  private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+
+  @Test
+  void periodEndingAfter_KeepsLocalHoursAcrossDstChange() {
+    WorkingHours hours = WorkingHours.parse("09:00-17:00", null);
+
+    // Saturday before the spring change: +01:00; Monday after it: +02:00.
+    assertPeriod("2025-03-29T08:00:00Z", "2025-03-29T16:00:00Z", hours.periodEndingAfter(millis("2025-03-29T07:00:00Z"),
+            BERLIN));
+    assertPeriod("2025-03-31T07:00:00Z", "2025-03-31T15:00:00Z", hours.periodEndingAfter(millis("2025-03-31T06:00:00Z"),
+            BERLIN));
+  }
+
+  @Test
+  void periodEndingAfter_WithStartInDstGap_MovesStartForward() {
+    WorkingHours hours = WorkingHours.parse("02:30-04:00", null);
+
+    // 02:30 does not exist on 2025-03-30 in Berlin; the period starts at 03:30 local, 01:30Z.
+    assertPeriod("2025-03-30T01:30:00Z", "2025-03-30T02:00:00Z", hours.periodEndingAfter(millis("2025-03-30T00:00:00Z"),
+            BERLIN));
+  }
+
+  @Test
+  void periodEndingAfter_SkipsNonWorkingDays() {
+    WorkingHours hours = WorkingHours.parse("09:00-17:00", "MON-FRI");
+
+    // Friday evening, after hours: the next period is Monday morning.
+    assertPeriod("2025-01-13T08:00:00Z", "2025-01-13T16:00:00Z", hours.periodEndingAfter(millis("2025-01-10T17:00:00Z"),
+            BERLIN));
+  }
+
+  @Test
+  void periodEndingAfter_WithWorkingDaysOnly_CoversWholeDays() {
+    WorkingHours hours = WorkingHours.parse(null, "SAT-SUN");
+
+    assertPeriod("2025-01-10T23:00:00Z", "2025-01-11T23:00:00Z", hours.periodEndingAfter(millis("2025-01-08T12:00:00Z"),
+            BERLIN));
+  }
+
+  @Test
+  void parse_WithoutHoursOrDays_IsAlways() {
+    assertSame(WorkingHours.ALWAYS, WorkingHours.parse(null, " "));
+  }
+
+  @Test
+  void parse_AcceptsDayListsAndWrappingRanges() {
+    WorkingHours hours = WorkingHours.parse("10:00-11:00", "fri-mon, wed");
+
+    // Tuesday 2025-01-07 is skipped; Wednesday is a working day.
+    assertPeriod("2025-01-08T09:00:00Z", "2025-01-08T10:00:00Z", hours.periodEndingAfter(millis("2025-01-07T00:00:00Z"),
+            BERLIN));
+  }
+
+  @Test
+  void longestPeriod_IsOneDaysHoursOrTheLongestRunOfWholeDays() {
+    assertEquals(Duration.ofHours(8), WorkingHours.parse("09:00-17:00", "MON-FRI")
+            .longestPeriod());
+    assertEquals(Duration.ofDays(5), WorkingHours.parse(null, "MON-FRI")
+            .longestPeriod());
+    // Friday to Monday wraps round the end of the week.
+    assertEquals(Duration.ofDays(4), WorkingHours.parse(null, "FRI-MON,WED")
+            .longestPeriod());
+    assertEquals(ChronoUnit.FOREVER.getDuration(), WorkingHours.ALWAYS.longestPeriod());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"9-17", "17:00-09:00", "09:00", "09:00-17:00-18:00", "09:00-25:00"})
+  void parse_WithInvalidHours_Throws(String hours) {
+    assertThrows(InvalidWorkingHoursException.class, () -> WorkingHours.parse(hours, null));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"MO", "MON-", "XYZ", "MON-TUE-WED"})
+  void parse_WithInvalidDays_Throws(String days) {
+    assertThrows(InvalidWorkingHoursException.class, () -> WorkingHours.parse(null, days));
+  }
+
+  private static long millis(String instant) {
+    return Instant.parse(instant)
+            .toEpochMilli();
+  }
+
+  private static void assertPeriod(String start, String end, long[] period) {
+    assertEquals(Instant.parse(start), Instant.ofEpochMilli(period[0]));
+    assertEquals(Instant.parse(end), Instant.ofEpochMilli(period[1]));
+  }
+}
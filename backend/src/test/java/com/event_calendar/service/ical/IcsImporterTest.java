@@ -0,0 +1,153 @@
+package com.event_calendar.service.ical;
+
+import com.event_calendar.dto.EventBatchItemDTO;
+import com.event_calendar.dto.EventBatchRequestDTO;
+import com.event_calendar.dto.EventBatchResultDTO;
+import com.event_calendar.dto.EventDTO;
+import com.event_calendar.dto.EventImportResultDTO;
+import com.event_calendar.service.batch.EventBatchProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IcsImporterTest {
+
+  @Mock
+  private EventBatchProcessor eventBatchProcessor;
+
+  // The importer reuses its chunk list, so the events of each call are copied when it is made.
+  private final List<List<EventDTO>> chunks = new ArrayList<>();
+
+  private IcsImporter importer;
+  private ZoneId zoneId;
+
+  @BeforeEach
+  void setUp() {
+    importer = new IcsImporter(eventBatchProcessor);
+    zoneId = ZoneId.of("UTC");
+  }
+
+  @Test
+  void importEvents_ParsesFoldedTextZonesAndSkipsAlarms() {
+    when(eventBatchProcessor.apply(any(EventBatchRequestDTO.class), eq(zoneId))).thenAnswer(
+            invocation -> created(invocation.getArgument(0)));
+    String ics = String.join("\r\n",
+            "BEGIN:VCALENDAR",
+            "BEGIN:VEVENT",
+            "UID:a@example.com",
+            "SUMMARY:Planning\\, Q3",
+            "DESCRIPTION:First line\\nsecond",
+            "  line",
+            "DTSTART;TZID=Europe/Berlin:20250701T100000",
+            "DURATION:PT90M",
+            "BEGIN:VALARM",
+            "DESCRIPTION:Reminder",
+            "END:VALARM",
+            "END:VEVENT",
+            "BEGIN:VEVENT",
+            "SUMMARY:Holiday",
+            "DTSTART;VALUE=DATE:20250704",
+            "RRULE:FREQ=WEEKLY;COUNT=3",
+            "EXDATE;VALUE=DATE:20250711",
+            "END:VEVENT",
+            "END:VCALENDAR");
+
+    EventImportResultDTO result = importer.importEvents(new StringReader(ics), zoneId);
+
+    assertEquals(2, result.getImported());
+    List<EventDTO> events = chunks.get(0);
+    EventDTO planning = events.get(0);
+    assertEquals("Planning, Q3", planning.getTitle());
+    assertEquals("First line\nsecond line", planning.getDescription());
+    assertEquals(LocalDateTime.of(2025, 7, 1, 8, 0), planning.getStartDateTime());
+    assertEquals(LocalDateTime.of(2025, 7, 1, 9, 30), planning.getEndDateTime());
+    EventDTO holiday = events.get(1);
+    assertEquals(LocalDateTime.of(2025, 7, 5, 0, 0), holiday.getEndDateTime());
+    assertEquals("FREQ=WEEKLY;COUNT=3", holiday.getRecurrenceRule());
+    assertEquals(List.of(LocalDateTime.of(2025, 7, 11, 0, 0)), holiday.getRecurrenceExceptions());
+  }
+
+  @Test
+  void importEvents_ReportsUnparseableAndRejectedEventsWithTheirLine() {
+    when(eventBatchProcessor.apply(any(EventBatchRequestDTO.class), eq(zoneId))).thenAnswer(invocation -> {
+      EventBatchItemDTO invalid = new EventBatchItemDTO(EventBatchItemDTO.Operation.CREATE, 0);
+      invalid.setStatus(EventBatchItemDTO.Status.INVALID);
+      invalid.setErrors(Map.of("title", "Title is required"));
+      return new EventBatchResultDTO(0, 1, List.of(invalid));
+    });
+    String ics = String.join("\n",
+            "BEGIN:VEVENT",
+            "UID:broken",
+            "DTSTART:20250701T100000",
+            "END:VEVENT",
+            "BEGIN:VEVENT",
+            "DTSTART:20250701T100000Z",
+            "DTEND:20250701T110000Z",
+            "END:VEVENT");
+
+    EventImportResultDTO result = importer.importEvents(new StringReader(ics), zoneId);
+
+    assertEquals(0, result.getImported());
+    assertEquals(2, result.getRejected());
+    assertEquals(1, result.getErrors()
+            .get(0)
+            .getLine());
+    assertEquals("broken", result.getErrors()
+            .get(0)
+            .getUid());
+    assertEquals(5, result.getErrors()
+            .get(1)
+            .getLine());
+    assertTrue(result.getErrors()
+            .get(1)
+            .getErrors()
+            .containsKey("title"));
+  }
+
+  @Test
+  void importEvents_PersistsInBoundedChunks() {
+    when(eventBatchProcessor.apply(any(EventBatchRequestDTO.class), eq(zoneId))).thenAnswer(
+            invocation -> created(invocation.getArgument(0)));
+    StringBuilder ics = new StringBuilder();
+    int count = IcsImporter.CHUNK_SIZE * 2 + 1;
+    for (int i = 0; i < count; i++) {
+      ics.append("BEGIN:VEVENT\nSUMMARY:E")
+              .append(i)
+              .append("\nDTSTART:20250701T100000Z\nDTEND:20250701T110000Z\nEND:VEVENT\n");
+    }
+
+    EventImportResultDTO result = importer.importEvents(new StringReader(ics.toString()), zoneId);
+
+    assertEquals(count, result.getImported());
+    assertEquals(List.of(IcsImporter.CHUNK_SIZE, IcsImporter.CHUNK_SIZE, 1), chunks.stream()
+            .map(List::size)
+            .toList());
+  }
+
+  private EventBatchResultDTO created(EventBatchRequestDTO request) {
+    chunks.add(new ArrayList<>(request.getCreate()));
+    List<EventBatchItemDTO> items = new ArrayList<>();
+    for (int i = 0; i < request.getCreate()
+            .size(); i++) {
+      EventBatchItemDTO item = new EventBatchItemDTO(EventBatchItemDTO.Operation.CREATE, i);
+      item.setStatus(EventBatchItemDTO.Status.CREATED);
+      items.add(item);
+    }
+    return new EventBatchResultDTO(items.size(), 0, items);
+  }
+}
@@ -0,0 +1,138 @@
+package com.event_calendar.service.ical;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneOffsetTransitionRule;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IcsTimeZoneTest {
+
+  private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+  @Test
+  void lines_Berlin_EndsWithTheEuropeanRules() {
+    String vtimezone = String.join("\n", IcsTimeZone.lines(ZoneId.of("Europe/Berlin")));
+
+    assertTrue(vtimezone.startsWith("BEGIN:VTIMEZONE\nTZID:Europe/Berlin\n"));
+    // The JDK lists Berlin's transitions up to 1997 and covers later years with the two EU rules.
+    assertTrue(vtimezone.endsWith("BEGIN:DAYLIGHT\nDTSTART:19980329T020000\nRRULE:FREQ=YEARLY;BYMONTH=3;BYDAY=-1SU\n"
+            + "TZOFFSETFROM:+0100\nTZOFFSETTO:+0200\nEND:DAYLIGHT\nBEGIN:STANDARD\nDTSTART:19981025T030000\n"
+            + "RRULE:FREQ=YEARLY;BYMONTH=10;BYDAY=-1SU\nTZOFFSETFROM:+0200\nTZOFFSETTO:+0100\nEND:STANDARD\n"
+            + "END:VTIMEZONE"), vtimezone);
+    assertTrue(vtimezone.contains("BEGIN:STANDARD\nDTSTART:19971026T030000\nTZOFFSETFROM:+0200\nTZOFFSETTO:+0100\n"
+            + "END:STANDARD\n"), vtimezone);
+  }
+
+  @Test
+  void lines_FixedOffset_IsOneStandardObservance() {
+    assertEquals(List.of("BEGIN:VTIMEZONE", "TZID:UTC", "BEGIN:STANDARD", "DTSTART:19700101T000000",
+            "TZOFFSETFROM:+0000", "TZOFFSETTO:+0000", "END:STANDARD", "END:VTIMEZONE"), IcsTimeZone.lines(ZoneId.of(
+            "UTC")));
+  }
+
+  @Test
+  void lines_NewYork_UsesOrdinalWeekdays() {
+    List<String> lines = IcsTimeZone.lines(ZoneId.of("America/New_York"));
+
+    assertTrue(lines.contains("RRULE:FREQ=YEARLY;BYMONTH=3;BYDAY=2SU"), lines.toString());
+    assertTrue(lines.contains("RRULE:FREQ=YEARLY;BYMONTH=11;BYDAY=1SU"), lines.toString());
+  }
+
+  @Test
+  void offset_KeepsSecondsOnlyWhenThereAreAny() {
+    assertEquals("-0330", IcsTimeZone.offset(ZoneOffset.ofHoursMinutes(-3, -30)));
+    assertEquals("+005328", IcsTimeZone.offset(ZoneOffset.ofTotalSeconds(3_208)));
+  }
+
+  // Expands each yearly rule the way a client would and compares it with the JDK's transitions, for every zone.
+  @Test
+  void lines_YearlyRulesMatchTheZoneRulesInEveryZone() {
+    for (String id : ZoneId.getAvailableZoneIds()) {
+      ZoneId zone = ZoneId.of(id);
+      List<ZoneOffsetTransitionRule> rules = zone.getRules()
+              .getTransitionRules();
+      List<String> recurrences = new ArrayList<>();
+      for (String line : IcsTimeZone.lines(zone)) {
+        if (line.startsWith("RRULE:") || line.startsWith("RDATE:")) {
+          recurrences.add(line);
+        }
+      }
+      assertEquals(rules.size(), recurrences.size(), id);
+      List<ZoneOffsetTransition> transitions = zone.getRules()
+              .getTransitions();
+      // Before this year the zone's own transition list applies, not its rules.
+      int firstRuleYear = transitions.isEmpty() ? 0 : transitions.get(transitions.size() - 1)
+              .getDateTimeAfter()
+              .getYear() + 1;
+      for (int i = 0; i < rules.size(); i++) {
+        for (int year = Math.max(2030, firstRuleYear); year <= Math.max(2060, firstRuleYear + 30); year++) {
+          LocalDateTime expected = rules.get(i)
+                  .createTransition(year)
+                  .getDateTimeBefore();
+          String recurrence = recurrences.get(i);
+          if (recurrence.startsWith("RDATE:")) {
+            assertTrue(recurrence.contains(LOCAL_DATE_TIME.format(expected)), id + " " + year);
+          } else {
+            assertEquals(expected.toLocalDate(), expand(recurrence, year), id + " " + recurrence + " " + year);
+          }
+        }
+      }
+    }
+  }
+
+  private static LocalDate expand(String rrule, int year) {
+    Map<String, String> parts = new HashMap<>();
+    for (String part : rrule.substring("RRULE:".length())
+            .split(";")) {
+      String[] pair = part.split("=");
+      parts.put(pair[0], pair[1]);
+    }
+    LocalDate month = LocalDate.of(year, Integer.parseInt(parts.get("BYMONTH")), 1);
+    List<Integer> monthDays = parts.containsKey("BYMONTHDAY") ? Arrays.stream(parts.get("BYMONTHDAY")
+                    .split(","))
+            .map(Integer::parseInt)
+            .toList() : null;
+    String byDay = parts.get("BYDAY");
+    // An ordinal such as 2SU or -1SU picks one week of the month; a bare SU leaves that to BYMONTHDAY.
+    int ordinal = byDay == null || byDay.length() == 2 ? 0 : Integer.parseInt(byDay.substring(0, byDay.length() - 2));
+    LocalDate match = null;
+    for (LocalDate date = month; date.getMonth() == month.getMonth(); date = date.plusDays(1)) {
+      int fromEnd = date.getDayOfMonth() - date.lengthOfMonth() - 1;
+      boolean day = monthDays == null || monthDays.contains(date.getDayOfMonth()) || monthDays.contains(fromEnd);
+      boolean weekday = byDay == null || date.getDayOfWeek() == weekday(byDay.substring(byDay.length() - 2));
+      if (ordinal > 0) {
+        day = (date.getDayOfMonth() - 1) / 7 + 1 == ordinal;
+      } else if (ordinal < 0) {
+        day = -((-fromEnd - 1) / 7 + 1) == ordinal;
+      }
+      if (day && weekday) {
+        assertNull(match, rrule + " matches twice in " + year);
+        match = date;
+      }
+    }
+    return match;
+  }
+
+  private static DayOfWeek weekday(String abbreviation) {
+    for (DayOfWeek day : DayOfWeek.values()) {
+      if (day.name()
+              .startsWith(abbreviation)) {
+        return day;
+      }
+    }
+    throw new IllegalArgumentException(abbreviation);
+  }
+}
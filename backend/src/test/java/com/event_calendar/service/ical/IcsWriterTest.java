@@ -0,0 +1,128 @@
+package com.event_calendar.service.ical;
+
+import com.event_calendar.dto.EventDTO;
+import com.event_calendar.entity.EventEntity;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IcsWriterTest {
+
+  private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+
+  @Test
+  void write_SingleEvent_UsesUtcAndEscapesText() throws IOException {
+    EventEntity event = event(1L, "Review; part 1, draft", Instant.parse("2025-07-01T08:00:00Z"),
+            Instant.parse("2025-07-01T09:30:00Z"));
+    event.setDescription("Bring\nslides");
+
+    String ics = write(event);
+
+    assertTrue(ics.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+    assertTrue(ics.contains("UID:1@event-calendar\r\n"));
+    assertTrue(ics.contains("DTSTART:20250701T080000Z\r\nDTEND:20250701T093000Z\r\n"));
+    assertTrue(ics.contains("SUMMARY:Review\\; part 1\\, draft\r\n"));
+    assertTrue(ics.contains("DESCRIPTION:Bring\\nslides\r\n"));
+    assertTrue(ics.endsWith("END:VEVENT\r\nEND:VCALENDAR\r\n"));
+    assertFalse(ics.contains("VTIMEZONE"));
+  }
+
+  @Test
+  void write_FoldsLongLinesAtSeventyFiveOctets() throws IOException {
+    EventEntity event = event(1L, "é".repeat(100), Instant.parse("2025-07-01T08:00:00Z"),
+            Instant.parse("2025-07-01T09:00:00Z"));
+
+    String ics = write(event);
+
+    for (String line : ics.split("\r\n")) {
+      assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75, line);
+    }
+    assertEquals("é".repeat(100), read(ics).getTitle());
+  }
+
+  @Test
+  void write_Series_UsesItsZoneAndUtcUntil() throws IOException {
+    EventEntity event = event(2L, "Standup", Instant.parse("2025-03-28T08:00:00Z"),
+            Instant.parse("2025-03-28T08:15:00Z"));
+    event.setRecurrenceRule("FREQ=DAILY;UNTIL=20250402");
+    event.setTimeZone(BERLIN.getId());
+    event.setRecurrenceExceptions("2025-03-31T07:00:00Z");
+
+    String ics = write(event);
+
+    assertTrue(ics.contains("DTSTART;TZID=Europe/Berlin:20250328T090000\r\n"));
+    assertTrue(ics.contains("DTEND;TZID=Europe/Berlin:20250328T091500\r\n"));
+    assertTrue(ics.contains("RRULE:FREQ=DAILY;UNTIL=20250402T215959Z\r\n"));
+    assertTrue(ics.contains("EXDATE;TZID=Europe/Berlin:20250331T090000\r\n"));
+    EventDTO imported = read(ics);
+    assertEquals(LocalDateTime.of(2025, 3, 28, 9, 0), imported.getStartDateTime());
+    assertEquals(List.of(LocalDateTime.of(2025, 3, 31, 9, 0)), imported.getRecurrenceExceptions());
+  }
+
+  @Test
+  void write_Series_DefinesEachZoneOnceBeforeItIsUsed() throws IOException {
+    EventEntity standup = event(2L, "Standup", Instant.parse("2025-03-28T08:00:00Z"),
+            Instant.parse("2025-03-28T08:15:00Z"));
+    standup.setRecurrenceRule("FREQ=DAILY");
+    standup.setTimeZone(BERLIN.getId());
+    EventEntity review = event(3L, "Review", Instant.parse("2025-03-28T13:00:00Z"),
+            Instant.parse("2025-03-28T14:00:00Z"));
+    review.setRecurrenceRule("FREQ=WEEKLY");
+    review.setTimeZone(BERLIN.getId());
+    EventEntity offset = event(4L, "Sync", Instant.parse("2025-03-28T07:00:00Z"), Instant.parse("2025-03-28T07:30:00Z"));
+    offset.setRecurrenceRule("FREQ=WEEKLY");
+    offset.setTimeZone("+02:00");
+
+    String ics = write(standup, review, offset);
+
+    assertEquals(2, ics.split("BEGIN:VTIMEZONE\r\n", -1).length - 1);
+    assertTrue(ics.indexOf("TZID:Europe/Berlin\r\n") < ics.indexOf("DTSTART;TZID=Europe/Berlin:"));
+    assertTrue(ics.indexOf("TZID:+02:00\r\n") < ics.indexOf("DTSTART;TZID=\"+02:00\":20250328T090000\r\n"));
+    assertTrue(ics.contains("TZOFFSETFROM:+0100\r\nTZOFFSETTO:+0200\r\n"));
+    // The last series, read back in Berlin: 09:00 at +02:00 is 08:00 there before the DST change.
+    assertEquals(LocalDateTime.of(2025, 3, 28, 8, 0), read(ics).getStartDateTime());
+  }
+
+  private static String write(EventEntity... events) throws IOException {
+    StringWriter out = new StringWriter();
+    IcsWriter writer = new IcsWriter(out);
+    writer.begin();
+    for (EventEntity event : events) {
+      writer.write(event);
+    }
+    writer.end();
+    return out.toString();
+  }
+
+  private static EventDTO read(String ics) throws IOException {
+    IcsReader reader = new IcsReader(new StringReader(ics));
+    IcsEvent event = null;
+    for (IcsProperty property = reader.next(); property != null; property = reader.next()) {
+      if ("BEGIN".equals(property.getName()) && "VEVENT".equals(property.getValue())) {
+        event = new IcsEvent(property.getLine());
+      } else if (event != null && !"END".equals(property.getName())) {
+        event.add(property);
+      }
+    }
+    return IcsEventConverter.toEventDTO(event, BERLIN);
+  }
+
+  private static EventEntity event(Long id, String title, Instant start, Instant end) {
+    EventEntity event = new EventEntity();
+    event.setId(id);
+    event.setTitle(title);
+    event.setStartDateTime(start);
+    event.setEndDateTime(end);
+    event.setUpdatedAt(Instant.parse("2025-06-01T12:00:00Z"));
+    return event;
+  }
+}
@@ -1,25 +1,59 @@
 package com.event_calendar.service.impl;
 
+import com.event_calendar.dto.EventBusyIntervalDTO;
 import com.event_calendar.dto.EventDTO;
+import com.event_calendar.dto.EventPageDTO;
+import com.event_calendar.dto.EventSyncDTO;
 import com.event_calendar.entity.EventEntity;
+import com.event_calendar.entity.EventTombstoneEntity;
+import com.event_calendar.exception.EventConflictException;
 import com.event_calendar.exception.EventNotFoundException;
+import com.event_calendar.exception.EventVersionMismatchException;
+import com.event_calendar.exception.InvalidCursorException;
+import com.event_calendar.exception.InvalidTimeRangeException;
+import com.event_calendar.exception.InvalidWorkingHoursException;
 import com.event_calendar.mapper.EventMapper;
+import com.event_calendar.repository.EventArchiveRepository;
 import com.event_calendar.repository.EventRepository;
+import com.event_calendar.repository.EventTombstoneRepository;
+import com.event_calendar.repository.projection.EventCollectionVersion;
+import com.event_calendar.repository.projection.EventVersion;
+import com.event_calendar.repository.projection.EventView;
+import com.event_calendar.service.EventChange;
+import com.event_calendar.service.archive.EventArchive;
+import com.event_calendar.service.cache.EventCache;
+import com.event_calendar.service.conflict.EventConflictDetector;
+import com.event_calendar.service.freebusy.WorkingHours;
+import com.event_calendar.service.index.EventIntervalIndex;
+import com.event_calendar.service.index.IntervalConsumer;
+import com.event_calendar.service.range.TimeRangeLimit;
+import com.event_calendar.service.sync.ChangeSequence;
+import com.event_calendar.util.SyncToken;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -35,12 +69,43 @@ class EventServiceImplTest {
   @Mock
   private EventMapper eventMapper;
 
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private EventIntervalIndex eventIntervalIndex;
+
+  @Mock
+  private EventConflictDetector eventConflictDetector;
+
+  @Spy
+  private EventCache eventCache = new EventCache(new ConcurrentMapCacheManager(EventCache.CACHE_NAME));
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private ChangeSequence changeSequence;
+
+  @Mock
+  private EventTombstoneRepository eventTombstoneRepository;
+
+  @Mock
+  private EventArchive eventArchive;
+
+  @Mock
+  private EventArchiveRepository eventArchiveRepository;
+
+  @Spy
+  private TimeRangeLimit timeRangeLimit = new TimeRangeLimit(Duration.ofDays(366));
+
   @InjectMocks
   private EventServiceImpl eventService;
 
   private EventDTO eventDTO;
   private EventEntity eventEntity;
   private EventEntity savedEventEntity;
+  private EventView savedEventView;
   private ZoneId zoneId;
   private LocalDateTime localNow;
   private Instant now;
@@ -74,6 +139,7 @@ class EventServiceImplTest {
     savedEventEntity.setLocation("Test Location");
     savedEventEntity.setCreatedAt(now);
     savedEventEntity.setUpdatedAt(now);
+    savedEventView = view(savedEventEntity);
   }
 
   @Test
@@ -122,13 +188,13 @@ class EventServiceImplTest {
 
   @Test
   void getAllEvents_ReturnsListOfEvents() {
-    List<EventEntity> entities = Arrays.asList(savedEventEntity);
+    List<EventView> views = Arrays.asList(savedEventView);
     EventDTO responseDTO = new EventDTO();
     responseDTO.setId(1L);
     responseDTO.setTitle("Test Event");
 
-    when(eventRepository.findAll()).thenReturn(entities);
-    when(eventMapper.toResponseDTO(any(EventEntity.class), any(ZoneId.class))).thenReturn(responseDTO);
+    when(eventRepository.findAllViews()).thenReturn(views);
+    when(eventMapper.toResponseDTO(any(EventView.class), any(ZoneId.class))).thenReturn(responseDTO);
 
     List<EventDTO> result = eventService.getAllEvents(zoneId);
 
@@ -138,20 +204,20 @@ class EventServiceImplTest {
             .getId());
     assertEquals("Test Event", result.get(0)
             .getTitle());
-    verify(eventRepository, times(1)).findAll();
-    verify(eventMapper, times(1)).toResponseDTO(savedEventEntity, zoneId);
+    verify(eventRepository, times(1)).findAllViews();
+    verify(eventMapper, times(1)).toResponseDTO(savedEventView, zoneId);
   }
 
   @Test
   void getAllEvents_WithEmptyList_ReturnsEmptyList() {
-    when(eventRepository.findAll()).thenReturn(Collections.emptyList());
+    when(eventRepository.findAllViews()).thenReturn(Collections.emptyList());
 
     List<EventDTO> result = eventService.getAllEvents(zoneId);
 
     assertNotNull(result);
     assertTrue(result.isEmpty());
-    verify(eventRepository, times(1)).findAll();
-    verify(eventMapper, never()).toResponseDTO(any(EventEntity.class), any(ZoneId.class));
+    verify(eventRepository, times(1)).findAllViews();
+    verify(eventMapper, never()).toResponseDTO(any(EventView.class), any(ZoneId.class));
   }
 
   @Test
@@ -164,7 +230,9 @@ class EventServiceImplTest {
     event2.setId(2L);
     event2.setTitle("Event 2");
 
-    List<EventEntity> entities = Arrays.asList(event1, event2);
+    EventView view1 = view(event1);
+    EventView view2 = view(event2);
+    List<EventView> views = Arrays.asList(view1, view2);
 
     EventDTO dto1 = new EventDTO();
     dto1.setId(1L);
@@ -174,9 +242,9 @@ class EventServiceImplTest {
     dto2.setId(2L);
     dto2.setTitle("Event 2");
 
-    when(eventRepository.findAll()).thenReturn(entities);
-    when(eventMapper.toResponseDTO(event1, zoneId)).thenReturn(dto1);
-    when(eventMapper.toResponseDTO(event2, zoneId)).thenReturn(dto2);
+    when(eventRepository.findAllViews()).thenReturn(views);
+    when(eventMapper.toResponseDTO(view1, zoneId)).thenReturn(dto1);
+    when(eventMapper.toResponseDTO(view2, zoneId)).thenReturn(dto2);
 
     List<EventDTO> result = eventService.getAllEvents(zoneId);
 
@@ -186,8 +254,8 @@ class EventServiceImplTest {
             .getTitle());
     assertEquals("Event 2", result.get(1)
             .getTitle());
-    verify(eventRepository, times(1)).findAll();
-    verify(eventMapper, times(2)).toResponseDTO(any(EventEntity.class), eq(zoneId));
+    verify(eventRepository, times(1)).findAllViews();
+    verify(eventMapper, times(2)).toResponseDTO(any(EventView.class), eq(zoneId));
   }
 
   @Test
@@ -196,29 +264,79 @@ class EventServiceImplTest {
     responseDTO.setId(1L);
     responseDTO.setTitle("Test Event");
 
-    when(eventRepository.findById(1L)).thenReturn(Optional.of(savedEventEntity));
-    when(eventMapper.toResponseDTO(any(EventEntity.class), any(ZoneId.class))).thenReturn(responseDTO);
+    stubVersion(savedEventView);
+    when(eventRepository.findViewById(1L)).thenReturn(Optional.of(savedEventView));
+    when(eventMapper.toResponseDTO(any(EventView.class), any(ZoneId.class))).thenReturn(responseDTO);
 
     EventDTO result = eventService.getEventById(1L, zoneId);
 
     assertNotNull(result);
     assertEquals(1L, result.getId());
     assertEquals("Test Event", result.getTitle());
-    verify(eventRepository, times(1)).findById(1L);
-    verify(eventMapper, times(1)).toResponseDTO(savedEventEntity, zoneId);
+    verify(eventRepository, times(1)).findViewById(1L);
+    verify(eventMapper, times(1)).toResponseDTO(savedEventView, zoneId);
   }
 
   @Test
   void getEventById_WithNonExistingId_ThrowsEventNotFoundException() {
-    when(eventRepository.findById(999L)).thenReturn(Optional.empty());
+    when(eventRepository.findVersionById(999L)).thenReturn(Optional.empty());
+    when(eventArchiveRepository.findVersionById(999L)).thenReturn(Optional.empty());
 
     EventNotFoundException exception = assertThrows(EventNotFoundException.class, () -> {
       eventService.getEventById(999L, zoneId);
     });
 
     assertEquals("Event with id 999 not found", exception.getMessage());
-    verify(eventRepository, times(1)).findById(999L);
-    verify(eventMapper, never()).toResponseDTO(any(EventEntity.class), any(ZoneId.class));
+    verify(eventRepository, never()).findViewById(999L);
+    verify(eventMapper, never()).toResponseDTO(any(EventView.class), any(ZoneId.class));
+  }
+
+  @Test
+  void getEventById_WithArchivedEvent_ReadsArchive() {
+    EventDTO responseDTO = new EventDTO();
+    responseDTO.setId(1L);
+
+    when(eventRepository.findVersionById(1L)).thenReturn(Optional.empty());
+    when(eventArchiveRepository.findVersionById(1L)).thenReturn(Optional.of(new EventVersion(
+            savedEventView.getVersion(), now)));
+    when(eventRepository.findViewById(1L)).thenReturn(Optional.empty());
+    when(eventArchiveRepository.findViewById(1L)).thenReturn(Optional.of(savedEventView));
+    when(eventMapper.toResponseDTO(savedEventView, zoneId)).thenReturn(responseDTO);
+
+    assertSame(responseDTO, eventService.getEventById(1L, zoneId));
+  }
+
+  @Test
+  void getEventsInRange_WindowBeforeHorizon_MergesArchivedEventsInStartOrder() {
+    Instant from = Instant.parse("2020-01-01T00:00:00Z");
+    Instant to = Instant.parse("2020-02-01T00:00:00Z");
+    EventDTO recent = new EventDTO();
+    recent.setId(1L);
+    recent.setStartDateTime(LocalDateTime.of(2020, 1, 20, 9, 0));
+    EventView archivedView = mock(EventView.class);
+    EventDTO archived = new EventDTO();
+    archived.setId(2L);
+    archived.setStartDateTime(LocalDateTime.of(2020, 1, 10, 9, 0));
+
+    when(eventRepository.findOverlapping(from, to)).thenReturn(List.of(savedEventView));
+    when(eventArchive.reaches(from)).thenReturn(true);
+    when(eventArchiveRepository.findOverlapping(from, to)).thenReturn(List.of(archivedView));
+    when(eventMapper.toResponseDTO(savedEventView, zoneId)).thenReturn(recent);
+    when(eventMapper.toResponseDTO(archivedView, zoneId)).thenReturn(archived);
+
+    List<EventDTO> result = eventService.getEventsInRange(LocalDateTime.of(2020, 1, 1, 0, 0),
+            LocalDateTime.of(2020, 2, 1, 0, 0), zoneId);
+
+    assertEquals(List.of(archived, recent), result);
+  }
+
+  @Test
+  void getEventsInRange_WindowAfterHorizon_SkipsArchive() {
+    when(eventArchive.reaches(any(Instant.class))).thenReturn(false);
+
+    eventService.getEventsInRange(localNow, localNow.plusDays(1), zoneId);
+
+    verifyNoInteractions(eventArchiveRepository);
   }
 
   @Test
@@ -227,13 +345,14 @@ class EventServiceImplTest {
     EventDTO responseDTO = new EventDTO();
     responseDTO.setId(1L);
 
-    when(eventRepository.findById(1L)).thenReturn(Optional.of(savedEventEntity));
-    when(eventMapper.toResponseDTO(savedEventEntity, newYork)).thenReturn(responseDTO);
+    stubVersion(savedEventView);
+    when(eventRepository.findViewById(1L)).thenReturn(Optional.of(savedEventView));
+    when(eventMapper.toResponseDTO(savedEventView, newYork)).thenReturn(responseDTO);
 
     EventDTO result = eventService.getEventById(1L, newYork);
 
     assertNotNull(result);
-    verify(eventMapper, times(1)).toResponseDTO(savedEventEntity, newYork);
+    verify(eventMapper, times(1)).toResponseDTO(savedEventView, newYork);
   }
 
   @Test
@@ -264,36 +383,57 @@ class EventServiceImplTest {
             .plusHours(3));
     responseDTO.setLocation("Updated Location");
 
-    when(eventRepository.findById(1L)).thenReturn(Optional.of(savedEventEntity));
-    when(eventRepository.save(any(EventEntity.class))).thenReturn(updatedEntity);
+    when(eventMapper.toEntity(updateDTO, zoneId)).thenReturn(updatedEntity);
+    when(eventRepository.updateIfVersion(updatedEntity, null)).thenReturn(1);
     when(eventMapper.toResponseDTO(any(EventEntity.class), any(ZoneId.class))).thenReturn(responseDTO);
 
-    EventDTO result = eventService.updateEvent(1L, updateDTO, zoneId);
+    EventDTO result = eventService.updateEvent(1L, updateDTO, null, zoneId);
 
     assertNotNull(result);
     assertEquals(1L, result.getId());
     assertEquals("Updated Title", result.getTitle());
     assertEquals("Updated Description", result.getDescription());
     assertEquals("Updated Location", result.getLocation());
-    verify(eventRepository, times(1)).findById(1L);
-    verify(eventRepository, times(1)).save(any(EventEntity.class));
+    assertNotNull(updatedEntity.getUpdatedAt());
+    verify(eventRepository, never()).findById(any());
+    verify(eventRepository, never()).save(any(EventEntity.class));
     verify(eventMapper, times(1)).toResponseDTO(any(EventEntity.class), eq(zoneId));
   }
 
   @Test
   void updateEvent_WithNonExistingId_ThrowsEventNotFoundException() {
-    when(eventRepository.findById(999L)).thenReturn(Optional.empty());
+    when(eventMapper.toEntity(eventDTO, zoneId)).thenReturn(eventEntity);
+    when(eventRepository.updateIfVersion(eventEntity, null)).thenReturn(0);
 
     EventNotFoundException exception = assertThrows(EventNotFoundException.class, () -> {
-      eventService.getEventById(999L, zoneId);
+      eventService.updateEvent(999L, eventDTO, null, zoneId);
     });
 
     assertEquals("Event with id 999 not found", exception.getMessage());
-    verify(eventRepository, times(1)).findById(999L);
-    verify(eventRepository, never()).save(any(EventEntity.class));
+    verify(eventRepository, never()).existsById(any());
+    verify(eventPublisher, never()).publishEvent(any());
     verify(eventMapper, never()).toResponseDTO(any(EventEntity.class), any(ZoneId.class));
   }
 
+  @Test
+  void updateEvent_WithStaleVersion_ThrowsEventVersionMismatchException() {
+    when(eventMapper.toEntity(eventDTO, zoneId)).thenReturn(eventEntity);
+    when(eventRepository.updateIfVersion(eventEntity, 3L)).thenReturn(0);
+    when(eventRepository.existsById(1L)).thenReturn(true);
+
+    assertThrows(EventVersionMismatchException.class, () -> eventService.updateEvent(1L, eventDTO, 3L, zoneId));
+    verify(eventPublisher, never()).publishEvent(any());
+  }
+
+  @Test
+  void updateEvent_WithVersionOfMissingEvent_ThrowsEventNotFoundException() {
+    when(eventMapper.toEntity(eventDTO, zoneId)).thenReturn(eventEntity);
+    when(eventRepository.updateIfVersion(eventEntity, 3L)).thenReturn(0);
+    when(eventRepository.existsById(999L)).thenReturn(false);
+
+    assertThrows(EventNotFoundException.class, () -> eventService.updateEvent(999L, eventDTO, 3L, zoneId));
+  }
+
   @Test
   void updateEvent_WithDifferentTimezone_ConvertsDateTimesCorrectly() {
     ZoneId paris = ZoneId.of("Europe/Paris");
@@ -308,11 +448,11 @@ class EventServiceImplTest {
     responseDTO.setId(1L);
     responseDTO.setTitle("Paris Event");
 
-    when(eventRepository.findById(1L)).thenReturn(Optional.of(savedEventEntity));
-    when(eventRepository.save(any(EventEntity.class))).thenReturn(savedEventEntity);
+    when(eventMapper.toEntity(updateDTO, paris)).thenReturn(eventEntity);
+    when(eventRepository.updateIfVersion(eventEntity, null)).thenReturn(1);
     when(eventMapper.toResponseDTO(any(EventEntity.class), eq(paris))).thenReturn(responseDTO);
 
-    EventDTO result = eventService.updateEvent(1L, updateDTO, paris);
+    EventDTO result = eventService.updateEvent(1L, updateDTO, null, paris);
 
     assertNotNull(result);
     verify(eventMapper, times(1)).toResponseDTO(any(EventEntity.class), eq(paris));
@@ -320,39 +460,35 @@ class EventServiceImplTest {
 
   @Test
   void deleteEvent_WithExistingId_DeletesEvent() {
-    when(eventRepository.findById(1L)).thenReturn(Optional.of(savedEventEntity));
-    doNothing().when(eventRepository)
-            .delete(any(EventEntity.class));
+    when(eventRepository.deleteIfVersion(1L, null)).thenReturn(1);
 
-    eventService.deleteEvent(1L);
+    eventService.deleteEvent(1L, null);
 
-    verify(eventRepository, times(1)).findById(1L);
-    verify(eventRepository, times(1)).delete(savedEventEntity);
+    verify(eventRepository, times(1)).deleteIfVersion(1L, null);
+    verify(eventRepository, never()).findById(any());
+    verify(eventRepository, never()).delete(any(EventEntity.class));
   }
 
   @Test
   void deleteEvent_WithNonExistingId_ThrowsEventNotFoundException() {
-    when(eventRepository.findById(999L)).thenReturn(Optional.empty());
+    when(eventRepository.deleteIfVersion(999L, null)).thenReturn(0);
 
     EventNotFoundException exception = assertThrows(EventNotFoundException.class, () -> {
-      eventService.getEventById(999L, zoneId);
+      eventService.deleteEvent(999L, null);
     });
 
     assertEquals("Event with id 999 not found", exception.getMessage());
-    verify(eventRepository, times(1)).findById(999L);
-    verify(eventRepository, never()).delete(any(EventEntity.class));
+    verify(eventTombstoneRepository, never()).save(any(EventTombstoneEntity.class));
+    verify(eventPublisher, never()).publishEvent(any());
   }
 
   @Test
-  void deleteEvent_VerifiesEventExistsBeforeDeleting() {
-    when(eventRepository.findById(1L)).thenReturn(Optional.of(savedEventEntity));
-    doNothing().when(eventRepository)
-            .delete(savedEventEntity);
+  void deleteEvent_WithStaleVersion_ThrowsEventVersionMismatchException() {
+    when(eventRepository.deleteIfVersion(1L, 2L)).thenReturn(0);
+    when(eventRepository.existsById(1L)).thenReturn(true);
 
-    eventService.deleteEvent(1L);
-
-    verify(eventRepository, times(1)).findById(1L);
-    verify(eventRepository, times(1)).delete(savedEventEntity);
+    assertThrows(EventVersionMismatchException.class, () -> eventService.deleteEvent(1L, 2L));
+    verify(eventTombstoneRepository, never()).save(any(EventTombstoneEntity.class));
   }
 
   @Test
@@ -373,16 +509,458 @@ class EventServiceImplTest {
   @Test
   void getAllEvents_WithSpecificTimezone_MapsCorrectly() {
     ZoneId sydney = ZoneId.of("Australia/Sydney");
-    List<EventEntity> entities = Arrays.asList(savedEventEntity);
+    List<EventView> views = Arrays.asList(savedEventView);
     EventDTO responseDTO = new EventDTO();
     responseDTO.setId(1L);
 
-    when(eventRepository.findAll()).thenReturn(entities);
-    when(eventMapper.toResponseDTO(savedEventEntity, sydney)).thenReturn(responseDTO);
+    when(eventRepository.findAllViews()).thenReturn(views);
+    when(eventMapper.toResponseDTO(savedEventView, sydney)).thenReturn(responseDTO);
 
     List<EventDTO> result = eventService.getAllEvents(sydney);
 
     assertNotNull(result);
-    verify(eventMapper, times(1)).toResponseDTO(savedEventEntity, sydney);
+    verify(eventMapper, times(1)).toResponseDTO(savedEventView, sydney);
+  }
+
+  @Test
+  void getEventsInRange_QueriesOverlappingEventsInCallerTimezone() {
+    ZoneId berlin = ZoneId.of("Europe/Berlin");
+    LocalDateTime from = LocalDateTime.of(2024, 12, 1, 0, 0);
+    LocalDateTime to = LocalDateTime.of(2025, 1, 1, 0, 0);
+    EventDTO responseDTO = new EventDTO();
+    responseDTO.setId(1L);
+
+    when(eventRepository.findOverlapping(Instant.parse("2024-11-30T23:00:00Z"), Instant.parse("2024-12-31T23:00:00Z")))
+            .thenReturn(List.of(savedEventView));
+    when(eventMapper.toResponseDTO(savedEventView, berlin)).thenReturn(responseDTO);
+
+    List<EventDTO> result = eventService.getEventsInRange(from, to, berlin);
+
+    assertEquals(1, result.size());
+    verify(eventRepository, never()).findAllViews();
+  }
+
+  @Test
+  void getEventsInRange_ExpandsRecurringSeriesInsideWindow() {
+    EventEntity series = new EventEntity();
+    series.setId(2L);
+    series.setStartDateTime(Instant.parse("2020-01-01T09:00:00Z"));
+    series.setEndDateTime(Instant.parse("2020-01-01T10:00:00Z"));
+    series.setRecurrenceRule("FREQ=DAILY");
+    series.setTimeZone("UTC");
+    Instant from = Instant.parse("2024-12-01T00:00:00Z");
+    Instant to = Instant.parse("2024-12-04T00:00:00Z");
+    EventView seriesView = view(series);
+    when(eventRepository.findRecurringOverlapping(from, to)).thenReturn(List.of(seriesView));
+    when(eventMapper.toOccurrenceDTO(eq(seriesView), any(Instant.class), any(Instant.class), eq(zoneId)))
+            .thenAnswer(invocation -> {
+              EventDTO occurrence = new EventDTO();
+              occurrence.setId(2L);
+              occurrence.setStartDateTime(LocalDateTime.ofInstant(invocation.getArgument(1), zoneId));
+              return occurrence;
+            });
+
+    List<EventDTO> result = eventService.getEventsInRange(LocalDateTime.of(2024, 12, 1, 0, 0),
+            LocalDateTime.of(2024, 12, 4, 0, 0), zoneId);
+
+    assertEquals(List.of(LocalDateTime.of(2024, 12, 1, 9, 0), LocalDateTime.of(2024, 12, 2, 9, 0),
+            LocalDateTime.of(2024, 12, 3, 9, 0)), result.stream()
+            .map(EventDTO::getStartDateTime)
+            .toList());
+  }
+
+  @Test
+  void getEventsInRange_WithEmptyRange_ThrowsInvalidTimeRangeException() {
+    LocalDateTime from = LocalDateTime.of(2024, 12, 1, 0, 0);
+
+    assertThrows(InvalidTimeRangeException.class, () -> eventService.getEventsInRange(from, from, zoneId));
+    assertThrows(InvalidTimeRangeException.class, () -> eventService.getEventsInRange(from, from.minusDays(1), zoneId));
+    verify(eventRepository, never()).findOverlapping(any(Instant.class), any(Instant.class));
+  }
+
+  @Test
+  void getEventsInRange_WindowLongerThanTheLimit_ThrowsInvalidTimeRangeException() {
+    LocalDateTime from = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    assertThrows(InvalidTimeRangeException.class, () -> eventService.getEventsInRange(from, LocalDateTime.of(9999, 1,
+            1, 0, 0), zoneId));
+    assertThrows(InvalidTimeRangeException.class, () -> eventService.getFreeBusy(from, from.plusDays(367), zoneId));
+    assertThrows(InvalidTimeRangeException.class, () -> eventService.getConflicts(from, from.plusDays(367), zoneId));
+    verify(eventRepository, never()).findOverlapping(any(Instant.class), any(Instant.class));
+    verifyNoInteractions(eventIntervalIndex, eventConflictDetector);
+  }
+
+  @Test
+  void findFreeSlots_DurationLongerThanTheWorkingHours_ThrowsBeforeSearching() {
+    LocalDateTime from = LocalDateTime.of(2024, 12, 2, 0, 0);
+    WorkingHours workingHours = WorkingHours.parse("09:00-17:00", "MON-FRI");
+
+    assertThrows(InvalidWorkingHoursException.class, () -> eventService.findFreeSlots(from, from.plusDays(30),
+            Duration.ofHours(9), workingHours, 5, zoneId));
+    assertThrows(InvalidTimeRangeException.class, () -> eventService.findFreeSlots(from, from.plusYears(10),
+            Duration.ofHours(1), workingHours, 5, zoneId));
+    verifyNoInteractions(eventIntervalIndex);
+  }
+
+  @Test
+  void getEventsPage_WithMoreRows_ReturnsCursorOfLastItem() {
+    EventEntity second = new EventEntity();
+    second.setId(2L);
+    second.setStartDateTime(now.plus(1, ChronoUnit.HOURS));
+    EventEntity third = new EventEntity();
+    third.setId(3L);
+    third.setStartDateTime(now.plus(2, ChronoUnit.HOURS));
+
+    EventView thirdView = view(third);
+    when(eventRepository.findFirstPage(Limit.of(3))).thenReturn(List.of(savedEventView, view(second), thirdView));
+    when(eventMapper.toResponseDTO(any(EventView.class), eq(zoneId))).thenReturn(new EventDTO());
+
+    EventPageDTO page = eventService.getEventsPage(null, 2, zoneId);
+
+    assertEquals(2, page.getItems()
+            .size());
+    assertNotNull(page.getNextCursor());
+    verify(eventMapper, never()).toResponseDTO(thirdView, zoneId);
+
+    when(eventRepository.findPageAfter(second.getStartDateTime(), 2L, Limit.of(3))).thenReturn(List.of(thirdView));
+
+    EventPageDTO next = eventService.getEventsPage(page.getNextCursor(), 2, zoneId);
+
+    assertEquals(1, next.getItems()
+            .size());
+    assertNull(next.getNextCursor());
+  }
+
+  @Test
+  void getEventsPage_ClampsPageSize() {
+    when(eventRepository.findFirstPage(any(Limit.class))).thenReturn(Collections.emptyList());
+
+    eventService.getEventsPage(null, 100_000, zoneId);
+    eventService.getEventsPage(null, 0, zoneId);
+
+    verify(eventRepository).findFirstPage(Limit.of(EventServiceImpl.MAX_PAGE_SIZE + 1));
+    verify(eventRepository).findFirstPage(Limit.of(2));
+  }
+
+  @Test
+  void getEventsPage_WithMalformedCursor_ThrowsInvalidCursorException() {
+    assertThrows(InvalidCursorException.class, () -> eventService.getEventsPage("not-a-cursor", 10, zoneId));
+    verify(eventRepository, never()).findPageAfter(any(Instant.class), any(Long.class), any(Limit.class));
+  }
+
+  @Test
+  void exportEvents_DetachesEachEntityAfterHandingItOff() {
+    EventDTO responseDTO = new EventDTO();
+    responseDTO.setId(1L);
+    List<EventDTO> exported = new ArrayList<>();
+
+    when(eventRepository.streamAll()).thenReturn(Stream.of(savedEventEntity));
+    when(eventMapper.toResponseDTO(savedEventEntity, zoneId)).thenReturn(responseDTO);
+
+    eventService.exportEvents(zoneId, exported::add);
+
+    assertEquals(List.of(responseDTO), exported);
+    verify(entityManager, times(1)).detach(savedEventEntity);
+    verify(eventRepository, never()).findAllViews();
+  }
+
+  @Test
+  void createEvent_PublishesSavedInterval() {
+    when(eventMapper.toEntity(eventDTO, zoneId)).thenReturn(eventEntity);
+    when(eventRepository.save(eventEntity)).thenReturn(savedEventEntity);
+
+    eventService.createEvent(eventDTO, zoneId);
+
+    ArgumentCaptor<EventChange> change = ArgumentCaptor.forClass(EventChange.class);
+    verify(eventPublisher).publishEvent(change.capture());
+    assertEquals(1L, change.getValue()
+            .getId());
+    assertEquals(savedEventEntity.getStartDateTime(), change.getValue()
+            .getStartDateTime());
+    assertFalse(change.getValue()
+            .isDeleted());
+  }
+
+  @Test
+  void deleteEvent_PublishesDeletion() {
+    when(eventRepository.deleteIfVersion(1L, null)).thenReturn(1);
+
+    eventService.deleteEvent(1L, null);
+
+    ArgumentCaptor<EventChange> change = ArgumentCaptor.forClass(EventChange.class);
+    verify(eventPublisher).publishEvent(change.capture());
+    assertTrue(change.getValue()
+            .isDeleted());
+  }
+
+  @Test
+  void getEventsAt_LooksUpIdsInIntervalIndex() {
+    LocalDateTime at = LocalDateTime.of(2024, 12, 1, 10, 0);
+    EventDTO responseDTO = new EventDTO();
+    responseDTO.setId(1L);
+
+    when(eventIntervalIndex.findContaining(Instant.parse("2024-12-01T10:00:00Z"))).thenReturn(List.of(1L));
+    when(eventRepository.findViewsById(List.of(1L))).thenReturn(List.of(savedEventView));
+    when(eventMapper.toResponseDTO(savedEventView, zoneId)).thenReturn(responseDTO);
+
+    List<EventDTO> result = eventService.getEventsAt(at, zoneId);
+
+    assertEquals(List.of(responseDTO), result);
+    verify(eventRepository, never()).findOverlapping(any(Instant.class), any(Instant.class));
+  }
+
+  @Test
+  void getFreeBusy_ReturnsMergedBlocksInCallerZone() {
+    ZoneId berlin = ZoneId.of("Europe/Berlin");
+    Instant from = Instant.parse("2024-12-01T09:00:00Z");
+    doAnswer(invocation -> {
+      IntervalConsumer consumer = invocation.getArgument(2);
+      consumer.accept(1L, from.toEpochMilli(), from.plus(1, ChronoUnit.HOURS)
+              .toEpochMilli());
+      consumer.accept(2L, from.plus(30, ChronoUnit.MINUTES)
+              .toEpochMilli(), from.plus(2, ChronoUnit.HOURS)
+              .toEpochMilli());
+      return null;
+    }).when(eventIntervalIndex)
+            .forEachOverlapping(eq(from), eq(Instant.parse("2024-12-02T09:00:00Z")), any(IntervalConsumer.class));
+
+    List<EventBusyIntervalDTO> result = eventService.getFreeBusy(LocalDateTime.of(2024, 12, 1, 10, 0),
+            LocalDateTime.of(2024, 12, 2, 10, 0), berlin);
+
+    assertEquals(List.of(new EventBusyIntervalDTO(LocalDateTime.of(2024, 12, 1, 10, 0),
+            LocalDateTime.of(2024, 12, 1, 12, 0))), result);
+    verifyNoInteractions(eventRepository);
+  }
+
+  @Test
+  void createEvent_WithOverlappingEvents_FlagsConflicts() {
+    EventDTO responseDTO = new EventDTO();
+    responseDTO.setId(1L);
+
+    when(eventMapper.toEntity(eventDTO, zoneId)).thenReturn(eventEntity);
+    when(eventConflictDetector.check(null, eventEntity))
+            .thenReturn(List.of(5L, 7L));
+    when(eventRepository.save(eventEntity)).thenReturn(savedEventEntity);
+    when(eventMapper.toResponseDTO(savedEventEntity, zoneId)).thenReturn(responseDTO);
+
+    EventDTO result = eventService.createEvent(eventDTO, zoneId);
+
+    assertEquals(List.of(5L, 7L), result.getConflictingEventIds());
+  }
+
+  @Test
+  void createEvent_WhenConflictRejected_DoesNotSave() {
+    when(eventMapper.toEntity(eventDTO, zoneId)).thenReturn(eventEntity);
+    when(eventConflictDetector.check(null, eventEntity))
+            .thenThrow(new EventConflictException(List.of(5L)));
+
+    assertThrows(EventConflictException.class, () -> eventService.createEvent(eventDTO, zoneId));
+    verify(eventRepository, never()).save(any(EventEntity.class));
+    verify(eventPublisher, never()).publishEvent(any());
+  }
+
+  @Test
+  void updateEvent_ExcludesItselfFromConflictCheck() {
+    when(eventMapper.toEntity(eventDTO, zoneId)).thenReturn(eventEntity);
+    when(eventRepository.updateIfVersion(eventEntity, null)).thenReturn(1);
+
+    eventService.updateEvent(1L, eventDTO, null, zoneId);
+
+    verify(eventConflictDetector).check(1L, eventEntity);
+    assertEquals(1L, eventEntity.getId());
+  }
+
+  @Test
+  void updateEvent_ChecksConflictsBeforeTakingTheChangeSequence() {
+    when(eventMapper.toEntity(eventDTO, zoneId)).thenReturn(eventEntity);
+    when(eventRepository.updateIfVersion(eventEntity, null)).thenReturn(1);
+
+    eventService.updateEvent(1L, eventDTO, null, zoneId);
+
+    InOrder order = inOrder(eventConflictDetector, changeSequence, eventRepository);
+    order.verify(eventConflictDetector)
+            .check(1L, eventEntity);
+    order.verify(changeSequence)
+            .next();
+    order.verify(eventRepository)
+            .updateIfVersion(eventEntity, null);
+  }
+
+  @Test
+  void updateEvent_WhenConflictRejected_DoesNotUpdate() {
+    when(eventMapper.toEntity(eventDTO, zoneId)).thenReturn(eventEntity);
+    when(eventConflictDetector.check(1L, eventEntity)).thenThrow(new EventConflictException(List.of(5L)));
+
+    assertThrows(EventConflictException.class, () -> eventService.updateEvent(1L, eventDTO, null, zoneId));
+    verify(eventRepository, never()).updateIfVersion(any(), any());
+    verifyNoInteractions(changeSequence, eventPublisher);
+  }
+
+  @Test
+  void getEventById_ServesRepeatedLookupsFromCache() {
+    stubVersion(savedEventView);
+    when(eventRepository.findViewById(1L)).thenReturn(Optional.of(savedEventView));
+
+    eventService.getEventById(1L, zoneId);
+    eventService.getEventById(1L, ZoneId.of("Asia/Tokyo"));
+
+    verify(eventRepository, times(1)).findViewById(1L);
+    verifyNoInteractions(entityManager);
+    verify(eventMapper, times(1)).toResponseDTO(savedEventView, ZoneId.of("Asia/Tokyo"));
+  }
+
+  @Test
+  void getEventById_AfterCommittedChange_ReloadsEvent() {
+    stubVersion(savedEventView);
+    when(eventRepository.findViewById(1L)).thenReturn(Optional.of(savedEventView));
+
+    eventService.getEventById(1L, zoneId);
+    eventCache.onEventChange(EventChange.deleted(1L));
+    eventService.getEventById(1L, zoneId);
+
+    verify(eventRepository, times(2)).findViewById(1L);
+  }
+
+  @Test
+  void getEventById_WithMissingEvent_DoesNotCacheAbsence() {
+    when(eventRepository.findViewById(1L)).thenReturn(Optional.empty())
+            .thenReturn(Optional.of(savedEventView));
+
+    assertThrows(EventNotFoundException.class, () -> eventService.getEventById(1L, savedEventView.getVersion(),
+            zoneId));
+    eventService.getEventById(1L, savedEventView.getVersion(), zoneId);
+
+    verify(eventRepository, times(2)).findViewById(1L);
+  }
+
+  // Another instance updated the event: nothing evicted the entry here, but the version read from the table moved on.
+  @Test
+  void getEventById_CachedCopyAtAnOlderVersion_Reloads() {
+    EventView updated = new EventView(1L, "Moved elsewhere", null, now, now.plus(2, ChronoUnit.HOURS), null, 2L, null,
+            null, null, null, savedEventView.getVersion() + 1, now, now);
+    when(eventRepository.findViewById(1L)).thenReturn(Optional.of(savedEventView))
+            .thenReturn(Optional.of(updated));
+
+    eventService.getEventById(1L, savedEventView.getVersion(), zoneId);
+    eventService.getEventById(1L, updated.getVersion(), zoneId);
+    eventService.getEventById(1L, updated.getVersion(), zoneId);
+
+    verify(eventRepository, times(2)).findViewById(1L);
+    verify(eventMapper).toResponseDTO(savedEventView, zoneId);
+    verify(eventMapper, times(2)).toResponseDTO(updated, zoneId);
+  }
+
+  @Test
+  void getEventVersion_ReadsTheTableNotTheCache() {
+    stubVersion(savedEventView);
+    when(eventRepository.findViewById(1L)).thenReturn(Optional.of(savedEventView));
+
+    eventService.getEventById(1L, zoneId);
+    EventVersion version = eventService.getEventVersion(1L);
+
+    assertEquals(now, version.getLastModified());
+    assertEquals(savedEventView.getVersion(), version.getVersion());
+    verify(eventRepository, times(2)).findVersionById(1L);
+    verify(eventRepository, times(1)).findViewById(1L);
+  }
+
+  @Test
+  void getEventsVersion_WithWindow_QueriesWindowAggregate() {
+    EventCollectionVersion version = new EventCollectionVersion(3, now);
+    when(eventRepository.findCollectionVersion(Instant.parse("2024-12-01T00:00:00Z"), Instant.parse("2025-01-01T00:00:00Z")))
+            .thenReturn(version);
+
+    EventCollectionVersion result = eventService.getEventsVersion(LocalDateTime.of(2024, 12, 1, 0, 0),
+            LocalDateTime.of(2025, 1, 1, 0, 0), zoneId);
+
+    assertSame(version, result);
+    verify(eventRepository, never()).findCollectionVersion();
+  }
+
+  @Test
+  void createEvent_StampsNextChangeSequence() {
+    when(eventMapper.toEntity(any(EventDTO.class), any(ZoneId.class))).thenReturn(eventEntity);
+    when(changeSequence.next()).thenReturn(42L);
+    when(eventRepository.save(any(EventEntity.class))).thenReturn(savedEventEntity);
+
+    eventService.createEvent(eventDTO, zoneId);
+
+    assertEquals(42L, eventEntity.getChangeSeq());
+  }
+
+  @Test
+  void deleteEvent_WritesTombstone() {
+    when(eventRepository.deleteIfVersion(1L, null)).thenReturn(1);
+    when(changeSequence.next()).thenReturn(7L);
+
+    eventService.deleteEvent(1L, null);
+
+    ArgumentCaptor<EventTombstoneEntity> captor = ArgumentCaptor.forClass(EventTombstoneEntity.class);
+    verify(eventTombstoneRepository).save(captor.capture());
+    assertEquals(1L, captor.getValue().getEventId());
+    assertEquals(7L, captor.getValue().getChangeSeq());
+  }
+
+  @Test
+  void syncEvents_WithoutToken_SkipsTombstones() {
+    savedEventEntity.setChangeSeq(3L);
+    when(eventRepository.findByChangeSeqGreaterThanOrderByChangeSeq(0L, Limit.of(11)))
+            .thenReturn(List.of(view(savedEventEntity)));
+
+    EventSyncDTO result = eventService.syncEvents(null, 10, zoneId);
+
+    assertEquals(1, result.getChanged().size());
+    assertTrue(result.getDeleted().isEmpty());
+    assertFalse(result.isHasMore());
+    assertEquals(3L, SyncToken.decode(result.getNextToken()));
+    verifyNoInteractions(eventTombstoneRepository);
+  }
+
+  @Test
+  void syncEvents_MergesChangesAndTombstonesInSequenceOrder() {
+    EventEntity second = new EventEntity();
+    second.setId(2L);
+    second.setChangeSeq(13L);
+    savedEventEntity.setChangeSeq(11L);
+    when(eventRepository.findByChangeSeqGreaterThanOrderByChangeSeq(10L, Limit.of(3)))
+            .thenReturn(List.of(view(savedEventEntity), view(second)));
+    when(eventTombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeq(10L, Limit.of(3)))
+            .thenReturn(List.of(new EventTombstoneEntity(5L, 12L)));
+    when(eventMapper.toResponseDTO(any(EventView.class), eq(zoneId))).thenReturn(new EventDTO());
+
+    EventSyncDTO result = eventService.syncEvents(SyncToken.encode(10L), 2, zoneId);
+
+    assertEquals(1, result.getChanged().size());
+    assertEquals(List.of(5L), result.getDeleted());
+    assertTrue(result.isHasMore());
+    assertEquals(12L, SyncToken.decode(result.getNextToken()));
+  }
+
+  @Test
+  void syncEvents_WithNoChanges_KeepsToken() {
+    String token = SyncToken.encode(20L);
+
+    EventSyncDTO result = eventService.syncEvents(token, 50, zoneId);
+
+    assertTrue(result.getChanged().isEmpty());
+    assertFalse(result.isHasMore());
+    assertEquals(token, result.getNextToken());
+  }
+
+  @Test
+  void syncEvents_WithMalformedToken_ThrowsInvalidCursorException() {
+    assertThrows(InvalidCursorException.class, () -> eventService.syncEvents("not-a-token", 10, zoneId));
+  }
+
+  private void stubVersion(EventView view) {
+    when(eventRepository.findVersionById(view.getId())).thenReturn(Optional.of(new EventVersion(view.getVersion(),
+            view.getUpdatedAt() != null ? view.getUpdatedAt() : view.getCreatedAt())));
+  }
+
+  private static EventView view(EventEntity entity) {
+    return new EventView(entity.getId(), entity.getTitle(), entity.getDescription(), entity.getStartDateTime(),
+            entity.getEndDateTime(), entity.getLocation(), entity.getChangeSeq(), entity.getRecurrenceRule(),
+            entity.getRecurrenceExceptions(), entity.getTimeZone(), entity.getRecurrenceEnd(), entity.getVersion(),
+            entity.getCreatedAt(), entity.getUpdatedAt());
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,253 @@
+package com.event_calendar.service.impl;
+
+import com.event_calendar.dto.EventBatchRequestDTO;
+import com.event_calendar.dto.EventDTO;
+import com.event_calendar.dto.EventPageDTO;
+import com.event_calendar.dto.EventSyncDTO;
+import com.event_calendar.exception.EventNotFoundException;
+import com.event_calendar.exception.EventVersionMismatchException;
+import com.event_calendar.service.EventService;
+import com.event_calendar.service.freebusy.WorkingHours;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static com.event_calendar.config.SqlStatementAssertions.assertStatementCount;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pins the number of SQL statements each {@link EventService} method sends. Counts must not depend on how many events
+ * are stored or returned. Reads without a window, or with one starting before the archive horizon, send one more
+ * statement for the archive.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("h2")
+class EventServiceStatementCountTest {
+
+  private static final ZoneId ZONE = ZoneId.of("UTC");
+  private static final AtomicLong NEXT_DAY = new AtomicLong();
+
+  @Autowired
+  private EventService eventService;
+
+  @Test
+  void createEvent() {
+    assertStatementCount(3, () -> eventService.createEvent(event(), ZONE));
+  }
+
+  @Test
+  void applyBatch_StatementsDoNotGrowWithBatchSize() {
+    assertStatementCount(3, () -> eventService.applyBatch(new EventBatchRequestDTO(events(1), null, null), ZONE));
+    assertStatementCount(3, () -> eventService.applyBatch(new EventBatchRequestDTO(events(20), null, null), ZONE));
+  }
+
+  @Test
+  void importEvents() {
+    String ics = """
+            BEGIN:VCALENDAR
+            BEGIN:VEVENT
+            UID:statement-count-1
+            SUMMARY:Imported
+            DTSTART:20300101T100000Z
+            DTEND:20300101T110000Z
+            END:VEVENT
+            END:VCALENDAR
+            """;
+
+    assertStatementCount(3, () -> eventService.importEvents(new StringReader(ics), ZONE));
+  }
+
+  @Test
+  void getAllEvents_StatementsDoNotGrowWithEvents() {
+    seed(20);
+
+    List<EventDTO> events = assertStatementCount(2, () -> eventService.getAllEvents(ZONE));
+
+    assertTrue(events.size() >= 20);
+  }
+
+  @Test
+  void getEventsInRange() {
+    seed(20);
+
+    assertStatementCount(3, () -> eventService.getEventsInRange(LocalDateTime.of(2025, 1, 1, 0, 0),
+            LocalDateTime.of(2026, 1, 1, 0, 0), ZONE));
+  }
+
+  @Test
+  void getEventsInRange_RecentWindowSkipsArchive() {
+    seed(20);
+
+    assertStatementCount(2, () -> eventService.getEventsInRange(LocalDateTime.of(2030, 1, 1, 0, 0),
+            LocalDateTime.of(2031, 1, 1, 0, 0), ZONE));
+    assertStatementCount(1, () -> eventService.getEventsVersion(LocalDateTime.of(2030, 1, 1, 0, 0),
+            LocalDateTime.of(2100, 1, 1, 0, 0), ZONE));
+  }
+
+  @Test
+  void getEventsVersion() {
+    assertStatementCount(2, () -> eventService.getEventsVersion(null, null, ZONE));
+    assertStatementCount(2, () -> eventService.getEventsVersion(LocalDateTime.of(2000, 1, 1, 0, 0),
+            LocalDateTime.of(2100, 1, 1, 0, 0), ZONE));
+  }
+
+  @Test
+  void getEventsPage() {
+    seed(5);
+
+    EventPageDTO first = assertStatementCount(2, () -> eventService.getEventsPage(null, 2, ZONE));
+    // The cursor is past the archive horizon, so later pages only read the event table.
+    assertStatementCount(1, () -> eventService.getEventsPage(first.getNextCursor(), 2, ZONE));
+  }
+
+  @Test
+  void syncEvents() {
+    seed(5);
+
+    // The initial sync has no deletions to report, so only an incremental one reads tombstones.
+    EventSyncDTO initial = assertStatementCount(2, () -> eventService.syncEvents(null, 100, ZONE));
+    eventService.deleteEvent(seed(1).get(0)
+            .getId(), null);
+    assertStatementCount(3, () -> eventService.syncEvents(initial.getNextToken(), 100, ZONE));
+  }
+
+  @Test
+  void getEventsAt() {
+    EventDTO event = seed(1).get(0);
+
+    assertStatementCount(1, () -> eventService.getEventsAt(event.getStartDateTime()
+            .plusMinutes(10), ZONE));
+  }
+
+  @Test
+  void getConflicts() {
+    seed(5);
+
+    assertStatementCount(0, () -> eventService.getConflicts(LocalDateTime.of(2030, 1, 1, 0, 0),
+            LocalDateTime.of(2031, 1, 1, 0, 0), ZONE));
+  }
+
+  @Test
+  void getFreeBusy() {
+    seed(5);
+
+    assertStatementCount(0, () -> eventService.getFreeBusy(LocalDateTime.of(2030, 1, 1, 0, 0),
+            LocalDateTime.of(2031, 1, 1, 0, 0), ZONE));
+  }
+
+  @Test
+  void findFreeSlots() {
+    seed(5);
+
+    assertStatementCount(0, () -> eventService.findFreeSlots(LocalDateTime.of(2030, 1, 1, 0, 0),
+            LocalDateTime.of(2031, 1, 1, 0, 0), Duration.ofMinutes(45), WorkingHours.parse("09:00-17:00", "MON-FRI"),
+            10, ZONE));
+  }
+
+  @Test
+  void exportEvents_StatementsDoNotGrowWithEvents() {
+    seed(20);
+    List<EventDTO> exported = new ArrayList<>();
+
+    assertStatementCount(2, () -> eventService.exportEvents(ZONE, exported::add));
+
+    assertTrue(exported.size() >= 20);
+  }
+
+  @Test
+  void exportCalendar() {
+    seed(5);
+
+    assertStatementCount(2, () -> eventService.exportCalendar(null, null, ZONE, new StringWriter()));
+  }
+
+  // The version is always read from the table; only the row itself comes from the cache.
+  @Test
+  void getEventById_SecondReadOnlyChecksTheVersion() {
+    EventDTO event = seed(1).get(0);
+
+    assertStatementCount(2, () -> eventService.getEventById(event.getId(), ZONE));
+    assertStatementCount(1, () -> eventService.getEventById(event.getId(), ZONE));
+    assertStatementCount(1, () -> eventService.getEventVersion(event.getId()));
+  }
+
+  // Two of the statements are the change sequence; the event row itself is written without reading it first.
+  @Test
+  void updateEvent() {
+    EventDTO event = seed(1).get(0);
+    event.setTitle("Renamed");
+
+    assertStatementCount(3, () -> eventService.updateEvent(event.getId(), event, null, ZONE));
+  }
+
+  @Test
+  void updateEvent_WithVersion_BumpsVersion() {
+    EventDTO event = seed(1).get(0);
+    long version = eventService.getEventVersion(event.getId())
+            .getVersion();
+    event.setTitle("Renamed");
+
+    assertStatementCount(3, () -> eventService.updateEvent(event.getId(), event, version, ZONE));
+
+    assertEquals(version + 1, eventService.getEventVersion(event.getId())
+            .getVersion());
+    assertEquals("Renamed", eventService.getEventById(event.getId(), ZONE)
+            .getTitle());
+    assertThrows(EventVersionMismatchException.class, () -> eventService.updateEvent(event.getId(), event, version,
+            ZONE));
+  }
+
+  @Test
+  void deleteEvent() {
+    EventDTO event = seed(1).get(0);
+
+    assertStatementCount(4, () -> eventService.deleteEvent(event.getId(), null));
+  }
+
+  @Test
+  void deleteEvent_WithStaleVersion_KeepsEvent() {
+    EventDTO event = seed(1).get(0);
+    long version = eventService.getEventVersion(event.getId())
+            .getVersion();
+    eventService.updateEvent(event.getId(), event, version, ZONE);
+
+    assertThrows(EventVersionMismatchException.class, () -> eventService.deleteEvent(event.getId(), version));
+    assertThrows(EventNotFoundException.class, () -> eventService.deleteEvent(-1L, version));
+    assertNotNull(eventService.getEventById(event.getId(), ZONE));
+  }
+
+  private List<EventDTO> seed(int count) {
+    return events(count).stream()
+            .map(event -> eventService.createEvent(event, ZONE))
+            .toList();
+  }
+
+  private static List<EventDTO> events(int count) {
+    return IntStream.range(0, count)
+            .mapToObj(i -> event())
+            .toList();
+  }
+
+  // Each event gets its own day, so no test sees conflicts another test created.
+  private static EventDTO event() {
+    LocalDateTime start = LocalDateTime.of(2030, 1, 1, 10, 0)
+            .plusDays(NEXT_DAY.incrementAndGet());
+    EventDTO event = new EventDTO();
+    event.setTitle("Planning");
+    event.setStartDateTime(start);
+    event.setEndDateTime(start.plusHours(1));
+    event.setLocation("Room 1");
+    return event;
+  }
+}
@@ -0,0 +1,102 @@
+package com.event_calendar.service.index;
+
+import com.event_calendar.dto.EventDTO;
+import com.event_calendar.service.EventService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Writes rows with plain JDBC, the way another instance's commits reach this one: the change sequence advances but no
+ * local event is published, so only the catch-up can bring the index up to date.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "events.index.catch-up-interval=PT1H")
+@ActiveProfiles("h2")
+class EventIntervalIndexCatchUpTest {
+
+  private static final ZoneId ZONE = ZoneId.of("UTC");
+  private static final Instant START = Instant.parse("2048-03-02T10:00:00Z");
+
+  @Autowired
+  private EventIntervalIndex eventIntervalIndex;
+
+  @Autowired
+  private EventService eventService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void catchUp_AppliesInsertsUpdatesAndDeletesMadeElsewhere() {
+    EventDTO moved = eventService.createEvent(event(LocalDateTime.of(2048, 3, 1, 10, 0)), ZONE);
+    EventDTO deleted = eventService.createEvent(event(LocalDateTime.of(2048, 3, 3, 10, 0)), ZONE);
+
+    long inserted = insertElsewhere(START, START.plusSeconds(1_800));
+    jdbcTemplate.update("update event set start_date_time = ?, end_date_time = ?, change_seq = ? where id = ?",
+            Timestamp.from(START.plusSeconds(600)), Timestamp.from(START.plusSeconds(1_200)), nextChangeSeq(),
+            moved.getId());
+    jdbcTemplate.update("delete from event where id = ?", deleted.getId());
+    jdbcTemplate.update("insert into event_tombstone (event_id, change_seq) values (?, ?)", deleted.getId(),
+            nextChangeSeq());
+
+    assertEquals(List.of(), eventIntervalIndex.findContaining(START.plusSeconds(900)));
+
+    eventIntervalIndex.catchUp();
+
+    assertEquals(Set.of(inserted, moved.getId()), Set.copyOf(eventIntervalIndex.findContaining(START.plusSeconds(900))));
+    assertEquals(List.of(), eventIntervalIndex.findContaining(Instant.parse("2048-03-01T10:15:00Z")));
+    assertEquals(List.of(), eventIntervalIndex.findContaining(Instant.parse("2048-03-03T10:15:00Z")));
+    assertEquals(Boolean.TRUE, eventIntervalIndex.checkConsistency()
+            .get("consistent"));
+  }
+
+  @Test
+  void catchUp_ReadsMoreThanOneBatch() {
+    Instant first = START.plusSeconds(30 * 24 * 3_600);
+    int count = EventIntervalIndex.CATCH_UP_BATCH_SIZE + 10;
+    for (int i = 0; i < count; i++) {
+      Instant start = first.plusSeconds(i * 3_600L);
+      insertElsewhere(start, start.plusSeconds(60));
+    }
+
+    eventIntervalIndex.catchUp();
+
+    assertEquals(count, eventIntervalIndex.findOverlapping(first, first.plusSeconds(count * 3_600L))
+            .size());
+  }
+
+  private long insertElsewhere(Instant start, Instant end) {
+    Long id = jdbcTemplate.queryForObject("select next_event_id from event_change_sequence where name = 'event'",
+            Long.class);
+    jdbcTemplate.update("update event_change_sequence set next_event_id = ? where name = 'event'", id + 1);
+    jdbcTemplate.update("insert into event (id, title, start_date_time, end_date_time, change_seq) values (?, ?, ?, ?, ?)",
+            id, "Written elsewhere", Timestamp.from(start), Timestamp.from(end), nextChangeSeq());
+    return id;
+  }
+
+  private long nextChangeSeq() {
+    Long seq = jdbcTemplate.queryForObject("select next_value from event_change_sequence where name = 'event'",
+            Long.class);
+    jdbcTemplate.update("update event_change_sequence set next_value = ? where name = 'event'", seq + 1);
+    return seq;
+  }
+
+  private static EventDTO event(LocalDateTime start) {
+    EventDTO event = new EventDTO();
+    event.setTitle("Indexed " + start);
+    event.setStartDateTime(start);
+    event.setEndDateTime(start.plusMinutes(30));
+    return event;
+  }
+}
@@ -0,0 +1,92 @@
+package com.event_calendar.service.index;
+
+import com.event_calendar.repository.ChangeSequenceRepository;
+import com.event_calendar.repository.EventArchiveRepository;
+import com.event_calendar.repository.EventRepository;
+import com.event_calendar.repository.EventTombstoneRepository;
+import com.event_calendar.service.EventChange;
+import com.event_calendar.service.recurrence.RecurrenceSeries;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class EventIntervalIndexTest {
+
+  private static final Instant MONDAY = Instant.parse("2025-01-06T09:00:00Z");
+  private static final long HOUR = 3_600_000;
+
+  private final EventIntervalIndex index = new EventIntervalIndex(mock(EventRepository.class),
+          mock(EventArchiveRepository.class), mock(EventTombstoneRepository.class), mock(ChangeSequenceRepository.class),
+          mock(PlatformTransactionManager.class));
+
+  @Test
+  void forEachOverlapping_MergesSeriesOccurrencesInStartOrder() {
+    put(1L, MONDAY, MONDAY.plusSeconds(1_800), "FREQ=DAILY;COUNT=10");
+    put(2L, MONDAY.plusSeconds(900), MONDAY.plusSeconds(2_700), "FREQ=WEEKLY;COUNT=3");
+    for (long day = 0; day < 10; day++) {
+      put(100 + day, MONDAY.plusSeconds(day * 24 * 3_600 + 3_600), MONDAY.plusSeconds(day * 24 * 3_600 + 7_200), null);
+    }
+
+    List<long[]> visited = new ArrayList<>();
+    index.forEachOverlapping(MONDAY, MONDAY.plusSeconds(14 * 24 * 3_600), (id, start, end) -> visited.add(
+            new long[]{id, start, end}));
+
+    assertEquals(10 + 2 + 10, visited.size());
+    for (int i = 1; i < visited.size(); i++) {
+      assertTrue(visited.get(i - 1)[1] <= visited.get(i)[1], "visited out of start order at " + i);
+    }
+    assertArrayEquals(new long[]{1L, MONDAY.toEpochMilli(), MONDAY.toEpochMilli() + HOUR / 2}, visited.get(0));
+    assertEquals(2L, visited.get(1)[0]);
+    assertEquals(100L, visited.get(2)[0]);
+  }
+
+  @Test
+  void forEachOverlapping_WithSeriesEndingBeforeWindow_SkipsIt() {
+    put(1L, MONDAY, MONDAY.plusSeconds(1_800), "FREQ=DAILY;COUNT=2");
+    put(2L, MONDAY.plusSeconds(30 * 24 * 3_600), MONDAY.plusSeconds(30 * 24 * 3_600 + 60), null);
+
+    List<Long> ids = new ArrayList<>();
+    index.forEachOverlapping(MONDAY.plusSeconds(7 * 24 * 3_600), MONDAY.plusSeconds(60 * 24 * 3_600),
+            (id, start, end) -> ids.add(id));
+
+    assertEquals(List.of(2L), ids);
+  }
+
+  @Test
+  void onEventChange_DeletedSeriesIsNoLongerExpanded() {
+    put(1L, MONDAY, MONDAY.plusSeconds(1_800), "FREQ=WEEKLY");
+    put(2L, MONDAY, MONDAY.plusSeconds(1_800), "FREQ=DAILY;COUNT=3");
+    index.onEventChange(EventChange.deleted(1L));
+
+    List<Long> ids = new ArrayList<>();
+    index.forEachOverlapping(MONDAY, MONDAY.plusSeconds(28 * 24 * 3_600), (id, start, end) -> ids.add(id));
+
+    assertEquals(List.of(2L, 2L, 2L), ids);
+    assertEquals(List.of(2L), index.findContaining(MONDAY.plusSeconds(24 * 3_600 + 60)));
+  }
+
+  @Test
+  void visitOverlapping_StopsWhenVisitorDeclines() {
+    put(1L, MONDAY, MONDAY.plusSeconds(1_800), "FREQ=DAILY");
+    put(2L, MONDAY.plusSeconds(3_600), MONDAY.plusSeconds(7_200), null);
+
+    List<Long> ids = new ArrayList<>();
+    index.visitOverlapping(MONDAY, MONDAY.plusSeconds(365L * 24 * 3_600), (id, start, end) -> {
+      ids.add(id);
+      return ids.size() < 3;
+    });
+
+    assertEquals(List.of(1L, 2L, 1L), ids);
+  }
+
+  private void put(Long id, Instant start, Instant end, String rule) {
+    RecurrenceSeries series = rule == null ? null : RecurrenceSeries.of(start, end, rule, "UTC", null, null);
+    index.onEventChange(new EventChange(id, start, end, series, false));
+  }
+}
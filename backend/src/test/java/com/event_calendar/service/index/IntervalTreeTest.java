@@ -0,0 +1,110 @@
+package com.event_calendar.service.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntervalTreeTest {
+
+  private IntervalTree tree;
+
+  @BeforeEach
+  void setUp() {
+    tree = new IntervalTree();
+  }
+
+  @Test
+  void forEachOverlapping_TreatsIntervalsAsHalfOpen() {
+    tree.insert(1L, 10, 20);
+    tree.insert(2L, 20, 30);
+
+    assertEquals(List.of(1L), overlapping(0, 20));
+    assertEquals(List.of(2L), overlapping(20, 21));
+    assertEquals(List.of(1L, 2L), overlapping(19, 21));
+    assertTrue(overlapping(30, 40).isEmpty());
+  }
+
+  @Test
+  void visitOverlapping_StopsWhenVisitorDeclines() {
+    for (long id = 1; id <= 100; id++) {
+      tree.insert(id, id * 10, id * 10 + 5);
+    }
+
+    List<Long> ids = new ArrayList<>();
+    boolean completed = tree.visitOverlapping(0, 2_000, (id, start, end) -> {
+      ids.add(id);
+      return ids.size() < 3;
+    });
+
+    assertFalse(completed);
+    assertEquals(List.of(1L, 2L, 3L), ids);
+    assertTrue(tree.visitOverlapping(0, 2_000, (id, start, end) -> true));
+  }
+
+  @Test
+  void forEachContaining_ReturnsIntervalsCoveringPoint() {
+    tree.insert(1L, 0, 100);
+    tree.insert(2L, 50, 60);
+    tree.insert(3L, 60, 70);
+
+    List<Long> ids = new ArrayList<>();
+    tree.forEachContaining(60, (id, start, end) -> ids.add(id));
+
+    assertEquals(List.of(1L, 3L), ids);
+  }
+
+  @Test
+  void remove_WithSameStart_RemovesOnlyMatchingId() {
+    tree.insert(1L, 10, 20);
+    tree.insert(2L, 10, 40);
+
+    assertTrue(tree.remove(2L, 10));
+    assertFalse(tree.remove(2L, 10));
+    assertEquals(1, tree.size());
+    assertEquals(List.of(1L), overlapping(0, 100));
+  }
+
+  @Test
+  void randomizedOperations_MatchBruteForce() {
+    Random random = new Random(42);
+    List<long[]> expected = new ArrayList<>();
+    long nextId = 1;
+
+    for (int step = 0; step < 5000; step++) {
+      if (expected.isEmpty() || random.nextInt(3) > 0) {
+        long start = random.nextInt(10_000);
+        long end = start + 1 + random.nextInt(random.nextBoolean() ? 50 : 2_000);
+        expected.add(new long[]{nextId, start, end});
+        tree.insert(nextId++, start, end);
+      } else {
+        long[] removed = expected.remove(random.nextInt(expected.size()));
+        assertTrue(tree.remove(removed[0], removed[1]));
+      }
+
+      if (step % 50 == 0) {
+        long from = random.nextInt(11_000);
+        long to = from + 1 + random.nextInt(500);
+        List<Long> bruteForce = expected.stream()
+                .filter(interval -> interval[1] < to && interval[2] > from)
+                .sorted(Comparator.<long[]>comparingLong(interval -> interval[1])
+                        .thenComparingLong(interval -> interval[0]))
+                .map(interval -> interval[0])
+                .toList();
+        assertEquals(bruteForce, overlapping(from, to));
+        assertEquals(expected.size(), tree.size());
+      }
+    }
+  }
+
+  private List<Long> overlapping(long from, long to) {
+    List<Long> ids = new ArrayList<>();
+    tree.forEachOverlapping(from, to, (id, start, end) -> ids.add(id));
+    return ids;
+  }
+}
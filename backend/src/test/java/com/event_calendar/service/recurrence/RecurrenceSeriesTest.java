@@ -0,0 +1,135 @@
+package com.event_calendar.service.recurrence;
+
+import com.event_calendar.exception.InvalidRecurrenceRuleException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurrenceSeriesTest {
+
+  private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+
+  @Test
+  void occurrences_KeepWallClockTimeAcrossDstChange() {
+    RecurrenceSeries series = series(LocalDateTime.of(2025, 3, 28, 9, 0), "FREQ=DAILY", BERLIN, null);
+
+    List<LocalDateTime> starts = localStarts(series, LocalDateTime.of(2025, 3, 28, 0, 0),
+            LocalDateTime.of(2025, 4, 1, 0, 0), BERLIN);
+
+    assertEquals(List.of(LocalDateTime.of(2025, 3, 28, 9, 0), LocalDateTime.of(2025, 3, 29, 9, 0),
+            LocalDateTime.of(2025, 3, 30, 9, 0), LocalDateTime.of(2025, 3, 31, 9, 0)), starts);
+  }
+
+  @Test
+  void occurrences_InDstGap_ShiftForwardByGapLength() {
+    RecurrenceSeries series = series(LocalDateTime.of(2025, 3, 29, 2, 30), "FREQ=DAILY;COUNT=2", BERLIN, null);
+
+    List<LocalDateTime> starts = localStarts(series, LocalDateTime.of(2025, 3, 29, 0, 0),
+            LocalDateTime.of(2025, 4, 1, 0, 0), BERLIN);
+
+    assertEquals(List.of(LocalDateTime.of(2025, 3, 29, 2, 30), LocalDateTime.of(2025, 3, 30, 3, 30)), starts);
+  }
+
+  @Test
+  void occurrences_SkipMonthsWithoutTheStartDay() {
+    RecurrenceSeries series = series(LocalDateTime.of(2025, 1, 31, 9, 0), "FREQ=MONTHLY;COUNT=3", ZoneId.of("UTC"), null);
+
+    List<LocalDateTime> starts = localStarts(series, LocalDateTime.of(2025, 1, 1, 0, 0),
+            LocalDateTime.of(2026, 1, 1, 0, 0), ZoneId.of("UTC"));
+
+    assertEquals(List.of(LocalDateTime.of(2025, 1, 31, 9, 0), LocalDateTime.of(2025, 3, 31, 9, 0),
+            LocalDateTime.of(2025, 5, 31, 9, 0)), starts);
+    assertEquals(Instant.parse("2025-05-31T10:00:00Z"), series.getEnd());
+  }
+
+  @Test
+  void occurrences_HonourIntervalUntilAndExceptions() {
+    Instant excluded = Instant.parse("2025-01-15T09:00:00Z");
+    RecurrenceSeries series = series(LocalDateTime.of(2025, 1, 1, 9, 0), "FREQ=WEEKLY;INTERVAL=2;UNTIL=20250212",
+            ZoneId.of("UTC"), RecurrenceSeries.formatExceptions(List.of(excluded)));
+
+    List<LocalDateTime> starts = localStarts(series, LocalDateTime.of(2024, 1, 1, 0, 0),
+            LocalDateTime.of(2026, 1, 1, 0, 0), ZoneId.of("UTC"));
+
+    assertEquals(List.of(LocalDateTime.of(2025, 1, 1, 9, 0), LocalDateTime.of(2025, 1, 29, 9, 0),
+            LocalDateTime.of(2025, 2, 12, 9, 0)), starts);
+  }
+
+  @Test
+  void occurrences_FarIntoUnboundedSeries_StartAtTheWindow() {
+    RecurrenceSeries series = series(LocalDateTime.of(2015, 1, 1, 9, 0), "FREQ=DAILY", ZoneId.of("UTC"), null);
+
+    List<LocalDateTime> starts = localStarts(series, LocalDateTime.of(2025, 6, 1, 0, 0),
+            LocalDateTime.of(2025, 6, 3, 0, 0), ZoneId.of("UTC"));
+
+    assertEquals(List.of(LocalDateTime.of(2025, 6, 1, 9, 0), LocalDateTime.of(2025, 6, 2, 9, 0)), starts);
+    assertNull(series.getEnd());
+  }
+
+  @Test
+  void occurrences_IncludeOccurrenceStartedBeforeWindow() {
+    RecurrenceSeries series = series(LocalDateTime.of(2025, 1, 1, 22, 0), "FREQ=DAILY", ZoneId.of("UTC"), null);
+
+    assertTrue(series.overlaps(Instant.parse("2025-01-05T22:30:00Z")
+            .toEpochMilli(), Instant.parse("2025-01-05T22:31:00Z")
+            .toEpochMilli()));
+    assertFalse(series.overlaps(Instant.parse("2025-01-05T23:30:00Z")
+            .toEpochMilli(), Instant.parse("2025-01-05T23:31:00Z")
+            .toEpochMilli()));
+  }
+
+  @Test
+  void parse_NormalizesAndRejectsUnsupportedParts() {
+    assertEquals("FREQ=WEEKLY;INTERVAL=2;COUNT=4", RecurrenceRule.parse("RRULE:freq=weekly;interval=2;count=4")
+            .toString());
+    assertThrows(InvalidRecurrenceRuleException.class, () -> RecurrenceRule.parse("FREQ=YEARLY"));
+    assertThrows(InvalidRecurrenceRuleException.class, () -> RecurrenceRule.parse("FREQ=DAILY;BYDAY=MO"));
+    assertThrows(InvalidRecurrenceRuleException.class, () -> RecurrenceRule.parse("FREQ=DAILY;COUNT=2;UNTIL=20250101"));
+    assertThrows(InvalidRecurrenceRuleException.class, () -> RecurrenceRule.parse("FREQ=DAILY;INTERVAL=0"));
+  }
+
+  @Test
+  void parse_RejectsCountAndIntervalAboveTheCap() {
+    assertThrows(InvalidRecurrenceRuleException.class, () -> RecurrenceRule.parse("FREQ=DAILY;COUNT=2147483647"));
+    assertThrows(InvalidRecurrenceRuleException.class, () -> RecurrenceRule.parse("FREQ=DAILY;COUNT="
+            + (RecurrenceRule.MAX_COUNT + 1)));
+    assertThrows(InvalidRecurrenceRuleException.class, () -> RecurrenceRule.parse("FREQ=MONTHLY;INTERVAL="
+            + (RecurrenceRule.MAX_INTERVAL + 1)));
+  }
+
+  @Test
+  void getEnd_AtTheCapsStaysInRange() {
+    String caps = ";INTERVAL=" + RecurrenceRule.MAX_INTERVAL + ";COUNT=" + RecurrenceRule.MAX_COUNT;
+    RecurrenceSeries weekly = series(LocalDateTime.of(2025, 1, 1, 9, 0), "FREQ=WEEKLY" + caps, BERLIN, null);
+    RecurrenceSeries monthly = series(LocalDateTime.of(2024, 2, 29, 9, 0), "FREQ=MONTHLY" + caps, BERLIN, null);
+
+    assertEquals(LocalDateTime.of(2025, 1, 1, 9, 0)
+            .plusWeeks((long) RecurrenceRule.MAX_INTERVAL * (RecurrenceRule.MAX_COUNT - 1))
+            .plusHours(1), LocalDateTime.ofInstant(weekly.getEnd(), BERLIN));
+    assertNotNull(monthly.getEnd());
+  }
+
+  private static RecurrenceSeries series(LocalDateTime start, String rule, ZoneId zone, String exceptions) {
+    Instant startInstant = start.atZone(zone)
+            .toInstant();
+    return RecurrenceSeries.of(startInstant, startInstant.plusSeconds(3600), rule, zone.getId(), exceptions, null);
+  }
+
+  private static List<LocalDateTime> localStarts(RecurrenceSeries series, LocalDateTime from, LocalDateTime to,
+          ZoneId zone) {
+    OccurrenceCursor occurrences = series.occurrences(from.atZone(zone)
+            .toInstant(), to.atZone(zone)
+            .toInstant());
+    List<LocalDateTime> starts = new ArrayList<>();
+    while (occurrences.next()) {
+      starts.add(LocalDateTime.ofInstant(occurrences.getStartInstant(), zone));
+    }
+    return starts;
+  }
+}
@@ -0,0 +1,77 @@
+package com.event_calendar.service.sync;
+
+import com.event_calendar.dto.EventDTO;
+import com.event_calendar.service.EventService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs more concurrent writers than the pool has connections. Each writer holds a connection while it queues on the
+ * change sequence lock, so a writer that needed a second connection for its id would wait out the connection timeout.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.hikari.maximum-pool-size=" + EventIdGeneratorTest.POOL_SIZE,
+        "spring.datasource.hikari.minimum-idle=1",
+        "spring.datasource.hikari.connection-timeout=2000"})
+@ActiveProfiles("h2")
+class EventIdGeneratorTest {
+
+  static final int POOL_SIZE = 3;
+  private static final int WRITERS = 4 * POOL_SIZE;
+  private static final ZoneId ZONE = ZoneId.of("UTC");
+
+  @Autowired
+  private EventService eventService;
+
+  @Test
+  void createEvent_MoreWritersThanConnections() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+    try {
+      CountDownLatch ready = new CountDownLatch(WRITERS);
+      List<Future<EventDTO>> writes = new ArrayList<>();
+      for (int i = 0; i < WRITERS * 10; i++) {
+        LocalDateTime start = LocalDateTime.of(2046, 1, 1, 0, 0)
+                .plusHours(i);
+        writes.add(executor.submit(() -> {
+          ready.countDown();
+          ready.await();
+          return eventService.createEvent(event(start), ZONE);
+        }));
+      }
+
+      Set<Long> ids = new HashSet<>();
+      for (Future<EventDTO> write : writes) {
+        ids.add(write.get(30, TimeUnit.SECONDS)
+                .getId());
+      }
+
+      assertEquals(writes.size(), ids.size());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static EventDTO event(LocalDateTime start) {
+    EventDTO event = new EventDTO();
+    event.setTitle("Writer " + start);
+    event.setStartDateTime(start);
+    event.setEndDateTime(start.plusMinutes(30));
+    return event;
+  }
+}
@@ -0,0 +1,83 @@
+package com.event_calendar.util;
+
+import com.event_calendar.exception.InvalidTimezoneException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateUtilsTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {"UTC", "+05:30", "Europe/Berlin", "America/New_York", "Australia/Lord_Howe",
+          "America/Sao_Paulo", "Asia/Kathmandu", "Pacific/Apia"})
+  void toLocalDateTime_MatchesJavaTime(String zone) {
+    ZoneId zoneId = ZoneId.of(zone);
+    // Every 37 minutes over 30 years hits every transition and both sides of it.
+    for (long second = Instant.parse("2000-01-01T00:00:00Z")
+            .getEpochSecond(); second < Instant.parse("2030-01-01T00:00:00Z")
+            .getEpochSecond(); second += 37 * 60) {
+      Instant instant = Instant.ofEpochSecond(second, 123_000_000);
+      assertEquals(LocalDateTime.ofInstant(instant, zoneId), DateUtils.toLocalDateTime(instant, zoneId),
+              instant::toString);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"UTC", "+05:30", "Europe/Berlin", "America/New_York", "Australia/Lord_Howe",
+          "America/Sao_Paulo", "Asia/Kathmandu", "Pacific/Apia"})
+  void toInstant_MatchesJavaTimeInGapsAndOverlaps(String zone) {
+    ZoneId zoneId = ZoneId.of(zone);
+    for (LocalDateTime local = LocalDateTime.of(2000, 1, 1, 0, 0); local.getYear() < 2030;
+            local = local.plusMinutes(37)) {
+      LocalDateTime value = local.withNano(123_000_000);
+      assertEquals(value.atZone(zoneId)
+              .toInstant(), DateUtils.toInstant(value, zoneId), value::toString);
+    }
+  }
+
+  @Test
+  void toInstant_AtTransitionEdges() {
+    ZoneId berlin = ZoneId.of("Europe/Berlin");
+    // Gap: 02:00-03:00 does not exist on March 30, 2025 and is moved forward.
+    assertEquals(Instant.parse("2025-03-30T00:59:59Z"), DateUtils.toInstant(LocalDateTime.of(2025, 3, 30, 1, 59, 59),
+            berlin));
+    assertEquals(Instant.parse("2025-03-30T01:30:00Z"), DateUtils.toInstant(LocalDateTime.of(2025, 3, 30, 2, 30), berlin));
+    assertEquals(Instant.parse("2025-03-30T01:00:00Z"), DateUtils.toInstant(LocalDateTime.of(2025, 3, 30, 3, 0), berlin));
+    // Overlap: 02:00-03:00 happens twice on October 26, 2025; the earlier offset wins.
+    assertEquals(Instant.parse("2025-10-26T00:30:00Z"), DateUtils.toInstant(LocalDateTime.of(2025, 10, 26, 2, 30),
+            berlin));
+    assertEquals(Instant.parse("2025-10-26T02:00:00Z"), DateUtils.toInstant(LocalDateTime.of(2025, 10, 26, 3, 0), berlin));
+  }
+
+  @Test
+  void conversions_OutsideTable_FallBackToJavaTime() {
+    ZoneId berlin = ZoneId.of("Europe/Berlin");
+    Instant early = Instant.parse("1945-06-01T12:00:00Z");
+    Instant late = Instant.parse("2150-06-01T12:00:00Z");
+
+    assertEquals(LocalDateTime.ofInstant(early, berlin), DateUtils.toLocalDateTime(early, berlin));
+    assertEquals(LocalDateTime.ofInstant(late, berlin), DateUtils.toLocalDateTime(late, berlin));
+    assertEquals(early, DateUtils.toInstant(LocalDateTime.ofInstant(early, berlin), berlin));
+    assertEquals(late, DateUtils.toInstant(LocalDateTime.ofInstant(late, berlin), berlin));
+  }
+
+  @Test
+  void parseZone_ValidZone_ReturnsCachedInstance() {
+    ZoneId zone = DateUtils.parseZone("Europe/Berlin");
+
+    assertEquals(ZoneId.of("Europe/Berlin"), zone);
+    assertSame(zone, DateUtils.parseZone("Europe/Berlin"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "Mars/Olympus_Mons", "+25:00", "Europe/../etc"})
+  void parseZone_InvalidZone_Throws(String zone) {
+    assertThrows(InvalidTimezoneException.class, () -> DateUtils.parseZone(zone));
+  }
+}
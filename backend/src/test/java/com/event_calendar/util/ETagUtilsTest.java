@@ -0,0 +1,48 @@
+package com.event_calendar.util;
+
+import com.event_calendar.exception.EventVersionMismatchException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ETagUtilsTest {
+
+  private static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+
+  @Test
+  void parseEventVersion_ReadsBackEventTag() {
+    assertEquals(0L, ETagUtils.parseEventVersion(12L, ETagUtils.forEvent(12L, 0, ZONE)));
+    assertEquals(41L, ETagUtils.parseEventVersion(12L, " " + ETagUtils.forEvent(12L, 41, ZONE) + " "));
+  }
+
+  @Test
+  void forEvent_GivesEveryZoneItsOwnTag() {
+    Set<String> tags = new HashSet<>();
+    for (String id : ZoneId.getAvailableZoneIds()) {
+      String tag = ETagUtils.forEvent(12L, 3, ZoneId.of(id));
+      assertTrue(tags.add(tag), tag);
+      assertTrue(tag.matches("\"[\\x21\\x23-\\x7e]+\""), tag);
+      assertEquals(3L, ETagUtils.parseEventVersion(12L, tag));
+    }
+  }
+
+  @Test
+  void parseEventVersion_WithoutPrecondition_ReturnsNull() {
+    assertNull(ETagUtils.parseEventVersion(12L, null));
+    assertNull(ETagUtils.parseEventVersion(12L, ""));
+    assertNull(ETagUtils.parseEventVersion(12L, "*"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"\"e1-v3-abc\"", "W/\"e12-v3-abc\"", "\"e12-v-abc\"", "\"e12-vx-abc\"", "\"e12-v3\"",
+          "\"c3-123-abc\"", "e12-v3-abc"})
+  void parseEventVersion_WithTagThatCannotMatch_FailsPrecondition(String ifMatch) {
+    assertThrows(EventVersionMismatchException.class, () -> ETagUtils.parseEventVersion(12L, ifMatch));
+  }
+}
@@ -1,11 +1,21 @@
+import type {AxiosResponse} from 'axios';
 import apiClient from './client';
-import type {Event, EventRequest} from '../types/event';
+import type {Event, EventImportResult, EventRequest, EventSync} from '../types/event';
 
 const ENDPOINTS = {
   EVENTS: '/events',
+  SYNC: '/events/sync',
+  IMPORT: '/events/import',
   EVENT_BY_ID: (id: number) => `/events/${id}`,
 } as const;
 
+const withETag = (response: AxiosResponse<Event>): Event => ({
+  ...response.data,
+  etag: response.headers.etag as string | undefined,
+});
+
+const ifMatch = (etag?: string) => (etag ? {headers: {'If-Match': etag}} : undefined);
+
 export const createEvent = async (event: EventRequest): Promise<Event> => {
   try {
     const response = await apiClient.post<Event>(ENDPOINTS.EVENTS, event);
@@ -26,29 +36,61 @@ export const getAllEvents = async (): Promise<Event[]> => {
   }
 };
 
+export const getEventsInRange = async (from: string, to: string): Promise<Event[]> => {
+  try {
+    const response = await apiClient.get<Event[]>(ENDPOINTS.EVENTS, {params: {from, to}});
+    return response.data;
+  } catch (error) {
+    console.error(`Error fetching events between ${from} and ${to}:`, error);
+    throw error;
+  }
+};
+
+export const syncEvents = async (token?: string): Promise<EventSync> => {
+  try {
+    const response = await apiClient.get<EventSync>(ENDPOINTS.SYNC, {params: {token}});
+    return response.data;
+  } catch (error) {
+    console.error('Error syncing events:', error);
+    throw error;
+  }
+};
+
+export const importEvents = async (ics: Blob | string): Promise<EventImportResult> => {
+  try {
+    const response = await apiClient.post<EventImportResult>(ENDPOINTS.IMPORT, ics, {
+      headers: {'Content-Type': 'text/calendar'},
+    });
+    return response.data;
+  } catch (error) {
+    console.error('Error importing events:', error);
+    throw error;
+  }
+};
+
 export const getEventById = async (id: number): Promise<Event> => {
   try {
     const response = await apiClient.get<Event>(ENDPOINTS.EVENT_BY_ID(id));
-    return response.data;
+    return withETag(response);
   } catch (error) {
     console.error(`Error fetching event ${id}:`, error);
     throw error;
   }
 };
 
-export const updateEvent = async (id: number, event: EventRequest): Promise<Event> => {
+export const updateEvent = async (id: number, event: EventRequest, etag?: string): Promise<Event> => {
   try {
-    const response = await apiClient.put<Event>(ENDPOINTS.EVENT_BY_ID(id), event);
-    return response.data;
+    const response = await apiClient.put<Event>(ENDPOINTS.EVENT_BY_ID(id), event, ifMatch(etag));
+    return withETag(response);
   } catch (error) {
     console.error(`Error updating event ${id}:`, error);
     throw error;
   }
 };
 
-export const deleteEvent = async (id: number): Promise<void> => {
+export const deleteEvent = async (id: number, etag?: string): Promise<void> => {
   try {
-    await apiClient.delete(ENDPOINTS.EVENT_BY_ID(id));
+    await apiClient.delete(ENDPOINTS.EVENT_BY_ID(id), ifMatch(etag));
   } catch (error) {
     console.error(`Error deleting event ${id}:`, error);
     throw error;
@@ -58,6 +100,9 @@ export const deleteEvent = async (id: number): Promise<void> => {
 export const eventsApi = {
   createEvent,
   getAllEvents,
+  getEventsInRange,
+  syncEvents,
+  importEvents,
   getEventById,
   updateEvent,
   deleteEvent,
@@ -1,16 +1,13 @@
 import FullCalendar from '@fullcalendar/react'
 import dayGridPlugin from '@fullcalendar/daygrid'
-import {useEffect, useState} from 'react'
 import {eventsApi} from '../../api'
-import type {EventClickArg, EventContentArg, EventInput} from '@fullcalendar/core/index.js'
+import type {EventClickArg, EventContentArg, EventInput, EventSourceFuncArg} from '@fullcalendar/core/index.js'
 import {useNavigate} from 'react-router-dom'
 import {EventCard} from '../EventCard/EventCard'
 import styles from './Calendar.module.css'
 
 export function Calendar() {
   const navigate = useNavigate()
-  const [fullCalendarEvents, setFullCalendarEvents] = useState<EventInput[]>([])
-  const [loading, setLoading] = useState(true)
 
   const handleEventAdd = () => {
     navigate('/add-event')
@@ -28,10 +25,11 @@ export function Calendar() {
   }
 
 
-  const fetchEvents = async () => {
+  // The visible range is sent as local date-times; the backend reads them in the X-Timezone zone.
+  const fetchEvents = async (info: EventSourceFuncArg): Promise<EventInput[]> => {
     try {
-      const events = await eventsApi.getAllEvents()
-      setFullCalendarEvents(events.map(event => ({
+      const events = await eventsApi.getEventsInRange(info.startStr.slice(0, 19), info.endStr.slice(0, 19))
+      return events.map(event => ({
         id: event.id.toString(),
         title: event.title,
         start: event.startDateTime,
@@ -40,34 +38,20 @@ export function Calendar() {
           location: event.location,
           description: event.description
         }
-      })))
+      }))
     } catch (error) {
       console.error('Error fetching events:', error)
-    } finally {
-      setLoading(false)
+      return []
     }
   }
 
-  useEffect(() => {
-    fetchEvents()
-  }, [])
-
-  if (loading) {
-    return (
-      <div className={styles.loadingContainer}>
-        <div className={styles.loadingSpinner}></div>
-        <p>Loading calendar...</p>
-      </div>
-    )
-  }
-
   return (
     <div className={styles.calendarContainer}>
       <FullCalendar
         plugins={[dayGridPlugin]}
         initialView='dayGridMonth'
         weekends={true}
-        events={fullCalendarEvents}
+        events={fetchEvents}
         eventContent={renderEventContent}
         headerToolbar={{
           left: 'title',
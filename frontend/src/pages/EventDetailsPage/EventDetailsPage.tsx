@@ -6,6 +6,8 @@ import {EventForm} from '../../components/EventForm/EventForm';
 import {ArrowLeft, Edit2, Trash2, Clock, MapPin, Calendar, FileText, X} from 'lucide-react';
 import styles from './EventDetailsPage.module.css';
 
+const CHANGED_ELSEWHERE = 'This event was changed by someone else. Reload it to see the latest version.';
+
 export function EventDetailsPage() {
   const {id} = useParams<{ id: string }>();
   const navigate = useNavigate();
@@ -46,11 +48,11 @@ export function EventDetailsPage() {
     try {
       setLoading(true);
       setError(null);
-      const updatedEvent = await eventsApi.updateEvent(parseInt(id), data);
+      const updatedEvent = await eventsApi.updateEvent(parseInt(id), data, event?.etag);
       setEvent(updatedEvent);
       setEditing(false);
     } catch (err: any) {
-      setError(err.message || 'Failed to update event');
+      setError(err.status === 412 ? CHANGED_ELSEWHERE : err.message || 'Failed to update event');
     } finally {
       setLoading(false);
     }
@@ -62,10 +64,10 @@ export function EventDetailsPage() {
     try {
       setDeleting(true);
       setError(null);
-      await eventsApi.deleteEvent(parseInt(id));
+      await eventsApi.deleteEvent(parseInt(id), event?.etag);
       navigate('/calendar');
     } catch (err: any) {
-      setError(err.message || 'Failed to delete event');
+      setError(err.status === 412 ? CHANGED_ELSEWHERE : err.message || 'Failed to delete event');
     } finally {
       setDeleting(false);
       setDeleteDialogOpen(false);
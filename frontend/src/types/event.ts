@@ -5,6 +5,10 @@ export interface Event {
   startDateTime: string;
   endDateTime: string;
   location?: string;
+  recurrenceRule?: string;
+  recurrenceExceptions?: string[];
+  // ETag of the response the event came from; sent back as If-Match so a write fails if someone changed it since.
+  etag?: string;
 }
 
 export interface EventRequest {
@@ -13,6 +17,28 @@ export interface EventRequest {
   startDateTime: string;
   endDateTime: string;
   location?: string;
+  recurrenceRule?: string;
+  recurrenceExceptions?: string[];
+}
+
+export interface EventSync {
+  changed: Event[];
+  deleted: number[];
+  nextToken: string;
+  hasMore: boolean;
+}
+
+export interface EventImportError {
+  line: number;
+  uid?: string;
+  errors: Record<string, string>;
+}
+
+export interface EventImportResult {
+  imported: number;
+  rejected: number;
+  errors: EventImportError[];
+  errorsTruncated: boolean;
 }
 
 export interface ApiResponse<T> {